@@ -18,8 +18,10 @@ package org.qubership.atp.tdm.configuration;
 
 import javax.annotation.Nonnull;
 
+import org.qubership.atp.tdm.env.configurator.configuration.EnvironmentsCacheInvalidator;
 import org.qubership.atp.tdm.mdc.TdmMdcHelper;
 import org.qubership.atp.tdm.repo.CatalogRepository;
+import org.qubership.atp.tdm.repo.impl.CatalogIndex;
 import org.qubership.atp.tdm.service.ProjectInformationService;
 import org.qubership.atp.tdm.service.TestDataService;
 import org.springframework.beans.factory.annotation.Value;
@@ -42,6 +44,8 @@ public class KafkaEventListenerConfig {
     private final TestDataService testDataService;
     private final ProjectInformationService projectInformationService;
     private final CatalogRepository catalogRepository;
+    private final CatalogIndex catalogIndex;
+    private final EnvironmentsCacheInvalidator environmentsCacheInvalidator;
     private final TdmMdcHelper tdmMdcHelper;
 
     /**
@@ -49,15 +53,21 @@ public class KafkaEventListenerConfig {
      * @param testDataService TDM tables service
      * @param projectInformationService Info about projects (timestamp..)
      * @param catalogRepository General info about tables
+     * @param catalogIndex Table names resolved by title
+     * @param environmentsCacheInvalidator Environment caches affected by events
      * @param helper helper
      */
     public KafkaEventListenerConfig(@Nonnull TestDataService testDataService,
                                     @Nonnull ProjectInformationService projectInformationService,
                                     @Nonnull CatalogRepository catalogRepository,
+                                    @Nonnull CatalogIndex catalogIndex,
+                                    @Nonnull EnvironmentsCacheInvalidator environmentsCacheInvalidator,
                                     TdmMdcHelper helper) {
         this.testDataService = testDataService;
         this.projectInformationService = projectInformationService;
         this.catalogRepository = catalogRepository;
+        this.catalogIndex = catalogIndex;
+        this.environmentsCacheInvalidator = environmentsCacheInvalidator;
         tdmMdcHelper = helper;
     }
 
@@ -69,7 +79,8 @@ public class KafkaEventListenerConfig {
     @Bean
     public ProjectEventListener projectEventNotificationService() {
         if (kafkaEnable) {
-            return new ProjectEventKafkaListener(testDataService, projectInformationService);
+            return new ProjectEventKafkaListener(testDataService, projectInformationService, catalogIndex,
+                    environmentsCacheInvalidator);
         } else {
             return event -> {
             };
@@ -84,7 +95,8 @@ public class KafkaEventListenerConfig {
     @Bean
     public EnvironmentEventListener environmentEventNotificationService() {
         if (kafkaEnable) {
-            return new EnvironmentsEventKafkaListener(testDataService, catalogRepository, tdmMdcHelper);
+            return new EnvironmentsEventKafkaListener(testDataService, catalogRepository, catalogIndex,
+                    environmentsCacheInvalidator, tdmMdcHelper);
         } else {
             return event -> {
             };
@@ -99,7 +111,8 @@ public class KafkaEventListenerConfig {
     @Bean
     public SystemEventListener systemEventNotificationService() {
         if (kafkaEnable) {
-            return new SystemsEventKafkaListener(testDataService, catalogRepository, tdmMdcHelper);
+            return new SystemsEventKafkaListener(testDataService, catalogRepository, catalogIndex,
+                    environmentsCacheInvalidator, tdmMdcHelper);
         } else {
             return event -> {
             };
@@ -16,9 +16,6 @@
 
 package org.qubership.atp.tdm.configuration;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
 import org.qubership.atp.tdm.mdc.TdmMdcHelper;
 import org.qubership.atp.tdm.model.mail.bulkaction.BulkCleanupMailSender;
 import org.qubership.atp.tdm.model.mail.bulkaction.BulkDropMailSender;
@@ -32,16 +29,17 @@ import org.qubership.atp.tdm.service.ColumnService;
 import org.qubership.atp.tdm.service.DataRefreshService;
 import org.qubership.atp.tdm.service.TestDataService;
 import org.qubership.atp.tdm.utils.CurrentTime;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
 
 import org.qubership.atp.common.lock.LockManager;
+import org.qubership.atp.tdm.env.configurator.configuration.EnvironmentsCacheInvalidator;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
 
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionExecutors;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 import org.qubership.atp.tdm.websocket.bulkaction.cleanup.BulkDataCleanupHandler;
 import org.qubership.atp.tdm.websocket.bulkaction.dataload.BulkDataImportHandler;
 import org.qubership.atp.tdm.websocket.bulkaction.dataload.BulkDataRefreshHandler;
@@ -54,12 +52,12 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class WebSocketHandlerConfig implements WebSocketConfigurer {
 
-    private final ExecutorService executorService = Executors.newCachedThreadPool();
     private final CatalogRepository catalogRepository;
     private final ImportInfoRepository importInfoRepository;
     private final DataRefreshService dataRefreshService;
     private final CleanupService cleanupService;
     private final EnvironmentsService environmentsService;
+    private final EnvironmentsCacheInvalidator environmentsCacheInvalidator;
     private final TestDataService testDataService;
     private final ColumnService columnService;
     private final CleanupConfigRepository cleanupConfigRepository;
@@ -70,31 +68,31 @@ public class WebSocketHandlerConfig implements WebSocketConfigurer {
     private final CurrentTime currentTime;
     private final LockManager lockManager;
     private final TdmMdcHelper mdcHelper;
+    private final BulkActionScheduler bulkActionScheduler;
+    private final BulkActionExecutors bulkActionExecutors;
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        registry.addHandler(new BulkDataRefreshHandler(executorService, catalogRepository, importInfoRepository,
-                        dataRefreshService, environmentsService, bulkRefreshMailSender, currentTime,
-                        lockManager, mdcHelper), "websocket/bulk/refresh").setAllowedOrigins("*");
-        registry.addHandler(new BulkDataCleanupHandler(executorService, catalogRepository, environmentsService,
-                        cleanupService, cleanupConfigRepository, bulkCleanupMailSender, currentTime,
-                        lockManager, mdcHelper), "websocket/bulk/cleanup").setAllowedOrigins("*");
-        registry.addHandler(new BulkDataImportHandler(executorService, catalogRepository, environmentsService,
-                        bulkCleanupMailSender, dataRefreshService, importInfoRepository, currentTime,
-                        lockManager, mdcHelper), "websocket/bulk/import").setAllowedOrigins("*");
-        registry.addHandler(new BulkDataDropHandler(executorService, catalogRepository, environmentsService,
-                        testDataService, bulkDropMailSender, currentTime, lockManager, mdcHelper),
-                "websocket/bulk/drop").setAllowedOrigins("*");
-        registry.addHandler(new BulkDataLinksRefreshHandler(executorService, catalogRepository, environmentsService,
-                        columnService, bulkLinksRefreshMailSender, currentTime, lockManager, mdcHelper),
-                "websocket/bulk/links").setAllowedOrigins("*");
-    }
-
-
-
-    @Bean(destroyMethod = "shutdown")
-    @Qualifier("websocket")
-    public ExecutorService executor() {
-        return executorService;
+        registry.addHandler(new BulkDataRefreshHandler(bulkActionExecutors.getExecutor("refresh"), catalogRepository,
+                        importInfoRepository, dataRefreshService, environmentsService, bulkRefreshMailSender,
+                        currentTime, lockManager, mdcHelper, bulkActionScheduler), "websocket/bulk/refresh")
+                .setAllowedOrigins("*");
+        registry.addHandler(new BulkDataCleanupHandler(bulkActionExecutors.getExecutor("cleanup"), catalogRepository,
+                        environmentsService, cleanupService, cleanupConfigRepository, bulkCleanupMailSender,
+                        currentTime, lockManager, mdcHelper, bulkActionScheduler), "websocket/bulk/cleanup")
+                .setAllowedOrigins("*");
+        registry.addHandler(new BulkDataImportHandler(bulkActionExecutors.getExecutor("import"), catalogRepository,
+                        environmentsService, bulkCleanupMailSender, dataRefreshService, importInfoRepository,
+                        currentTime, lockManager, mdcHelper, bulkActionScheduler), "websocket/bulk/import")
+                .setAllowedOrigins("*");
+        registry.addHandler(new BulkDataDropHandler(bulkActionExecutors.getExecutor("drop"), catalogRepository,
+                        environmentsService, testDataService, bulkDropMailSender, currentTime, lockManager,
+                        mdcHelper, bulkActionScheduler), "websocket/bulk/drop")
+                .setAllowedOrigins("*");
+        registry.addHandler(new BulkDataLinksRefreshHandler(bulkActionExecutors.getExecutor("links"),
+                        catalogRepository, environmentsService, columnService, environmentsCacheInvalidator,
+                        bulkLinksRefreshMailSender, currentTime, lockManager, mdcHelper, bulkActionScheduler),
+                        "websocket/bulk/links")
+                .setAllowedOrigins("*");
     }
 }
@@ -82,6 +82,21 @@ public class AtpActionController /* implements AtpActionControllerApi */ {
                 request.getSystemName(), request.getTitleTable(), request.getOccupyFullRowRequests());
     }
 
+    /**
+     * Allow occupy a batch of records matching the same criteria under ATP_USER.
+     *
+     * @param request - RestApiRequest
+     * @return ResponseMessage with occupied rows and requested/occupied counts
+     */
+    @Operation(description = "ATP Action. Occupy batch of test data in table.")
+    @AuditAction(auditAction = "ATP Action. Occupy batch of test data to project {{#request.projectName}} "
+            + "to table {{#request.titleTable}}")
+    @PostMapping(value = "/occupy-records/batch")
+    public ResponseMessage occupyTestDataBatch(@RequestBody RestApiRequest request) {
+        return service.occupyTestDataBatch(request.getProjectName(), request.getEnvName(),
+                request.getSystemName(), request.getTitleTable(), request.getOccupyBatchRequest());
+    }
+
 
     /**
      * Allow release occupied records.
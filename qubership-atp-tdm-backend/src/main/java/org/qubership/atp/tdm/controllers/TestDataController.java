@@ -16,8 +16,6 @@
 
 package org.qubership.atp.tdm.controllers;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +29,7 @@ import org.qubership.atp.tdm.mdc.MdcField;
 import org.qubership.atp.tdm.model.ChangeTitleRequest;
 import org.qubership.atp.tdm.model.ColumnValues;
 import org.qubership.atp.tdm.model.EnvsList;
+import org.qubership.atp.tdm.model.ExportFileType;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
 import org.qubership.atp.tdm.model.TestDataRequest;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
@@ -41,12 +40,12 @@ import org.qubership.atp.tdm.model.rest.ResponseType;
 import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataFlagsTable;
 import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.model.table.TestDataTableIndex;
 import org.qubership.atp.tdm.service.TestDataService;
 import org.qubership.atp.tdm.service.impl.MetricService;
 import org.qubership.atp.tdm.utils.HttpUtils;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -58,6 +57,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.google.gson.Gson;
 import io.swagger.v3.oas.annotations.Operation;
@@ -68,6 +68,9 @@ import lombok.extern.slf4j.Slf4j;
 @RestController()
 public class TestDataController /* implements TestDataControllerApi */ {
 
+    private static final String EXCEL_EXT = ".xlsx";
+    private static final String CSV_EXT = ".csv";
+
     private final TestDataService testDataService;
     private final MetricService metricService;
 
@@ -246,12 +249,11 @@ public class TestDataController /* implements TestDataControllerApi */ {
             + "@catalogRepository.findByTableName(#tableName).getProjectId(), 'READ')")
     @AuditAction(auditAction = "Download table {{#tableName}} as excel file.")
     @GetMapping(path = "/download/excel")
-    public ResponseEntity<InputStreamResource> getTestDataTableAsExcelFile(@RequestParam String tableName)
-            throws IOException {
+    public ResponseEntity<StreamingResponseBody> getTestDataTableAsExcelFile(@RequestParam String tableName) {
         metricService.incrementGetAction(MDC.get(MdcField.PROJECT_ID.toString()));
-        File testDataTableAsExcelFile = testDataService.getTestDataTableAsExcelFile(tableName);
-        return HttpUtils.buildFileResponseEntity(testDataTableAsExcelFile,
-                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        return HttpUtils.buildStreamingResponseEntity(tableName + EXCEL_EXT,
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+                streamTestDataTable(tableName, ExportFileType.EXCEL));
     }
 
     /**
@@ -263,11 +265,18 @@ public class TestDataController /* implements TestDataControllerApi */ {
             + "@catalogRepository.findByTableName(#tableName).getProjectId(), 'READ')")
     @AuditAction(auditAction = "Download table {{#tableName}} as csv file.")
     @GetMapping(path = "/download/csv")
-    public ResponseEntity<InputStreamResource> getTestDataTableAsCsvFile(@RequestParam String tableName)
-            throws IOException {
+    public ResponseEntity<StreamingResponseBody> getTestDataTableAsCsvFile(@RequestParam String tableName) {
         metricService.incrementGetAction(MDC.get(MdcField.PROJECT_ID.toString()));
-        File testDataTableAsCsvFile = testDataService.getTestDataTableAsCsvFile(tableName);
-        return HttpUtils.buildFileResponseEntity(testDataTableAsCsvFile, "text/csv");
+        return HttpUtils.buildStreamingResponseEntity(tableName + CSV_EXT, "text/csv",
+                streamTestDataTable(tableName, ExportFileType.CSV));
+    }
+
+    private StreamingResponseBody streamTestDataTable(String tableName, ExportFileType fileType) {
+        Map<String, String> mdcMap = MDC.getCopyOfContextMap();
+        return outputStream -> {
+            MdcUtils.setContextMap(mdcMap);
+            testDataService.writeTestDataTable(tableName, fileType, outputStream);
+        };
     }
 
     /**
@@ -373,6 +382,38 @@ public class TestDataController /* implements TestDataControllerApi */ {
         return testDataService.getColumnDistinctValues(tableName, columnName, occupied);
     }
 
+    @Operation(description = "Get user declared column indexes of table.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "@catalogRepository.findByTableName(#tableName).getProjectId(), 'READ')")
+    @AuditAction(auditAction = "Get column indexes. TableName {{#tableName}}")
+    @GetMapping(path = "/table/column/indexes")
+    public List<TestDataTableIndex> getColumnIndexes(@RequestParam("tableName") String tableName) {
+        return testDataService.getColumnIndexes(tableName);
+    }
+
+    @Operation(description = "Create index on table column to speed up filtering by it.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "@catalogRepository.findByTableName(#tableName).getProjectId(), 'UPDATE')")
+    @AuditAction(auditAction = "Create column index. TableName {{#tableName}}, columnName {{#columnName}}")
+    @PostMapping(path = "/table/column/index")
+    public TestDataTableIndex createColumnIndex(@RequestParam("tableName") String tableName,
+                                                @RequestParam("columnName") String columnName) {
+        return testDataService.createColumnIndex(tableName, columnName);
+    }
+
+    @Operation(description = "Drop index on table column.")
+    @PreAuthorize("@entityAccess.checkAccess("
+            + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
+            + "@catalogRepository.findByTableName(#tableName).getProjectId(), 'UPDATE')")
+    @AuditAction(auditAction = "Drop column index. TableName {{#tableName}}, columnName {{#columnName}}")
+    @DeleteMapping(path = "/table/column/index")
+    public void dropColumnIndex(@RequestParam("tableName") String tableName,
+                                @RequestParam("columnName") String columnName) {
+        testDataService.dropColumnIndex(tableName, columnName);
+    }
+
     @Operation(description = "Get row value.")
     @PreAuthorize("@entityAccess.checkAccess("
             + "T(org.qubership.atp.tdm.utils.UsersManagementEntities).TEST_DATA.getName(),"
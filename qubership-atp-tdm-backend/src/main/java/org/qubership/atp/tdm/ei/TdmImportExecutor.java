@@ -55,6 +55,7 @@ import org.qubership.atp.tdm.repo.RefreshConfigRepository;
 import org.qubership.atp.tdm.repo.TestDataColumnFlagsRepository;
 import org.qubership.atp.tdm.repo.TestDataMonitoringRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
+import org.qubership.atp.tdm.repo.impl.CatalogIndex;
 import org.qubership.atp.tdm.repo.impl.SystemColumns;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -74,6 +75,7 @@ public class TdmImportExecutor implements ImportExecutor {
     private final TestDataMonitoringRepository testDataMonitoringRepository;
     private final TestDataColumnFlagsRepository testDataColumnFlagsRepository;
     private final ObjectLoaderFromDiskService objectLoaderFromDiskService;
+    private final CatalogIndex catalogIndex;
     private List<ExportImportObject> exportImportObjectList;
 
     @Override
@@ -103,6 +105,8 @@ public class TdmImportExecutor implements ImportExecutor {
             TestDataTableCatalog catalog = createTestDataCatalog(new TestDataTableCatalog(), table, projectId,
                     cleanupConfig, refreshConfig, importInfo);
             catalogRepository.save(catalog);
+            catalogIndex.invalidateTable(catalog.getTableName());
+            catalogIndex.invalidateTitle(projectId, catalog.getTableTitle());
             if (Objects.nonNull(cleanupConfig)) {
                 cleanupConfigRepository.save(cleanupConfig);
             }
@@ -0,0 +1,81 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+package org.qubership.atp.tdm.migration.v2;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.List;
+
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.qubership.atp.tdm.utils.TestDataTableIndexes;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.SetupException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class SystemColumnsIndexesMigrationCustomChange implements CustomTaskChange {
+
+    @SneakyThrows
+    @Override
+    public void execute(Database database) {
+        Connection connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        List<String> tableNames = jdbcTemplate.queryForList(TestDataQueries.GET_EXISTING_CATALOG_TABLES,
+                String.class);
+        log.info("Creating system columns indexes for {} test data tables.", tableNames.size());
+        for (String tableName : tableNames) {
+            // Savepoint keeps the rest of migration alive if a single table fails inside the changeset transaction.
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try {
+                TestDataTableIndexes.createSystemIndexes(jdbcTemplate, tableName);
+            } catch (Exception e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                log.error("Failed to create system columns indexes for table: [{}]", tableName, e);
+            }
+        }
+        log.info("System columns indexes created.");
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return null;
+    }
+
+    @Override
+    public void setUp() throws SetupException {
+
+    }
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {
+
+    }
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        return null;
+    }
+}
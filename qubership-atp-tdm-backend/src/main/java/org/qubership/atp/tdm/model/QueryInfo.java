@@ -16,8 +16,11 @@
 
 package org.qubership.atp.tdm.model;
 
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
 
 import org.qubership.atp.tdm.model.table.OrderType;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
@@ -26,8 +29,10 @@ import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.model.table.conditions.factories.SearchConditionFactory;
 import org.qubership.atp.tdm.model.table.conditions.factories.TestDataTypeConditionFactory;
 import org.qubership.atp.tdm.model.table.conditions.search.SearchCondition;
-import org.qubership.atp.tdm.utils.TestDataUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.healthmarketscience.sqlbuilder.BinaryCondition;
 import com.healthmarketscience.sqlbuilder.ComboCondition;
 import com.healthmarketscience.sqlbuilder.Condition;
@@ -40,19 +45,35 @@ import com.healthmarketscience.sqlbuilder.dbspec.basic.DbColumn;
 import com.healthmarketscience.sqlbuilder.dbspec.basic.DbSchema;
 import com.healthmarketscience.sqlbuilder.dbspec.basic.DbSpec;
 import com.healthmarketscience.sqlbuilder.dbspec.basic.DbTable;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
+/**
+ * Select, count and estimate queries of test data table with named bind parameters.
+ * Filter values, offset and limit are passed as parameters, so queries of the same shape
+ * (table, columns, filter columns and conditions, order) have the same text. Rendered texts
+ * are kept in LRU cache keyed by the shape.
+ */
 @Data
 @EqualsAndHashCode
 @ToString
 public class QueryInfo {
 
     private static final String DB_COLUMN_DEFAULT_TYPE = "varchar";
+    private static final String OFFSET_PARAMETER = "offset";
+    private static final String LIMIT_PARAMETER = "limit";
+    private static final String FILTER_PARAMETER = "filter_%s_%s";
+    private static final int SQL_CACHE_SIZE = 1000;
+    private static final Cache<String, QueryTexts> SQL_CACHE = CacheBuilder.newBuilder()
+            .maximumSize(SQL_CACHE_SIZE)
+            .build();
 
-    private SelectQuery query;
-    private SelectQuery countQuery;
+    private String query;
+    private String countQuery;
+    private String estimateQuery;
+    private MapSqlParameterSource parameters = new MapSqlParameterSource();
 
     /**
      * New Builder.
@@ -61,9 +82,7 @@ public class QueryInfo {
      * @return - builder.
      */
     public static Builder newBuilder(String tableName, TestDataType testDataType) {
-        return new QueryInfo().new Builder()
-                .init(tableName)
-                .setTestDataType(testDataType);
+        return new QueryInfo().new Builder(tableName, null, testDataType);
     }
 
     /**
@@ -74,55 +93,37 @@ public class QueryInfo {
      * @return - builder.
      */
     public static Builder newBuilder(String tableName, List<String> columnNames, TestDataType testDataType) {
-        return new QueryInfo().new Builder()
-                .init(tableName, columnNames)
-                .setTestDataType(testDataType);
+        return new QueryInfo().new Builder(tableName, columnNames, testDataType);
+    }
+
+    @AllArgsConstructor
+    private static class QueryTexts {
+        private final String query;
+        private final String countQuery;
+        private final String estimateQuery;
     }
 
     public class Builder {
 
-        private Builder() {
-            // private constructor
-        }
+        private final String tableName;
+        private final List<String> columnNames;
+        private final TestDataType testDataType;
+        private final List<TestDataTableFilter> filters = new ArrayList<>();
+        private Integer offset;
+        private Integer limit;
+        private TestDataTableOrder order;
 
-        private Builder init(String tableName) {
-            query = new SelectQuery().addAllColumns().addCustomFromTable(tableName);
-            initCountQuery(tableName);
-            return this;
-        }
-
-        private Builder init(String tableName, List<String> columnNames) {
-            DbSpec spec = new DbSpec();
-            DbSchema schema = spec.addDefaultSchema();
-            DbTable dbTable = schema.addTable(tableName);
-            Column[] columns = columnNames.stream()
-                    .map(columnName -> new DbColumn(dbTable, "\"" + columnName + "\"", DB_COLUMN_DEFAULT_TYPE))
-                    .toArray(Column[]::new);
-            query = new SelectQuery().addFromTable(dbTable);
-            query.addColumns(columns);
-            initCountQuery(tableName);
-            return this;
-        }
-
-        private void initCountQuery(String tableName) {
-            countQuery = new SelectQuery().addCustomColumns(FunctionCall.countAll())
-                    .addCustomFromTable(tableName);
-        }
-
-        private Builder setTestDataType(TestDataType testDataType) {
-            if (!TestDataType.ALL.equals(testDataType)) {
-                BinaryCondition binaryCondition = TestDataTypeConditionFactory.getCondition(testDataType);
-                query.addCondition(binaryCondition);
-                countQuery.addCondition(binaryCondition);
-            }
-            return this;
+        private Builder(String tableName, List<String> columnNames, TestDataType testDataType) {
+            this.tableName = tableName;
+            this.columnNames = columnNames;
+            this.testDataType = testDataType;
         }
 
         /**
          * Sets offset.
          */
         public Builder setOffset(Integer offset) {
-            query.setOffset(offset);
+            this.offset = offset;
             return this;
         }
 
@@ -130,7 +131,7 @@ public class QueryInfo {
          * Sets limit.
          */
         public Builder setLimit(Integer limit) {
-            query.setFetchNext(limit);
+            this.limit = limit;
             return this;
         }
 
@@ -138,22 +139,7 @@ public class QueryInfo {
          * Sets filters.
          */
         public Builder setFilters(List<TestDataTableFilter> filters) {
-            List<Condition> conditions = new ArrayList<>();
-            for (TestDataTableFilter filter : filters) {
-                List<String> filterValues = filter.getValues();
-                for (String filterValue : filterValues) {
-                    filterValue = TestDataUtils.escapeCharacters(filterValue);
-                    SearchCondition searchCondition =
-                            SearchConditionFactory.getCondition(filter.getSearchCondition(),
-                                    filter.isCaseSensitive());
-                    CustomSql column = new CustomSql("\"" + filter.getColumn() + "\"");
-                    BinaryCondition binaryCondition = searchCondition.create(column, filterValue);
-                    conditions.add(ComboCondition.or(binaryCondition));
-                }
-                query.addCondition(ComboCondition.or(conditions.toArray()));
-                countQuery.addCondition(ComboCondition.or(conditions.toArray()));
-                conditions.clear();
-            }
+            this.filters.addAll(filters);
             return this;
         }
 
@@ -161,17 +147,120 @@ public class QueryInfo {
          * Sets ordering.
          */
         public Builder setOrder(TestDataTableOrder testDataTableOrder) {
-            CustomSql column = new CustomSql("\"" + testDataTableOrder.getColumnName() + "\"");
-            OrderObject.Dir dir = OrderObject.Dir.ASCENDING;
-            if (OrderType.DESC.equals(testDataTableOrder.getOrderType())) {
-                dir = OrderObject.Dir.DESCENDING;
-            }
-            query.addCustomOrdering(column, dir);
+            this.order = testDataTableOrder;
             return this;
         }
 
+        /**
+         * Builds queries, taking their texts from cache when query of the same shape was built before.
+         */
         public QueryInfo build() {
+            QueryTexts texts;
+            try {
+                texts = SQL_CACHE.get(getShapeKey(), this::render);
+            } catch (ExecutionException e) {
+                texts = render();
+            }
+            query = texts.query;
+            countQuery = texts.countQuery;
+            estimateQuery = texts.estimateQuery;
+            if (Objects.nonNull(offset)) {
+                parameters.addValue(OFFSET_PARAMETER, offset);
+            }
+            if (Objects.nonNull(limit)) {
+                parameters.addValue(LIMIT_PARAMETER, limit);
+            }
+            for (int filterIdx = 0; filterIdx < filters.size(); filterIdx++) {
+                TestDataTableFilter filter = filters.get(filterIdx);
+                SearchCondition searchCondition = getSearchCondition(filter);
+                List<String> filterValues = filter.getValues();
+                for (int valueIdx = 0; valueIdx < filterValues.size(); valueIdx++) {
+                    // untyped parameter is resolved by the server the same way as a literal
+                    parameters.addValue(String.format(FILTER_PARAMETER, filterIdx, valueIdx),
+                            searchCondition.toValue(filterValues.get(valueIdx)), Types.OTHER);
+                }
+            }
             return QueryInfo.this;
         }
+
+        private String getShapeKey() {
+            StringBuilder key = new StringBuilder(tableName)
+                    .append('|').append(columnNames)
+                    .append('|').append(testDataType)
+                    .append('|').append(Objects.nonNull(offset))
+                    .append('|').append(Objects.nonNull(limit));
+            for (TestDataTableFilter filter : filters) {
+                key.append('|').append(filter.getColumn())
+                        .append(',').append(filter.getSearchCondition())
+                        .append(',').append(filter.isCaseSensitive())
+                        .append(',').append(filter.getValues().size());
+            }
+            if (Objects.nonNull(order)) {
+                key.append('|').append(order.getColumnName()).append(',').append(order.getOrderType());
+            }
+            return key.toString();
+        }
+
+        private QueryTexts render() {
+            SelectQuery selectQuery = createSelectQuery();
+            SelectQuery selectCountQuery = new SelectQuery().addCustomColumns(FunctionCall.countAll())
+                    .addCustomFromTable(tableName);
+            SelectQuery selectEstimateQuery = new SelectQuery().addCustomColumns(new CustomSql(1))
+                    .addCustomFromTable(tableName);
+            if (!TestDataType.ALL.equals(testDataType)) {
+                BinaryCondition binaryCondition = TestDataTypeConditionFactory.getCondition(testDataType);
+                selectQuery.addCondition(binaryCondition);
+                selectCountQuery.addCondition(binaryCondition);
+                selectEstimateQuery.addCondition(binaryCondition);
+            }
+            if (Objects.nonNull(offset)) {
+                selectQuery.setOffset(new CustomSql(":" + OFFSET_PARAMETER));
+            }
+            if (Objects.nonNull(limit)) {
+                selectQuery.setFetchNext(new CustomSql(":" + LIMIT_PARAMETER));
+            }
+            for (int filterIdx = 0; filterIdx < filters.size(); filterIdx++) {
+                TestDataTableFilter filter = filters.get(filterIdx);
+                SearchCondition searchCondition = getSearchCondition(filter);
+                CustomSql column = new CustomSql("\"" + filter.getColumn() + "\"");
+                List<Condition> conditions = new ArrayList<>();
+                for (int valueIdx = 0; valueIdx < filter.getValues().size(); valueIdx++) {
+                    CustomSql placeholder = new CustomSql(":" + String.format(FILTER_PARAMETER, filterIdx, valueIdx));
+                    conditions.add(ComboCondition.or(searchCondition.create(column, placeholder)));
+                }
+                selectQuery.addCondition(ComboCondition.or(conditions.toArray()));
+                selectCountQuery.addCondition(ComboCondition.or(conditions.toArray()));
+                selectEstimateQuery.addCondition(ComboCondition.or(conditions.toArray()));
+            }
+            if (Objects.nonNull(order)) {
+                CustomSql column = new CustomSql("\"" + order.getColumnName() + "\"");
+                OrderObject.Dir dir = OrderObject.Dir.ASCENDING;
+                if (OrderType.DESC.equals(order.getOrderType())) {
+                    dir = OrderObject.Dir.DESCENDING;
+                }
+                selectQuery.addCustomOrdering(column, dir);
+            }
+            return new QueryTexts(selectQuery.toString(), selectCountQuery.toString(),
+                    selectEstimateQuery.toString());
+        }
+
+        private SelectQuery createSelectQuery() {
+            if (Objects.isNull(columnNames)) {
+                return new SelectQuery().addAllColumns().addCustomFromTable(tableName);
+            }
+            DbSpec spec = new DbSpec();
+            DbSchema schema = spec.addDefaultSchema();
+            DbTable dbTable = schema.addTable(tableName);
+            Column[] columns = columnNames.stream()
+                    .map(columnName -> new DbColumn(dbTable, "\"" + columnName + "\"", DB_COLUMN_DEFAULT_TYPE))
+                    .toArray(Column[]::new);
+            SelectQuery selectQuery = new SelectQuery().addFromTable(dbTable);
+            selectQuery.addColumns(columns);
+            return selectQuery;
+        }
+
+        private SearchCondition getSearchCondition(TestDataTableFilter filter) {
+            return SearchConditionFactory.getCondition(filter.getSearchCondition(), filter.isCaseSensitive());
+        }
     }
 }
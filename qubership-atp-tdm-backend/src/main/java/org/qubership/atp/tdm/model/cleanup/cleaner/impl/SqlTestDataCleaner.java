@@ -19,15 +19,22 @@ package org.qubership.atp.tdm.model.cleanup.cleaner.impl;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.SQLSyntaxErrorException;
+import java.sql.SQLTimeoutException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,26 +48,31 @@ import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.tdm.exceptions.internal.TdmDeleteRowException;
 import org.qubership.atp.tdm.model.cleanup.cleaner.TestDataCleaner;
 import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.utils.DataUtils;
 import org.qubership.atp.tdm.utils.TestDataUtils;
 import org.slf4j.MDC;
 
+import com.google.common.collect.Lists;
 import liquibase.repackaged.net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import liquibase.repackaged.net.sf.jsqlparser.statement.Statement;
 import liquibase.repackaged.net.sf.jsqlparser.statement.select.Select;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor
 public class SqlTestDataCleaner implements TestDataCleaner {
     private static final Pattern COLUMN_PATTERN = Pattern.compile("\\$\\{'([^']+)'}");
 
     private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("^[a-zA-Z_][a-zA-Z0-9_]{0,63}$");
 
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+    private static final int DEFAULT_CHUNK_SIZE = 100;
+
     private int queryTimeout;
-    private final Connection connection;
+    private final Supplier<Connection> connectionSupplier;
+    private final boolean closeConnections;
+    private final int chunkSize;
+    private final ExecutorService executor;
     @Getter
     private String query;
 
@@ -68,12 +80,36 @@ public class SqlTestDataCleaner implements TestDataCleaner {
     private final OracleCodec oracleCodec = new OracleCodec();
 
     /**
-     * Constructor with queryTimeout.
+     * Constructor with queryTimeout. All chunks are checked one by one through the given connection.
      */
     public SqlTestDataCleaner(@Nonnull Connection connection, @Nullable String query, int queryTimeout) {
-        this.connection = connection;
-        this.query = query;
+        this.connectionSupplier = () -> connection;
+        this.closeConnections = false;
+        this.query = DataUtils.trimTrailingSemicolons(query);
+        this.queryTimeout = queryTimeout;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+        this.executor = null;
+    }
+
+    /**
+     * Constructor for parallel cleanup. Each chunk is checked through its own connection taken from supplier,
+     * connection is closed after the chunk is checked. Chunks are run by the given executor, which is shared
+     * by all cleanups of the environment, so its size bounds connections taken by them.
+     *
+     * @param connectionSupplier - supplier of (pooled) connections to the environment database.
+     * @param query              - search query with column placeholders.
+     * @param queryTimeout       - timeout of one chunk query, seconds.
+     * @param chunkSize          - number of table rows checked by one query.
+     * @param executor           - executor of chunk queries, it is not shut down by the cleaner.
+     */
+    public SqlTestDataCleaner(@Nonnull Supplier<Connection> connectionSupplier, @Nullable String query,
+                              int queryTimeout, int chunkSize, @Nonnull ExecutorService executor) {
+        this.connectionSupplier = connectionSupplier;
+        this.closeConnections = true;
+        this.query = DataUtils.trimTrailingSemicolons(query);
         this.queryTimeout = queryTimeout;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.executor = executor;
     }
 
     @Override
@@ -99,47 +135,113 @@ public class SqlTestDataCleaner implements TestDataCleaner {
         }
 
         /*
-            Prepare statement and execute it in the loop through all rows of testDataTable.
-            As a result, collect rows-to-be-deleted into rowsToBeDeleted list.
-            TODO: Should be re-analyzed, because it can be very resource-consuming in case wide target table.
+            Rows are checked by chunks: one query per chunk returns indexes of rows which still exist,
+            all other rows of the chunk are collected into rowsToBeDeleted list.
          */
-        List<Map<String, Object>> rowsToBeDeleted = new ArrayList<>();
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-            log.info("Cleanup query: {}", query);
-            for (Map<String, Object> row : rows) {
-                log.debug("Processing row #{}", row.get("ROW_ID"));
-                for (int i = 0; i < columns.size(); i++) {
-                    String columnName = columns.get(i);
-                    preparedStatement.setString(i + 1,
-                            esapiEncoder.encodeForSQL(oracleCodec, String.valueOf(row.get(columnName))));
+        log.info("Cleanup query: {}, rows: {}, chunk size: {}", query, rows.size(), chunkSize);
+        List<List<Map<String, Object>>> chunks = Lists.partition(rows, chunkSize);
+        ExecutorService executorService = Objects.isNull(executor) ? Executors.newSingleThreadExecutor() : executor;
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        List<Future<List<Map<String, Object>>>> futures = new ArrayList<>();
+        try {
+            for (List<Map<String, Object>> chunk : chunks) {
+                futures.add(executorService.submit(() -> {
+                    MdcUtils.setContextMap(mdcContext);
+                    return findMissingRows(chunk, columns);
+                }));
+            }
+            List<Map<String, Object>> rowsToBeDeleted = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                rowsToBeDeleted.addAll(getChunkResult(futures.get(i), chunks.get(i), testDataTable.getName()));
+            }
+            return rowsToBeDeleted;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+            if (Objects.isNull(executor)) {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    private List<Map<String, Object>> getChunkResult(Future<List<Map<String, Object>>> future,
+                                                     List<Map<String, Object>> chunk,
+                                                     String tableName) throws Exception {
+        Object firstRowId = chunk.get(0).get("ROW_ID");
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLTimeoutException || (cause instanceof SQLException
+                    && QUERY_CANCELED_SQL_STATE.equals(((SQLException) cause).getSQLState()))) {
+                throw new TimeoutException("SQL execution has been stopped as maximum time of execution in "
+                        + queryTimeout + " sec is exceeded.");
+            } else if (cause instanceof SQLSyntaxErrorException) {
+                throw new SQLSyntaxErrorException("Incorrect SQL syntax.", cause);
+            }
+            log.error(String.format(TdmDeleteRowException.DEFAULT_MESSAGE, firstRowId, tableName), cause);
+            throw new TdmDeleteRowException(String.valueOf(firstRowId), tableName);
+        }
+    }
+
+    private List<Map<String, Object>> findMissingRows(List<Map<String, Object>> chunk,
+                                                      List<String> columns) throws SQLException {
+        Connection connection = connectionSupplier.get();
+        try {
+            String chunkQuery = buildChunkQuery(chunk.size(), isOracle(connection));
+            Set<Integer> existingRows = new HashSet<>();
+            try (PreparedStatement preparedStatement = connection.prepareStatement(chunkQuery)) {
+                preparedStatement.setQueryTimeout(queryTimeout);
+                int parameterIndex = 1;
+                for (Map<String, Object> row : chunk) {
+                    for (String columnName : columns) {
+                        preparedStatement.setString(parameterIndex++,
+                                esapiEncoder.encodeForSQL(oracleCodec, String.valueOf(row.get(columnName))));
+                    }
                 }
-                Map<String, String> mdcContext = MDC.getCopyOfContextMap();
-                try (ResultSet rs = executorService.submit(() -> {
-                            MdcUtils.setContextMap(mdcContext);
-                            return preparedStatement.executeQuery();
-                        })
-                        .get(queryTimeout, TimeUnit.SECONDS)) {
-                    if (!rs.next()) {
-                        log.debug("Row with id: {} will be marked for deleting", row.get("ROW_ID"));
-                        rowsToBeDeleted.add(row);
-                    } else {
-                        log.debug("Row with id: {} will be skipped", row.get("ROW_ID"));
+                try (ResultSet rs = preparedStatement.executeQuery()) {
+                    while (rs.next()) {
+                        existingRows.add(rs.getInt(1));
                     }
-                } catch (TimeoutException e) {
-                    throw new TimeoutException("SQL execution has been stopped as maximum time of execution in "
-                            + queryTimeout + " sec is exceeded.");
-                } catch (SQLSyntaxErrorException e) {
-                    throw new SQLSyntaxErrorException("Incorrect SQL syntax.", e);
-                } catch (Exception e) {
-                    log.error(String.format(TdmDeleteRowException.DEFAULT_MESSAGE,
-                            row.get("ROW_ID"), testDataTable.getName()), e);
-                    throw new TdmDeleteRowException(row.get("ROW_ID").toString(), testDataTable.getName());
                 }
             }
-            return rowsToBeDeleted;
+            List<Map<String, Object>> missingRows = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                if (existingRows.contains(i)) {
+                    log.debug("Row with id: {} will be skipped", chunk.get(i).get("ROW_ID"));
+                } else {
+                    log.debug("Row with id: {} will be marked for deleting", chunk.get(i).get("ROW_ID"));
+                    missingRows.add(chunk.get(i));
+                }
+            }
+            return missingRows;
+        } finally {
+            if (closeConnections) {
+                connection.close();
+            }
         }
     }
 
+    /**
+     * Builds query which checks the whole chunk at once: search query is repeated for each row of the chunk
+     * under EXISTS, so placeholders keep the same context (and types) as in the original query.
+     */
+    private String buildChunkQuery(int rowsCount, boolean oracle) {
+        StringBuilder chunkQuery = new StringBuilder();
+        for (int i = 0; i < rowsCount; i++) {
+            if (i > 0) {
+                chunkQuery.append(" UNION ALL ");
+            }
+            chunkQuery.append("SELECT ").append(i).append(" AS ROW_IDX")
+                    .append(oracle ? " FROM dual" : "")
+                    .append(" WHERE EXISTS (").append(query).append(")");
+        }
+        return chunkQuery.toString();
+    }
+
+    private boolean isOracle(Connection connection) throws SQLException {
+        return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("oracle");
+    }
+
     public List<String> collectParameterColumnsList(@Nonnull TestDataTable testDataTable) {
         Matcher m = COLUMN_PATTERN.matcher(query);
         List<String> columns = new ArrayList<>();
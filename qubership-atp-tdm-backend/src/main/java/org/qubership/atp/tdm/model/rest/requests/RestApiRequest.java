@@ -36,6 +36,8 @@ public class RestApiRequest {
     private List<OccupyRowRequest> occupyRowRequests;
     @JsonProperty("occupy-full-row-requests")
     private List<OccupyFullRowRequest> occupyFullRowRequests;
+    @JsonProperty("occupy-batch-request")
+    private OccupyBatchRequest occupyBatchRequest;
     @JsonProperty("release-row-requests")
     private List<ReleaseRowRequest> releaseRowRequests;
     @JsonProperty("update-row-requests")
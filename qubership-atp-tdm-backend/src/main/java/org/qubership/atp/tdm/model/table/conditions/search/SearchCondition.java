@@ -21,5 +21,16 @@ import com.healthmarketscience.sqlbuilder.CustomSql;
 
 public interface SearchCondition {
 
-    BinaryCondition create(CustomSql customSql, String value);
+    /**
+     * Creates condition for the column. Operand is either a filter value prepared by {@link #toValue(String)}
+     * or a bind parameter placeholder.
+     */
+    BinaryCondition create(CustomSql customSql, Object operand);
+
+    /**
+     * Converts filter value to the value compared with the column.
+     */
+    default String toValue(String value) {
+        return value;
+    }
 }
@@ -25,11 +25,11 @@ public abstract class AbstractCondition {
     /**
      *Create Binary Condition.
      */
-    public BinaryCondition create(CustomSql customSql, String value, boolean isCaseSensitive) {
+    public BinaryCondition create(CustomSql customSql, Object operand, boolean isCaseSensitive) {
         if (isCaseSensitive) {
-            return PgBinaryCondition.like(customSql, value);
+            return PgBinaryCondition.like(customSql, operand);
         } else  {
-            return PgBinaryCondition.iLike(customSql, value);
+            return PgBinaryCondition.iLike(customSql, operand);
         }
     }
 }
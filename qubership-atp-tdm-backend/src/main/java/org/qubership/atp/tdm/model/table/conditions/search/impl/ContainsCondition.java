@@ -28,7 +28,12 @@ public class ContainsCondition extends AbstractCondition implements SearchCondit
     }
 
     @Override
-    public BinaryCondition create(CustomSql customSql, String value) {
-        return super.create(customSql, "%" + value + "%", isCaseSensitive);
+    public BinaryCondition create(CustomSql customSql, Object operand) {
+        return super.create(customSql, operand, isCaseSensitive);
+    }
+
+    @Override
+    public String toValue(String value) {
+        return "%" + value + "%";
     }
 }
@@ -31,11 +31,20 @@ public class DateCondition implements SearchCondition {
     }
 
     @Override
-    public BinaryCondition create(CustomSql customSql, String value) {
+    public BinaryCondition create(CustomSql customSql, Object operand) {
         switch (position) {
-            case "FROM" : return PgBinaryCondition.greaterThanOrEq(customSql, value + " " + FROM_EXTENSION);
+            case "FROM" : return PgBinaryCondition.greaterThanOrEq(customSql, operand);
             case "TO":
-            default: return PgBinaryCondition.lessThanOrEq(customSql, value + " " + TO_EXTENSION);
+            default: return PgBinaryCondition.lessThanOrEq(customSql, operand);
+        }
+    }
+
+    @Override
+    public String toValue(String value) {
+        switch (position) {
+            case "FROM" : return value + " " + FROM_EXTENSION;
+            case "TO":
+            default: return value + " " + TO_EXTENSION;
         }
     }
 }
@@ -25,7 +25,7 @@ import org.qubership.atp.tdm.model.table.conditions.search.SearchCondition;
 public class EqualsCondition implements SearchCondition {
 
     @Override
-    public BinaryCondition create(CustomSql customSql, String value) {
-        return PgBinaryCondition.equalTo(customSql, value);
+    public BinaryCondition create(CustomSql customSql, Object operand) {
+        return PgBinaryCondition.equalTo(customSql, operand);
     }
 }
@@ -26,6 +26,7 @@ import javax.annotation.Nullable;
 import org.qubership.atp.tdm.model.rest.ResponseMessage;
 import org.qubership.atp.tdm.model.rest.requests.AddInfoToRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.GetRowRequest;
+import org.qubership.atp.tdm.model.rest.requests.OccupyBatchRequest;
 import org.qubership.atp.tdm.model.rest.requests.OccupyFullRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.OccupyRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.ReleaseRowRequest;
@@ -46,6 +47,10 @@ public interface AtpActionRepository {
                                                 List<OccupyFullRowRequest> occupyRowRequests,
                                                 @Nonnull String resultLink);
 
+    ResponseMessage occupyTestDataBatch(@Nonnull UUID projectId, @Nullable UUID systemId, @Nonnull String tableTitle,
+                                        @Nonnull String occupiedBy, @Nonnull OccupyBatchRequest occupyBatchRequest,
+                                        @Nonnull String resultLink);
+
     List<ResponseMessage> releaseTestData(@Nonnull UUID projectId, @Nullable UUID systemId, @Nonnull String tableTitle,
                                           List<ReleaseRowRequest> releaseRowRequest);
 
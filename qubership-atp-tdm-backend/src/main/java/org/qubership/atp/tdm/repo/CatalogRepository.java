@@ -27,9 +27,6 @@ import javax.annotation.Nullable;
 
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -83,9 +80,4 @@ public interface CatalogRepository extends JpaRepository<TestDataTableCatalog, S
                                                                             @Nonnull List<UUID> systemIds);
 
     List<TestDataTableCatalog> findAllByEnvironmentIdAndSystemId(@Nonnull UUID systemId, @Nonnull UUID environmentId);
-
-    @Transactional
-    @Modifying(flushAutomatically = true)
-    @Query(value = "update TestDataTableCatalog c set c.lastUsage = :date where c.tableName = :tableName")
-    void updateLastUsageByTableName(@Param("date") Date date, @Param("tableName") String tableName);
 }
@@ -16,12 +16,10 @@
 
 package org.qubership.atp.tdm.repo;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
-import org.qubership.atp.tdm.model.table.TestDataOccupyReportGroupBy;
 import org.qubership.atp.tdm.utils.TestDataQueries;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -33,19 +31,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Repository
 public interface OccupyStatisticRepository extends JpaRepository<TestDataOccupyStatistic, UUID> {
 
-    @Query(value = TestDataQueries.GET_OCCUPIED_STATISTIC_BY_PROJECT, nativeQuery = true)
-    List<TestDataOccupyStatistic> findAllByProjectId(@Param("projectId") UUID projectId);
-
-    @Query(value = TestDataQueries.GET_OCCUPIED_STATISTIC_BY_PROJECT_AND_SYSTEM, nativeQuery = true)
-    List<TestDataOccupyStatistic> findAllByProjectIdAndSystemId(@Param("projectId") UUID projectId,
-                                                                @Param("systemId") UUID systemId);
-
     @Transactional
     @Modifying
     @Query(value = TestDataQueries.DELETE_OCCUPIED_STATISTIC, nativeQuery = true)
     void deleteAllByRowId(@Param("rowIds") List<UUID> rowIds);
-
-    @Query(value = TestDataQueries.GET_OCCUPIED_STATISTICS_GROUP_BY)
-    List<TestDataOccupyReportGroupBy> findAllByProjectIdAndOccupiedDateAndCountGroupBy(
-            @Param("projectId") UUID projectId, @Param("date") LocalDateTime date);
 }
@@ -17,10 +17,12 @@
 package org.qubership.atp.tdm.repo;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
@@ -29,6 +31,7 @@ import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatistics;
 import org.qubership.atp.tdm.model.statistics.report.StatisticsReport;
+import org.qubership.atp.tdm.model.table.TestDataOccupyReportGroupBy;
 
 public interface StatisticsRepository {
 
@@ -51,4 +54,9 @@ public interface StatisticsRepository {
                                                            @Nonnull UUID projectId);
 
     List<String> alterOccupiedDateColumn(List<String> tableNames);
+
+    List<TestDataOccupyStatistic> getStatisticsTables(@Nonnull UUID projectId, @Nullable UUID systemId);
+
+    List<TestDataOccupyReportGroupBy> getOccupiedStatisticsGroupBy(@Nonnull UUID projectId,
+                                                                   @Nonnull LocalDateTime dateFrom);
 }
@@ -17,20 +17,26 @@
 package org.qubership.atp.tdm.repo;
 
 import java.io.File;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.qubership.atp.tdm.model.ColumnValues;
+import org.qubership.atp.tdm.model.ExportFileType;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
+import org.qubership.atp.tdm.model.table.CountMode;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.TestDataTableIndex;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 import org.qubership.atp.tdm.model.table.TestDataType;
+import org.qubership.atp.tdm.utils.StatisticsBuckets;
 import org.springframework.web.multipart.MultipartFile;
 
 import org.qubership.atp.tdm.env.configurator.model.Server;
@@ -51,8 +57,19 @@ public interface TestDataTableRepository {
                               @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters,
                               @Nullable TestDataTableOrder order, boolean isUpdate);
 
+    TestDataTable getTestData(@Nonnull Boolean isOccupied, @Nonnull String tableName, @Nullable Integer offset,
+                              @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters,
+                              @Nullable TestDataTableOrder order, boolean isUpdate, @Nonnull CountMode countMode);
+
+    /**
+     * Reads test data rows for machine-facing callers. Column filter types and links are not calculated,
+     * columns contain names only, records are not counted.
+     */
+    TestDataTable getTestDataRows(@Nonnull Boolean isOccupied, @Nonnull String tableName, @Nullable Integer offset,
+                                  @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters);
+
     TestDataTable getTestData(@Nonnull String tableName, @Nonnull List<String> columnNames,
-                              @Nullable List<TestDataTableFilter> filters);
+                              @Nullable List<TestDataTableFilter> filters, @Nonnull CountMode countMode);
 
     TestDataTable getFullTestData(@Nonnull String tableName);
 
@@ -62,12 +79,28 @@ public interface TestDataTableRepository {
     File getTestDataTableAsCsv(@Nonnull String tableName, @Nullable Integer offset,
                                @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters);
 
+    /**
+     * Write all rows of the table to output stream in given format, reading rows through forward only cursor.
+     *
+     * @return number of written rows.
+     */
+    int writeTestDataTable(@Nonnull String tableName, @Nonnull ExportFileType fileType,
+                           @Nonnull OutputStream outputStream);
+
     TestDataTable saveTestData(@Nonnull String tableName, boolean exists, TestDataTable testDataTable);
 
     void alterOccupiedByColumn(List<String> tableNames);
 
     String occupyTestData(@Nonnull String tableName, @Nonnull String occupiedBy, @Nonnull List<UUID> rows);
 
+    Optional<Map<String, Object>> occupyFirstAvailableRow(@Nonnull String tableName, @Nonnull String occupiedBy,
+                                                          @Nullable List<TestDataTableFilter> filters,
+                                                          @Nonnull List<String> responseColumns);
+
+    List<Map<String, Object>> occupyAvailableRows(@Nonnull String tableName, @Nonnull String occupiedBy,
+                                                  @Nullable List<TestDataTableFilter> filters,
+                                                  @Nonnull List<String> responseColumns, int count);
+
     void releaseTestData(@Nonnull String tableName, @Nonnull List<UUID> rows);
 
     void insertRows(@Nonnull String tableName, boolean exists, @Nonnull List<Map<String, Object>> rows,
@@ -89,10 +122,29 @@ public interface TestDataTableRepository {
 
     void truncateTable(@Nonnull String tableName);
 
+    List<TestDataTableIndex> getColumnIndexes(@Nonnull String tableName);
+
+    TestDataTableIndex createColumnIndex(@Nonnull String tableName, @Nonnull String columnName);
+
+    void dropColumnIndex(@Nonnull String tableName, @Nonnull String columnName);
+
     void deleteAllRows(@Nonnull String tableName);
 
     void deleteUnoccupiedRows(@Nonnull String tableName);
 
+    /**
+     * Creates empty table with the same columns as given table, to load new data without touching it.
+     *
+     * @return name of created shadow table.
+     */
+    String createShadowTable(@Nonnull String tableName);
+
+    /**
+     * Replaces table by its shadow table in one transaction. Occupied rows of the table are carried over
+     * into the shadow table if saveOccupiedData is set.
+     */
+    void swapShadowTable(@Nonnull String tableName, @Nonnull String shadowTableName, boolean saveOccupiedData);
+
     void alterCreatedWhenColumn(List<String> tableNames);
 
     String evaluateQuery(@Nonnull String tableName, @Nonnull String query);
@@ -102,8 +154,10 @@ public interface TestDataTableRepository {
     int getColumnDistinctValuesCount(@Nonnull String tableName, @Nonnull String columnName,
                                      String columnType, Boolean occupied);
 
-    TestDataTable getTableByCreatedWhen(@Nonnull String tableName, @Nonnull LocalDate dateFrom,
-                                        @Nonnull LocalDate dateTo);
+    /**
+     * Count rows of the table by created date buckets, counting is done by SQL.
+     */
+    List<Long> getCreatedWhenCounts(@Nonnull String tableName, @Nonnull StatisticsBuckets buckets);
 
     boolean changeTestDataTitle(@Nonnull String tableName, @Nullable String tableTitle);
 
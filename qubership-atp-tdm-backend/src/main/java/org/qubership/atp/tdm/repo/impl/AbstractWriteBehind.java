@@ -0,0 +1,164 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Base of components which keep changes in memory and write them behind in batches.
+ * Pending changes are flushed by one thread every flush interval, on request and on shutdown;
+ * a change which failed to be written stays pending for the next flush.
+ * Publishes atp_tdm_&lt;name&gt;_pending and atp_tdm_&lt;name&gt;_flush_lag_ms gauges
+ * and atp_tdm_&lt;name&gt;_dropped counter.
+ */
+@Slf4j
+public abstract class AbstractWriteBehind {
+
+    private final String name;
+    private final String displayName;
+    private final long flushInterval;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService flushExecutor;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Counter dropped;
+
+    /**
+     * Constructor with parameters, flushing is started by {@link #start()}.
+     *
+     * @param name          - name of metrics and flush thread, e.g. last_usage.
+     * @param meterRegistry - registry to publish metrics.
+     * @param flushInterval - interval between flushes in milliseconds.
+     */
+    protected AbstractWriteBehind(@Nonnull String name, @Nonnull MeterRegistry meterRegistry, long flushInterval) {
+        this.name = name;
+        this.displayName = name.replace('_', ' ');
+        this.flushInterval = flushInterval;
+        this.meterRegistry = meterRegistry;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("tdm-" + name.replace('_', '-') + "-"));
+        this.dropped = Counter.builder("atp_tdm_" + name + "_dropped")
+                .description("Pending " + displayName + " changes dropped because they could not be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Write all pending changes. Returns when changes made before the call are written.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            writePending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdownNow();
+        flushQuietly();
+        int pending = getPending();
+        if (pending > 0) {
+            log.error("Pending {} is not written on shutdown, {} changes are dropped.", displayName, pending);
+            dropped.increment(pending);
+        }
+    }
+
+    /**
+     * Registers gauges and schedules flushes, called by subclass once it is initialized.
+     */
+    protected final void start() {
+        Gauge.builder("atp_tdm_" + name + "_pending", this, AbstractWriteBehind::getPending)
+                .register(meterRegistry);
+        Gauge.builder("atp_tdm_" + name + "_flush_lag_ms", this, AbstractWriteBehind::getFlushLag)
+                .register(meterRegistry);
+        flushExecutor.scheduleWithFixedDelay(this::flushQuietly, flushInterval, flushInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Write pending changes, called under the flush lock. Changes which are not written must stay pending.
+     */
+    protected abstract void writePending();
+
+    /**
+     * Returns number of pending changes.
+     */
+    protected abstract int getPending();
+
+    /**
+     * Returns time in milliseconds when the oldest pending change was made, null if nothing is pending.
+     */
+    @Nullable
+    protected abstract Long getOldestPendingTime();
+
+    /**
+     * Flush in the caller thread when pending changes limit is reached.
+     */
+    protected void flushInCaller() {
+        log.warn("Pending {} limit is reached, flushing in the caller thread.", displayName);
+        flushQuietly();
+    }
+
+    /**
+     * Schedule flush before the interval is over, it is done once until the next flush starts.
+     */
+    protected void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * Count changes which are dropped without being written.
+     */
+    protected void drop(int count) {
+        log.error("Pending {} can not be written, {} changes are dropped.", displayName, count);
+        dropped.increment(count);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Failed to write pending {}, it will be retried by the next flush.", displayName, e);
+        }
+    }
+
+    private double getFlushLag() {
+        Long oldest = getOldestPendingTime();
+        return Objects.isNull(oldest) ? 0 : System.currentTimeMillis() - oldest;
+    }
+}
@@ -34,10 +34,12 @@ import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.cleanup.CleanupResults;
 import org.qubership.atp.tdm.model.cleanup.TestDataCleanupConfig;
 import org.qubership.atp.tdm.model.refresh.RefreshResults;
+import org.qubership.atp.tdm.model.rest.OccupyBatchResult;
 import org.qubership.atp.tdm.model.rest.ResponseMessage;
 import org.qubership.atp.tdm.model.rest.ResponseType;
 import org.qubership.atp.tdm.model.rest.requests.AddInfoToRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.GetRowRequest;
+import org.qubership.atp.tdm.model.rest.requests.OccupyBatchRequest;
 import org.qubership.atp.tdm.model.rest.requests.OccupyFullRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.OccupyRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.ReleaseRowRequest;
@@ -54,12 +56,11 @@ import org.qubership.atp.tdm.service.TestDataFlagsService;
 import org.qubership.atp.tdm.service.impl.CleanupServiceImpl;
 import org.qubership.atp.tdm.utils.TestDataTableConvertor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.qubership.atp.common.lock.LockManager;
-import org.qubership.atp.tdm.exceptions.internal.TdmOccupyDataIncorrectlyException;
 import org.qubership.atp.tdm.exceptions.internal.TdmOccupyDataResponseMessageException;
 import org.qubership.atp.tdm.exceptions.internal.TdmSearchCleanupConfigException;
 
@@ -80,6 +81,8 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
     private final TestDataFlagsService testDataFlagsService;
     private final CleanupServiceImpl cleanupService;
     private final LockManager lockManager;
+    private final CatalogIndex catalogIndex;
+    private final int occupyBatchMaxRows;
 
     /**
      * AtpActionRepository Constructor.
@@ -92,7 +95,9 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
                                    @Nonnull DataRefreshService dataRefreshService,
                                    @Nonnull TestDataFlagsService testDataFlagsService,
                                    @Nonnull CleanupServiceImpl cleanupService,
-                                   @Nonnull LockManager lockManager) {
+                                   @Nonnull LockManager lockManager,
+                                   @Nonnull CatalogIndex catalogIndex,
+                                   @Value("${tdm.occupy.batch.max.rows:1000}") int occupyBatchMaxRows) {
         this.catalogRepository = catalogRepository;
         this.testDataTableRepository = testDataTableRepository;
         this.cleanupConfigRepository = cleanupConfigRepository;
@@ -101,6 +106,8 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         this.testDataFlagsService = testDataFlagsService;
         this.cleanupService = cleanupService;
         this.lockManager = lockManager;
+        this.catalogIndex = catalogIndex;
+        this.occupyBatchMaxRows = occupyBatchMaxRows;
     }
 
     @Override
@@ -143,36 +150,29 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         TableDetails tableDetails = getTableDetails(projectId, systemId, tableTitle);
         String finalResultLink = resultLink + "/" + tableDetails.getTableName();
         if (tableDetails.isExists()) {
-            lockManager.executeWithLockWithUniqueLockKey("occupyTestData: " + projectId + " " + tableTitle, () -> {
-                for (OccupyRowRequest occupyRowRequest : occupyRowRequests) {
-                    TestDataTable table = testDataTableRepository.getTestData(false, tableDetails.getTableName(),
-                            null, 1, occupyRowRequest.getFilters(), null, false);
-                    Optional<Map<String, Object>> row = table.getData().stream().findFirst();
-                    if (row.isPresent()) {
-                        String nameColumnResponse = occupyRowRequest.getNameColumnResponse();
-                        if (row.get().containsKey(nameColumnResponse)) {
-                            UUID rowId = table.getData().stream()
-                                    .map(r -> UUID.fromString(String.valueOf(r.get("ROW_ID"))))
-                                    .findFirst().orElseThrow(() -> new TdmOccupyDataIncorrectlyException(tableTitle));
-                            testDataTableRepository.occupyTestData(tableDetails.getTableName(), occupiedBy,
-                                    Collections.singletonList(rowId));
-                            testDataTableRepository.updateLastUsage(tableDetails.getTableName());
-                            String value = row.get().get(nameColumnResponse).toString();
-                            responseMessages.add(new ResponseMessage(ResponseType.SUCCESS, value, finalResultLink));
-                        } else {
-                            log.warn("Occupation test data. Response column with name: [{}] was not found.",
-                                    nameColumnResponse);
-                            responseMessages.add(new ResponseMessage(ResponseType.ERROR,
-                                    String.format("Column with name \"%s\" was not found!", nameColumnResponse)));
-                        }
+            for (OccupyRowRequest occupyRowRequest : occupyRowRequests) {
+                String nameColumnResponse = occupyRowRequest.getNameColumnResponse();
+                Optional<Map<String, Object>> row = testDataTableRepository.occupyFirstAvailableRow(
+                        tableDetails.getTableName(), occupiedBy, occupyRowRequest.getFilters(),
+                        Collections.singletonList(nameColumnResponse));
+                if (row.isPresent()) {
+                    if (row.get().containsKey(nameColumnResponse)) {
+                        testDataTableRepository.updateLastUsage(tableDetails.getTableName());
+                        String value = String.valueOf(row.get().get(nameColumnResponse));
+                        responseMessages.add(new ResponseMessage(ResponseType.SUCCESS, value, finalResultLink));
                     } else {
-                        log.warn("Occupation test data. Rows were not found. Filters: {}",
-                                occupyRowRequest.getFilters());
+                        log.warn("Occupation test data. Response column with name: [{}] was not found.",
+                                nameColumnResponse);
                         responseMessages.add(new ResponseMessage(ResponseType.ERROR,
-                                "No test data available for requested criteria!"));
+                                String.format("Column with name \"%s\" was not found!", nameColumnResponse)));
                     }
+                } else {
+                    log.warn("Occupation test data. Rows were not found. Filters: {}",
+                            occupyRowRequest.getFilters());
+                    responseMessages.add(new ResponseMessage(ResponseType.ERROR,
+                            "No test data available for requested criteria!"));
                 }
-            });
+            }
         } else {
             log.warn("Occupation test data. Table with title:  [{}] was not found.", tableTitle);
             responseMessages.add(new ResponseMessage(ResponseType.ERROR,
@@ -183,7 +183,6 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
     }
 
     @Override
-    @Transactional
     public List<ResponseMessage> occupyTestDataFullRow(@Nonnull UUID projectId,
                                                        @Nullable UUID systemId,
                                                        @Nonnull String tableTitle,
@@ -194,53 +193,46 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         TableDetails tableDetails = getTableDetails(projectId, systemId, tableTitle);
         String finalResultLink = resultLink + "/" + tableDetails.getTableName();
         if (tableDetails.isExists()) {
-            lockManager.executeWithLockWithUniqueLockKey("Occupy data in table: " + tableDetails.getTableName(), () -> {
-                for (OccupyFullRowRequest occupyRowRequest : occupyRowRequests) {
-                    TestDataTable table = testDataTableRepository.getTestData(false, tableDetails.getTableName(),
-                            null, 1, occupyRowRequest.getFilters(), null, true);
-                    Optional<Map<String, Object>> row = table.getData().stream().findFirst();
-                    if (row.isPresent()) {
-                        UUID rowId = table.getData().stream()
-                                .map(r -> UUID.fromString(String.valueOf(r.get("ROW_ID"))))
-                                .findFirst().orElseThrow(() -> new TdmOccupyDataIncorrectlyException(tableTitle));
-                        boolean columnsExists = true;
-                        Map<String, String> responseValues = new HashMap<>();
-                        for (String responseColumnName : occupyRowRequest.getResponseColumnNames()) {
-                            if (row.get().containsKey(responseColumnName)) {
-                                String columnValue = String.valueOf(row.get().get(responseColumnName));
-                                responseValues.put(responseColumnName, columnValue);
-                            } else {
-                                columnsExists = false;
-                                log.warn("Occupation test data to return several rows. Response column with name: [{}] "
-                                                + "was not found.",
-                                        responseColumnName);
-                                responseMessages.add(new ResponseMessage(ResponseType.ERROR,
-                                        String.format("Column with name \"%s\" was not found!",
-                                                responseColumnName)));
-                            }
+            for (OccupyFullRowRequest occupyRowRequest : occupyRowRequests) {
+                Optional<Map<String, Object>> row = testDataTableRepository.occupyFirstAvailableRow(
+                        tableDetails.getTableName(), occupiedBy, occupyRowRequest.getFilters(),
+                        occupyRowRequest.getResponseColumnNames());
+                if (row.isPresent()) {
+                    boolean columnsExists = true;
+                    Map<String, String> responseValues = new HashMap<>();
+                    for (String responseColumnName : occupyRowRequest.getResponseColumnNames()) {
+                        if (row.get().containsKey(responseColumnName)) {
+                            String columnValue = String.valueOf(row.get().get(responseColumnName));
+                            responseValues.put(responseColumnName, columnValue);
+                        } else {
+                            columnsExists = false;
+                            log.warn("Occupation test data to return several rows. Response column with name: [{}] "
+                                            + "was not found.",
+                                    responseColumnName);
+                            responseMessages.add(new ResponseMessage(ResponseType.ERROR,
+                                    String.format("Column with name \"%s\" was not found!",
+                                            responseColumnName)));
                         }
-                        if (columnsExists) {
-                            testDataTableRepository.occupyTestData(tableDetails.getTableName(), occupiedBy,
-                                    Collections.singletonList(rowId));
-                            testDataTableRepository.updateLastUsage(tableDetails.getTableName());
-                            try {
-                                responseMessages.add(new ResponseMessage(ResponseType.SUCCESS,
-                                        new ObjectMapper().writeValueAsString(responseValues),
-                                        responseValues,
-                                        finalResultLink));
-                            } catch (Exception e) {
-                                log.error(TdmOccupyDataResponseMessageException.DEFAULT_MESSAGE, e);
-                                throw new TdmOccupyDataResponseMessageException();
-                            }
+                    }
+                    if (columnsExists) {
+                        testDataTableRepository.updateLastUsage(tableDetails.getTableName());
+                        try {
+                            responseMessages.add(new ResponseMessage(ResponseType.SUCCESS,
+                                    new ObjectMapper().writeValueAsString(responseValues),
+                                    responseValues,
+                                    finalResultLink));
+                        } catch (Exception e) {
+                            log.error(TdmOccupyDataResponseMessageException.DEFAULT_MESSAGE, e);
+                            throw new TdmOccupyDataResponseMessageException();
                         }
-                    } else {
-                        log.warn("Occupation test data to return several rows. Rows were not found. Filters: {}",
-                                occupyRowRequest.getFilters());
-                        responseMessages.add(new ResponseMessage(ResponseType.ERROR,
-                                "No test data available for requested criteria!"));
                     }
+                } else {
+                    log.warn("Occupation test data to return several rows. Rows were not found. Filters: {}",
+                            occupyRowRequest.getFilters());
+                    responseMessages.add(new ResponseMessage(ResponseType.ERROR,
+                            "No test data available for requested criteria!"));
                 }
-            });
+            }
         } else {
             log.warn("Occupation test data to return several rows. Table with title:  [{}] was not found.", tableTitle);
             responseMessages.add(new ResponseMessage(ResponseType.ERROR,
@@ -250,6 +242,70 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         return responseMessages;
     }
 
+    @Override
+    public ResponseMessage occupyTestDataBatch(@Nonnull UUID projectId, @Nullable UUID systemId,
+                                               @Nonnull String tableTitle, @Nonnull String occupiedBy,
+                                               @Nonnull OccupyBatchRequest occupyBatchRequest,
+                                               @Nonnull String resultLink) {
+        TableDetails tableDetails = getTableDetails(projectId, systemId, tableTitle);
+        if (!tableDetails.isExists()) {
+            log.warn("Batch occupation of test data. Table with title: [{}] was not found.", tableTitle);
+            return new ResponseMessage(ResponseType.ERROR,
+                    String.format("Table with title \"%s\" was not found!", tableTitle));
+        }
+        int requested = occupyBatchRequest.getRowsCount();
+        if (requested <= 0) {
+            log.warn("Batch occupation of test data. Incorrect rows count: [{}].", requested);
+            return new ResponseMessage(ResponseType.ERROR,
+                    String.format("Rows count should be positive, but was %s!", requested));
+        }
+        if (requested > occupyBatchMaxRows) {
+            log.warn("Batch occupation of test data. Rows count: [{}] exceeds maximum: [{}].", requested,
+                    occupyBatchMaxRows);
+            return new ResponseMessage(ResponseType.ERROR,
+                    String.format("Rows count should not exceed %s, but was %s!", occupyBatchMaxRows, requested));
+        }
+        List<String> responseColumnNames = occupyBatchRequest.getResponseColumnNames();
+        if (Objects.isNull(responseColumnNames)) {
+            log.warn("Batch occupation of test data. Response column names are not specified.");
+            return new ResponseMessage(ResponseType.ERROR, "Response column names should be specified!");
+        }
+        List<Map<String, Object>> rows = testDataTableRepository.occupyAvailableRows(tableDetails.getTableName(),
+                occupiedBy, occupyBatchRequest.getFilters(), responseColumnNames, requested);
+        if (rows.isEmpty()) {
+            log.warn("Batch occupation of test data. Rows were not found. Filters: {}",
+                    occupyBatchRequest.getFilters());
+            return new ResponseMessage(ResponseType.ERROR, "No test data available for requested criteria!",
+                    new OccupyBatchResult(requested, 0, false, Collections.emptyList()));
+        }
+        Optional<String> missingColumn = responseColumnNames.stream()
+                .filter(columnName -> !rows.get(0).containsKey(columnName))
+                .findFirst();
+        if (missingColumn.isPresent()) {
+            log.warn("Batch occupation of test data. Response column with name: [{}] was not found.",
+                    missingColumn.get());
+            return new ResponseMessage(ResponseType.ERROR,
+                    String.format("Column with name \"%s\" was not found!", missingColumn.get()));
+        }
+        List<Map<String, String>> responseRows = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            Map<String, String> responseValues = new HashMap<>();
+            responseColumnNames.forEach(columnName ->
+                    responseValues.put(columnName, String.valueOf(row.get(columnName))));
+            responseRows.add(responseValues);
+        }
+        testDataTableRepository.updateLastUsage(tableDetails.getTableName());
+        OccupyBatchResult result = new OccupyBatchResult(requested, responseRows.size(),
+                responseRows.size() == requested, responseRows);
+        if (!result.isFulfilled()) {
+            log.warn("Batch occupation of test data. Occupied {} of {} requested rows in table [{}].",
+                    result.getOccupied(), requested, tableDetails.getTableName());
+        }
+        return new ResponseMessage(ResponseType.SUCCESS,
+                String.format("Occupied %s of %s requested rows.", result.getOccupied(), requested),
+                result, resultLink + "/" + tableDetails.getTableName());
+    }
+
     @Override
     public List<ResponseMessage> releaseTestData(@Nonnull UUID projectId, @Nullable UUID systemId,
                                                  @Nonnull String tableTitle,
@@ -258,8 +314,8 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         TableDetails tableDetails = getTableDetails(projectId, systemId, tableTitle);
         if (tableDetails.isExists()) {
             for (ReleaseRowRequest releaseRowRequest : releaseRowRequests) {
-                TestDataTable table = testDataTableRepository.getTestData(true, tableDetails.getTableName(),
-                        null, null, releaseRowRequest.getFilters(), null, false);
+                TestDataTable table = testDataTableRepository.getTestDataRows(true, tableDetails.getTableName(),
+                        null, null, releaseRowRequest.getFilters());
                 List<Map<String, Object>> data = table.getData();
                 if (data.size() == 1) {
                     Map<String, Object> row = data.stream().findFirst().get();
@@ -315,8 +371,8 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         List<UUID> allRowIds = new ArrayList<>();
         try {
             while (true) {
-                List<Map<String, Object>> testDataTable = testDataTableRepository.getTestData(
-                                true, tableDetails.getTableName(), offset, UPDATE_TEST_DATA_LIMIT, null, null, false)
+                List<Map<String, Object>> testDataTable = testDataTableRepository.getTestDataRows(
+                                true, tableDetails.getTableName(), offset, UPDATE_TEST_DATA_LIMIT, null)
                         .getData();
 
                 if (testDataTable.isEmpty()) {
@@ -457,8 +513,8 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
         TableDetails tableDetails = getTableDetails(projectId, systemId, tableTitle);
         if (tableDetails.isExists()) {
             for (GetRowRequest getRowRequest : getRowRequests) {
-                TestDataTable table = testDataTableRepository.getTestData(false, tableDetails.getTableName(),
-                        null, 1, getRowRequest.getFilters(), null, false);
+                TestDataTable table = testDataTableRepository.getTestDataRows(false, tableDetails.getTableName(),
+                        null, 1, getRowRequest.getFilters());
                 testDataTableRepository.updateLastUsage(tableDetails.getTableName());
                 Optional<Map<String, Object>> row = table.getData().stream().findFirst();
                 if (row.isPresent()) {
@@ -629,19 +685,15 @@ public class AtpActionRepositoryImpl implements AtpActionRepository {
 
     private TableDetails getTableDetails(@Nonnull UUID projectId, @Nullable UUID systemId,
                                          @Nonnull String tableTitle) {
-        TestDataTableCatalog tableCatalog = null;
-        if (systemId == null) {
-            Optional<TestDataTableCatalog> existedCatalog =
-                    catalogRepository.findAllByProjectIdAndTableTitle(projectId, tableTitle).stream().findFirst();
-            if (existedCatalog.isPresent()) {
-                tableCatalog = existedCatalog.get();
+        String tableName = catalogIndex.getTableName(projectId, systemId, tableTitle, () -> {
+            if (systemId == null) {
+                return catalogRepository.findAllByProjectIdAndTableTitle(projectId, tableTitle).stream()
+                        .findFirst().orElse(null);
             }
-        } else {
-            tableCatalog = catalogRepository.findByProjectIdAndSystemIdAndTableTitle(projectId,
-                    systemId, tableTitle);
-        }
-        if (tableCatalog != null) {
-            return new TableDetails(tableCatalog.getTableName(), true);
+            return catalogRepository.findByProjectIdAndSystemIdAndTableTitle(projectId, systemId, tableTitle);
+        });
+        if (tableName != null) {
+            return new TableDetails(tableName, true);
         } else {
             return new TableDetails(TestDataTableConvertor.generateTestDataTableName(), false);
         }
@@ -0,0 +1,152 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.PreDestroy;
+
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
+import org.qubership.atp.tdm.repo.impl.extractors.TestDataExtractorProvider;
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts available, occupied, occupied today and total rows of test data tables.
+ * Tables are counted in parallel on a dedicated pool, its size is the number of database connections
+ * the availability statistics may hold at once. Counts may be cached for a short time, so repeated renders
+ * of a big project do not scan every table again; caching is disabled by zero duration.
+ */
+@Slf4j
+@Component
+public class AvailabilityStatisticsCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TestDataExtractorProvider extractorProvider;
+    private final ExecutorService executorService;
+    private final Cache<String, GeneralStatisticsItem> cache;
+
+    /**
+     * Default constructor.
+     */
+    public AvailabilityStatisticsCounter(@Nonnull JdbcTemplate jdbcTemplate,
+                                         @Nonnull TestDataExtractorProvider extractorProvider,
+                                         @Value("${tdm.statistics.availability.parallelism:4}") int parallelism,
+                                         @Value("${tdm.statistics.availability.cache.duration:0}")
+                                                 int cacheDuration,
+                                         @Value("${tdm.statistics.availability.cache.size:10000}")
+                                                 int cacheSize) {
+        log.info("Availability statistics parallelism: {}, cache duration: {} seconds, size: {} tables.",
+                parallelism, cacheDuration, cacheSize);
+        this.jdbcTemplate = jdbcTemplate;
+        this.extractorProvider = extractorProvider;
+        this.executorService = Executors.newFixedThreadPool(Math.max(1, parallelism),
+                new CustomizableThreadFactory("tdm-availability-"));
+        this.cache = cacheDuration > 0
+                ? CacheBuilder.newBuilder()
+                .expireAfterWrite(cacheDuration, TimeUnit.SECONDS)
+                .maximumSize(cacheSize)
+                .build()
+                : null;
+    }
+
+    /**
+     * Counts rows of every table.
+     *
+     * @param catalogList   - tables to count.
+     * @param timeStampsMap - start and end of the current day in project time zone.
+     * @return statistics items in the order of catalogs.
+     */
+    public List<GeneralStatisticsItem> count(@Nonnull List<TestDataTableCatalog> catalogList,
+                                             @Nonnull Map<String, String> timeStampsMap) {
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        List<Future<GeneralStatisticsItem>> futures = new ArrayList<>(catalogList.size());
+        try {
+            for (TestDataTableCatalog item : catalogList) {
+                futures.add(executorService.submit(() -> {
+                    MdcUtils.setContextMap(mdcContext);
+                    return count(item, timeStampsMap);
+                }));
+            }
+            List<GeneralStatisticsItem> statisticsItems = new ArrayList<>(catalogList.size());
+            for (int i = 0; i < futures.size(); i++) {
+                statisticsItems.add(getResult(futures.get(i), catalogList.get(i).getTableName()));
+            }
+            return statisticsItems;
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    private GeneralStatisticsItem count(@Nonnull TestDataTableCatalog item,
+                                        @Nonnull Map<String, String> timeStampsMap) {
+        String tableName = item.getTableName().toLowerCase();
+        String startTimeStamp = timeStampsMap.get("startTimeStamp");
+        String key = tableName + '|' + startTimeStamp;
+        GeneralStatisticsItem counts = Objects.isNull(cache) ? null : cache.getIfPresent(key);
+        if (Objects.isNull(counts)) {
+            counts = jdbcTemplate.query(String.format(TestDataQueries.GET_TEST_DATA_AVAILABILITY_ITEM,
+                    startTimeStamp, timeStampsMap.get("endTimeStamp"), tableName),
+                    extractorProvider.generalStatisticsExtractor(item.getTableTitle()));
+            if (Objects.nonNull(cache) && Objects.nonNull(counts)) {
+                cache.put(key, counts);
+            }
+        }
+        return Objects.isNull(counts) ? null : new GeneralStatisticsItem(item.getTableTitle(),
+                counts.getAvailable(), counts.getOccupied(), counts.getOccupiedToday(), counts.getTotal());
+    }
+
+    private GeneralStatisticsItem getResult(@Nonnull Future<GeneralStatisticsItem> future,
+                                            @Nonnull String tableName) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            log.error("Failed to count availability statistics for table: {}", tableName, e.getCause());
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Availability statistics counting has been interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.qubership.atp.tdm.utils.TestDataUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves test data table name by project, system and table title without searching the catalog
+ * on every ATP action. Only existing tables are cached, so a table created by another instance is found
+ * on the next call. Entries are dropped once the transaction which saves, renames or drops a table
+ * is committed, and on project, system and environment events. Changes made by another instance are
+ * not broadcast, so entries expire after a short time.
+ * Hits and misses are published as counters.
+ */
+@Slf4j
+@Component
+public class CatalogIndex {
+
+    private static final String HITS = "atp_tdm_catalog_index_hits";
+    private static final String MISSES = "atp_tdm_catalog_index_misses";
+
+    private final Cache<Key, Entry> cache;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param meterRegistry - registry to publish counters.
+     * @param cacheDuration - expiration of an entry in seconds.
+     * @param cacheSize     - maximum number of entries.
+     */
+    public CatalogIndex(@Nonnull MeterRegistry meterRegistry,
+                        @Value("${tdm.catalog.index.cache.duration:30}") Integer cacheDuration,
+                        @Value("${tdm.catalog.index.cache.size:20000}") Integer cacheSize) {
+        log.info("Catalog index cache duration: {} seconds, size: {} entries.", cacheDuration, cacheSize);
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(cacheDuration, TimeUnit.SECONDS)
+                .maximumSize(cacheSize)
+                .build();
+        this.hits = Counter.builder(HITS)
+                .description("Table title resolutions served from the catalog index")
+                .register(meterRegistry);
+        this.misses = Counter.builder(MISSES)
+                .description("Table title resolutions loaded from the catalog")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns name of the table with given title or loads it from the catalog.
+     *
+     * @param projectId  - project id.
+     * @param systemId   - system id, null to look up the table in the whole project.
+     * @param tableTitle - table title.
+     * @param loader     - catalog lookup.
+     * @return table name or null if there is no such table.
+     */
+    @Nullable
+    public String getTableName(@Nonnull UUID projectId, @Nullable UUID systemId, @Nonnull String tableTitle,
+                               @Nonnull Supplier<TestDataTableCatalog> loader) {
+        Key key = new Key(projectId, systemId, tableTitle);
+        Entry entry = cache.getIfPresent(key);
+        if (entry != null) {
+            hits.increment();
+            return entry.tableName;
+        }
+        misses.increment();
+        TestDataTableCatalog catalog = loader.get();
+        if (catalog == null) {
+            return null;
+        }
+        cache.put(key, new Entry(catalog.getTableName(), catalog.getSystemId(), catalog.getEnvironmentId()));
+        return catalog.getTableName();
+    }
+
+    /**
+     * Drops entries resolved to the table.
+     *
+     * @param tableName - table name.
+     */
+    public void invalidateTable(@Nonnull String tableName) {
+        invalidateIf((key, entry) -> entry.tableName.equals(tableName));
+    }
+
+    /**
+     * Drops entries of the title in the project, so a new table with this title is found.
+     *
+     * @param projectId  - project id.
+     * @param tableTitle - table title.
+     */
+    public void invalidateTitle(@Nonnull UUID projectId, @Nonnull String tableTitle) {
+        invalidateIf((key, entry) -> key.projectId.equals(projectId) && key.tableTitle.equals(tableTitle));
+    }
+
+    /**
+     * Drops entries of the project.
+     *
+     * @param projectId - project id.
+     */
+    public void invalidateProject(@Nonnull UUID projectId) {
+        invalidateIf((key, entry) -> key.projectId.equals(projectId));
+    }
+
+    /**
+     * Drops entries of the system.
+     *
+     * @param systemId - system id.
+     */
+    public void invalidateSystem(@Nonnull UUID systemId) {
+        invalidateIf((key, entry) -> systemId.equals(key.systemId) || systemId.equals(entry.systemId));
+    }
+
+    /**
+     * Drops entries of the environment.
+     *
+     * @param environmentId - environment id.
+     */
+    public void invalidateEnvironment(@Nonnull UUID environmentId) {
+        invalidateIf((key, entry) -> environmentId.equals(entry.environmentId));
+    }
+
+    /**
+     * Drops all entries.
+     */
+    public void invalidateAll() {
+        TestDataUtils.runAfterCommit(cache::invalidateAll);
+    }
+
+    private void invalidateIf(@Nonnull BiPredicate<Key, Entry> predicate) {
+        TestDataUtils.runAfterCommit(() -> cache.asMap().entrySet()
+                .removeIf(e -> predicate.test(e.getKey(), e.getValue())));
+    }
+
+    private static final class Key {
+        private final UUID projectId;
+        private final UUID systemId;
+        private final String tableTitle;
+
+        private Key(UUID projectId, UUID systemId, String tableTitle) {
+            this.projectId = projectId;
+            this.systemId = systemId;
+            this.tableTitle = tableTitle;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return projectId.equals(key.projectId) && Objects.equals(systemId, key.systemId)
+                    && tableTitle.equals(key.tableTitle);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projectId, systemId, tableTitle);
+        }
+    }
+
+    private static final class Entry {
+        private final String tableName;
+        private final UUID systemId;
+        private final UUID environmentId;
+
+        private Entry(String tableName, UUID systemId, UUID environmentId) {
+            this.tableName = tableName;
+            this.systemId = systemId;
+            this.environmentId = environmentId;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.annotation.Nonnull;
+
+import org.qubership.atp.tdm.model.FilterType;
+import org.qubership.atp.tdm.utils.TestDataUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps computed column filter types per test data table, so column metadata is not recalculated
+ * with COUNT(DISTINCT) on every read. Entries of a table are dropped by any data or structure change
+ * of that table, once the transaction which made the change is committed; expiration is only a safety net
+ * for changes made outside of the service.
+ */
+@Slf4j
+@Component
+public class ColumnFilterTypeCache {
+
+    private final Cache<String, ConcurrentMap<String, FilterType>> cache;
+
+    /**
+     * Default constructor.
+     */
+    public ColumnFilterTypeCache(@Value("${tdm.column.filter.type.cache.duration:10}") Integer cacheDuration,
+                                 @Value("${tdm.column.filter.type.cache.size:5000}") Integer cacheSize) {
+        log.info("Column filter type cache duration: {} minutes, size: {} tables.", cacheDuration, cacheSize);
+        this.cache = CacheBuilder.newBuilder()
+                .expireAfterWrite(cacheDuration, TimeUnit.MINUTES)
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    /**
+     * Returns cached filter type of the column or computes and caches it.
+     *
+     * @param tableName  - table name.
+     * @param columnName - column name.
+     * @param occupied   - whether filter type is calculated for occupied rows.
+     * @param loader     - filter type calculation.
+     * @return filter type.
+     */
+    public FilterType get(@Nonnull String tableName, @Nonnull String columnName, boolean occupied,
+                          @Nonnull Supplier<FilterType> loader) {
+        ConcurrentMap<String, FilterType> columns;
+        try {
+            columns = cache.get(tableName, ConcurrentHashMap::new);
+        } catch (ExecutionException e) {
+            return loader.get();
+        }
+        String key = (occupied ? "OCCUPIED:" : "AVAILABLE:") + columnName;
+        FilterType filterType = columns.get(key);
+        if (filterType == null) {
+            filterType = loader.get();
+            columns.put(key, filterType);
+        }
+        return filterType;
+    }
+
+    /**
+     * Drops cached filter types of the table. Inside a transaction they are dropped again after commit,
+     * as they could be cached from the state before commit meanwhile.
+     *
+     * @param tableName - table name.
+     */
+    public void invalidate(@Nonnull String tableName) {
+        cache.invalidate(tableName);
+        TestDataUtils.runAfterCommit(() -> cache.invalidate(tableName));
+    }
+
+    /**
+     * Drops cached filter types of all tables.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        TestDataUtils.runAfterCommit(cache::invalidateAll);
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps connection pools to external environment databases, one pool per connection url and credentials.
+ * Pools are bounded, release idle physical connections, validate connections before giving them out
+ * and publish hikaricp_* metrics. Pool which is not used for a while is evicted.
+ * An evicted pool is closed only when none of its connections is in use, and data sources handed out
+ * by the registry resolve the pool on every connection request, so long running jobs are not affected
+ * by eviction. A pool is evicted on failure only if the database rejects the credentials.
+ */
+@Slf4j
+@Component
+public class ExternalDataSourceRegistry {
+
+    private static final String POOL_NAME_PREFIX = "tdm-external-";
+    private static final String INVALID_AUTHORIZATION_SQL_STATE_CLASS = "28";
+    private static final int ORACLE_INVALID_CREDENTIALS_ERROR_CODE = 1017;
+
+    private final Cache<String, HikariDataSource> dataSources;
+    private final Set<HikariDataSource> evicted = ConcurrentHashMap.newKeySet();
+    private final MeterRegistry meterRegistry;
+    private final int maxPoolSize;
+    private final long connectionTimeout;
+    private final long idleTimeout;
+    private final long keepaliveTime;
+
+    /**
+     * Default constructor.
+     */
+    public ExternalDataSourceRegistry(@Nonnull MeterRegistry meterRegistry,
+                                      @Value("${tdm.external.pool.max.size:5}") int maxPoolSize,
+                                      @Value("${tdm.external.pool.connection.timeout:30000}") long connectionTimeout,
+                                      @Value("${tdm.external.pool.idle.timeout:300000}") long idleTimeout,
+                                      @Value("${tdm.external.pool.keepalive.time:120000}") long keepaliveTime,
+                                      @Value("${tdm.external.pool.count:200}") int poolsCount,
+                                      @Value("${tdm.external.pool.expire.minutes:30}") int expireMinutes) {
+        log.info("External connection pools: max size: {}, pools count: {}, expire after: {} minutes.",
+                maxPoolSize, poolsCount, expireMinutes);
+        this.meterRegistry = meterRegistry;
+        this.maxPoolSize = maxPoolSize;
+        this.connectionTimeout = connectionTimeout;
+        this.idleTimeout = idleTimeout;
+        this.keepaliveTime = keepaliveTime;
+        this.dataSources = CacheBuilder.newBuilder()
+                .maximumSize(poolsCount)
+                .expireAfterAccess(expireMinutes, TimeUnit.MINUTES)
+                .removalListener((RemovalListener<String, HikariDataSource>) notification -> {
+                    log.info("Evict connection pool {}, cause: {}", notification.getValue().getPoolName(),
+                            notification.getCause());
+                    evicted.add(notification.getValue());
+                    closeIdleEvicted();
+                })
+                .build();
+    }
+
+    /**
+     * Returns data source for given url and credentials. The data source takes connections from the pool
+     * of the registry, so it stays usable after the pool is evicted.
+     *
+     * @param jdbcUrl  - connection url.
+     * @param user     - decrypted user name.
+     * @param password - decrypted password.
+     * @return data source.
+     */
+    public DataSource getDataSource(@Nonnull String jdbcUrl, @Nullable String user, @Nullable String password) {
+        return new RegistryDataSource(jdbcUrl, user, password);
+    }
+
+    /**
+     * Returns pooled connection for given url and credentials, pool is created on first request.
+     * Creation of pool fails fast if database is not reachable or credentials are wrong.
+     *
+     * @param jdbcUrl  - connection url.
+     * @param user     - decrypted user name.
+     * @param password - decrypted password.
+     * @return connection, closing it returns the connection to the pool.
+     */
+    public Connection getConnection(@Nonnull String jdbcUrl, @Nullable String user, @Nullable String password)
+            throws SQLException {
+        closeIdleEvicted();
+        String key = key(jdbcUrl, user, password);
+        HikariDataSource dataSource = getPool(key, jdbcUrl, user, password);
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            if (isInvalidCredentials(e)) {
+                dataSources.asMap().remove(key, dataSource);
+                throw e;
+            }
+            if (!dataSource.isClosed()) {
+                throw e;
+            }
+            log.debug("Connection pool {} was closed, retry with current pool.", dataSource.getPoolName());
+            return getPool(key, jdbcUrl, user, password).getConnection();
+        }
+    }
+
+    /**
+     * Closes all pools.
+     */
+    @PreDestroy
+    public void closeAll() {
+        dataSources.invalidateAll();
+        evicted.forEach(HikariDataSource::close);
+        evicted.clear();
+    }
+
+    private HikariDataSource getPool(String key, String jdbcUrl, String user, String password)
+            throws SQLException {
+        try {
+            return dataSources.get(key, () -> createDataSource(key, jdbcUrl, user, password));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new SQLException("Unable to create connection pool " + poolName(key), e.getCause());
+        }
+    }
+
+    private void closeIdleEvicted() {
+        evicted.removeIf(dataSource -> {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            if (pool != null && pool.getActiveConnections() > 0) {
+                return false;
+            }
+            log.info("Close connection pool {}", dataSource.getPoolName());
+            dataSource.close();
+            return true;
+        });
+    }
+
+    private static boolean isInvalidCredentials(@Nonnull SQLException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException) {
+                SQLException sqlException = (SQLException) cause;
+                if (sqlException.getErrorCode() == ORACLE_INVALID_CREDENTIALS_ERROR_CODE
+                        || Objects.toString(sqlException.getSQLState(), "")
+                        .startsWith(INVALID_AUTHORIZATION_SQL_STATE_CLASS)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private HikariDataSource createDataSource(String key, String jdbcUrl, String user, String password) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName(key));
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(user);
+        config.setPassword(password);
+        config.setMinimumIdle(0);
+        config.setMaximumPoolSize(maxPoolSize);
+        config.setConnectionTimeout(connectionTimeout);
+        config.setIdleTimeout(idleTimeout);
+        config.setKeepaliveTime(keepaliveTime);
+        config.setMetricRegistry(meterRegistry);
+        log.info("Create connection pool {}", config.getPoolName());
+        return new HikariDataSource(config);
+    }
+
+    private static String poolName(String key) {
+        return POOL_NAME_PREFIX + Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString()
+                .substring(0, 12);
+    }
+
+    private static String key(String jdbcUrl, String user, String password) {
+        String passwordHash = Hashing.sha256()
+                .hashString(Objects.toString(password, ""), StandardCharsets.UTF_8).toString();
+        return jdbcUrl + "|" + user + "|" + passwordHash;
+    }
+
+    /**
+     * Data source which takes connections from the current pool of its url and credentials.
+     */
+    private final class RegistryDataSource extends AbstractDataSource {
+
+        private final String jdbcUrl;
+        private final String user;
+        private final String password;
+
+        private RegistryDataSource(String jdbcUrl, String user, String password) {
+            this.jdbcUrl = jdbcUrl;
+            this.user = user;
+            this.password = password;
+        }
+
+        @Override
+        @Nonnull
+        public Connection getConnection() throws SQLException {
+            return ExternalDataSourceRegistry.this.getConnection(jdbcUrl, user, password);
+        }
+
+        @Override
+        @Nonnull
+        public Connection getConnection(String otherUser, String otherPassword) throws SQLException {
+            return ExternalDataSourceRegistry.this.getConnection(jdbcUrl, otherUser, otherPassword);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RegistryDataSource)) {
+                return false;
+            }
+            return key(jdbcUrl, user, password).equals(key(((RegistryDataSource) o).jdbcUrl,
+                    ((RegistryDataSource) o).user, ((RegistryDataSource) o).password));
+        }
+
+        @Override
+        public int hashCode() {
+            return key(jdbcUrl, user, password).hashCode();
+        }
+    }
+}
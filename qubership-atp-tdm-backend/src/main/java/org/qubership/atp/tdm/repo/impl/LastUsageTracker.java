@@ -0,0 +1,143 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collects last usage of test data tables and writes it behind with one UPDATE every flush interval
+ * and on shutdown. Last usage is kept with day granularity, so a table is written at most once a day.
+ * Pending tables are bounded, when the limit is reached the caller flushes them itself; if the flush fails,
+ * new tables are dropped until pending ones are written.
+ */
+@Slf4j
+@Component
+public class LastUsageTracker extends AbstractWriteBehind {
+
+    private static final int UPDATE_CHUNK_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int maxPending;
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final Cache<String, LocalDate> written;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param jdbcTemplate  - template to write last usage.
+     * @param meterRegistry - registry to publish metrics.
+     * @param maxPending    - maximum number of tables waiting to be written.
+     * @param cacheSize     - number of tables remembered as written today.
+     * @param flushInterval - interval between flushes in milliseconds.
+     */
+    public LastUsageTracker(@Nonnull JdbcTemplate jdbcTemplate, @Nonnull MeterRegistry meterRegistry,
+                            @Value("${tdm.last.usage.pending.size:10000}") int maxPending,
+                            @Value("${tdm.last.usage.cache.size:20000}") int cacheSize,
+                            @Value("${tdm.last.usage.flush.interval:5000}") long flushInterval) {
+        super("last_usage", meterRegistry, flushInterval);
+        log.info("Last usage pending size: {}, cache size: {}, flush interval: {} ms.",
+                maxPending, cacheSize, flushInterval);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.maxPending = maxPending;
+        this.written = CacheBuilder.newBuilder()
+                .expireAfterWrite(1, TimeUnit.DAYS)
+                .maximumSize(cacheSize)
+                .build();
+        start();
+    }
+
+    /**
+     * Mark table as used today.
+     *
+     * @param tableName - table name.
+     */
+    public void touch(@Nonnull String tableName) {
+        if (LocalDate.now().equals(written.getIfPresent(tableName)) || pending.containsKey(tableName)) {
+            return;
+        }
+        if (pending.size() >= maxPending) {
+            flushInCaller();
+        }
+        if (pending.size() < maxPending) {
+            pending.putIfAbsent(tableName, System.currentTimeMillis());
+        } else {
+            drop(1);
+        }
+    }
+
+    @Override
+    protected void writePending() {
+        List<String> tableNames = new ArrayList<>(pending.keySet());
+        if (tableNames.isEmpty()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        for (List<String> chunk : Lists.partition(tableNames, UPDATE_CHUNK_SIZE)) {
+            Map<String, Long> chunkPending = new HashMap<>();
+            chunk.forEach(tableName -> {
+                Long touchedAt = pending.remove(tableName);
+                if (touchedAt != null) {
+                    chunkPending.put(tableName, touchedAt);
+                }
+            });
+            try {
+                jdbcTemplate.update(TestDataQueries.UPDATE_LAST_USAGE, new MapSqlParameterSource()
+                        .addValue("date", Date.valueOf(today))
+                        .addValue("tableNames", chunk));
+                chunk.forEach(tableName -> written.put(tableName, today));
+            } catch (Exception e) {
+                chunkPending.forEach(pending::putIfAbsent);
+                throw e;
+            }
+        }
+        log.debug("Last usage written for {} tables.", tableNames.size());
+    }
+
+    @Override
+    protected int getPending() {
+        return pending.size();
+    }
+
+    @Override
+    @Nullable
+    protected Long getOldestPendingTime() {
+        return pending.values().stream().min(Long::compare).orElse(null);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes occupy statistics asynchronously. Statistics are put into a bounded buffer and written by one JDBC
+ * batch upsert every flush interval, or as soon as a batch is collected. When the buffer is full, the caller
+ * flushes it itself, so a crash loses at most one flush interval or one buffer of statistics.
+ * A batch which failed to be written is written first by the next flush, so newer statistics of a row win.
+ */
+@Slf4j
+@Component
+public class OccupyStatisticWriter extends AbstractWriteBehind {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final BlockingQueue<PendingStatistic> buffer;
+    private volatile List<PendingStatistic> unwrittenBatch = Collections.emptyList();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param jdbcTemplate   - template to write statistics.
+     * @param meterRegistry  - registry to publish buffer metrics.
+     * @param bufferCapacity - maximum number of statistics waiting to be written.
+     * @param batchSize      - number of statistics which triggers a flush before the interval is over.
+     * @param flushInterval  - interval between flushes in milliseconds.
+     */
+    public OccupyStatisticWriter(@Nonnull JdbcTemplate jdbcTemplate, @Nonnull MeterRegistry meterRegistry,
+                                 @Value("${tdm.occupy.statistic.buffer.capacity:50000}") int bufferCapacity,
+                                 @Value("${tdm.occupy.statistic.batch.size:1000}") int batchSize,
+                                 @Value("${tdm.occupy.statistic.flush.interval:1000}") long flushInterval) {
+        super("occupy_statistic", meterRegistry, flushInterval);
+        log.info("Occupy statistic buffer capacity: {}, batch size: {}, flush interval: {} ms.",
+                bufferCapacity, batchSize, flushInterval);
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        start();
+    }
+
+    /**
+     * Put statistics to the buffer, they are written by the next flush.
+     *
+     * @param statistics - occupy statistics of rows.
+     */
+    public void write(@Nonnull List<TestDataOccupyStatistic> statistics) {
+        int droppedCount = 0;
+        for (TestDataOccupyStatistic statistic : statistics) {
+            PendingStatistic pendingStatistic = new PendingStatistic(statistic, System.currentTimeMillis());
+            if (!buffer.offer(pendingStatistic)) {
+                flushInCaller();
+                if (!buffer.offer(pendingStatistic)) {
+                    droppedCount++;
+                }
+            }
+        }
+        if (droppedCount > 0) {
+            drop(droppedCount);
+        }
+        if (buffer.size() >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    @Override
+    protected void writePending() {
+        while (true) {
+            List<PendingStatistic> batch = new ArrayList<>(unwrittenBatch);
+            buffer.drainTo(batch, batchSize - batch.size());
+            if (batch.isEmpty()) {
+                return;
+            }
+            unwrittenBatch = batch;
+            writeBatch(batch);
+            unwrittenBatch = Collections.emptyList();
+        }
+    }
+
+    @Override
+    protected int getPending() {
+        return unwrittenBatch.size() + buffer.size();
+    }
+
+    @Override
+    @Nullable
+    protected Long getOldestPendingTime() {
+        List<PendingStatistic> unwritten = unwrittenBatch;
+        PendingStatistic oldest = unwritten.isEmpty() ? buffer.peek() : unwritten.get(0);
+        return Objects.isNull(oldest) ? null : oldest.bufferedAt;
+    }
+
+    private void writeBatch(@Nonnull List<PendingStatistic> batch) {
+        Map<UUID, TestDataOccupyStatistic> statistics = new LinkedHashMap<>();
+        batch.forEach(pendingStatistic -> statistics.put(pendingStatistic.statistic.getRowId(),
+                pendingStatistic.statistic));
+        List<Object[]> parameters = new ArrayList<>(statistics.size());
+        statistics.values().forEach(statistic -> parameters.add(new Object[]{
+                statistic.getRowId(), statistic.getProjectId(), statistic.getSystemId(), statistic.getTableName(),
+                statistic.getTableTitle(), statistic.getOccupiedBy(), toTimestamp(statistic.getOccupiedDate()),
+                toTimestamp(statistic.getCreatedWhen())}));
+        jdbcTemplate.batchUpdate(TestDataQueries.UPSERT_OCCUPY_STATISTIC, parameters);
+        log.debug("Occupy statistics written: {}", parameters.size());
+    }
+
+    @Nullable
+    private static Timestamp toTimestamp(@Nullable LocalDateTime dateTime) {
+        return Objects.isNull(dateTime) ? null : Timestamp.valueOf(dateTime);
+    }
+
+    @AllArgsConstructor
+    private static class PendingStatistic {
+
+        private final TestDataOccupyStatistic statistic;
+        private final long bufferedAt;
+    }
+}
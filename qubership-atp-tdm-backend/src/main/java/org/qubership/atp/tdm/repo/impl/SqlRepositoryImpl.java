@@ -19,11 +19,9 @@ package org.qubership.atp.tdm.repo.impl;
 import static java.lang.String.format;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.util.List;
 
 import javax.annotation.Nonnull;
-import javax.sql.DataSource;
 
 import org.qubership.atp.crypt.api.Decryptor;
 import org.qubership.atp.crypt.exception.AtpDecryptException;
@@ -40,7 +38,6 @@ import org.qubership.atp.tdm.repo.SqlRepository;
 import org.qubership.atp.tdm.utils.TestDataUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.stereotype.Repository;
 
 import com.google.common.base.Strings;
@@ -55,14 +52,17 @@ public class SqlRepositoryImpl implements SqlRepository {
     private static final String H2_DB_TYPE = "h2";
     private static final String DB_CONNECTION_NAME = "DB";
     private final Decryptor decryptor;
+    private final ExternalDataSourceRegistry dataSourceRegistry;
 
     @Autowired
-    public SqlRepositoryImpl(@Nonnull Decryptor decryptor) {
+    public SqlRepositoryImpl(@Nonnull Decryptor decryptor, @Nonnull ExternalDataSourceRegistry dataSourceRegistry) {
         this.decryptor = decryptor;
+        this.dataSourceRegistry = dataSourceRegistry;
     }
 
     /**
-     * Returns {@link java.sql.Connection} that is instantiated by the provided server object.
+     * Returns pooled {@link java.sql.Connection} to the database of the provided server object.
+     * Closing the connection returns it to the pool.
      *
      * @param server server representation object
      * @return Returns {@link java.sql.Connection}
@@ -71,16 +71,20 @@ public class SqlRepositoryImpl implements SqlRepository {
     public Connection createConnection(Server server) {
         String dbType = server.getProperty("db_type");
         getDbDriverName(dbType);
-        String jdbcUrl = server.getProperty("jdbc_url");
-        String dbLogin = server.getProperty("db_login");
-        String dbPassword = server.getProperty("db_password");
+        String connectionString = getConnectionString(dbType, server);
+        try {
+            return getConnection(connectionString, server);
+        } catch (Exception e) {
+            log.error(format(TdmDbConnectionException.DEFAULT_MESSAGE, connectionString), e);
+            throw new TdmDbConnectionException(connectionString);
+        }
+    }
+
+    private String getConnectionString(String dbType, Server server) {
         String connectionString = createConnectionString(dbType, server);
         validateConnectionString(connectionString);
-        if (Strings.isNullOrEmpty(jdbcUrl)) {
-            return createConnection(connectionString, dbLogin, dbPassword);
-        } else {
-            return createConnection(jdbcUrl, dbLogin, dbPassword);
-        }
+        String jdbcUrl = server.getProperty("jdbc_url");
+        return Strings.isNullOrEmpty(jdbcUrl) ? connectionString : jdbcUrl;
     }
 
     private void validateConnectionString(String connectionString) {
@@ -91,15 +95,11 @@ public class SqlRepositoryImpl implements SqlRepository {
         }
     }
 
-    private Connection createConnection(String connectionString, String user, String password) {
-        try {
-            log.debug("Connection string: {}", connectionString);
-            return DriverManager.getConnection(connectionString, decryptor.decryptIfEncrypted(user),
-                    decryptor.decryptIfEncrypted(password));
-        } catch (Exception e) {
-            log.error(format(TdmDbConnectionException.DEFAULT_MESSAGE, connectionString), e);
-            throw new TdmDbConnectionException(connectionString);
-        }
+    private Connection getConnection(String connectionString, Server server) throws Exception {
+        log.debug("Connection string: {}", connectionString);
+        String user = getDecryptedProperty(server, "db_login");
+        String password = getDecryptedProperty(server, "db_password");
+        return dataSourceRegistry.getConnection(connectionString, user, password);
     }
 
     @Override
@@ -114,18 +114,14 @@ public class SqlRepositoryImpl implements SqlRepository {
     @Override
     public JdbcTemplate createJdbcTemplate(Server server) {
         String dbType = server.getProperty("db_type");
-        String dbDriverName = getDbDriverName(dbType);
-        try (Connection connection = createConnection(server)) {
-            JdbcTemplate jdbcTemplate = null;
-            if (server.getProperty("jdbc_url").isEmpty()) {
-                String jdbcUrl = createConnectionString(dbType, server);
-                jdbcTemplate = new JdbcTemplate(createDataSource(dbDriverName, jdbcUrl,
-                        server.getProperty("db_login"), server.getProperty("db_password")));
-            } else {
-                jdbcTemplate = new JdbcTemplate(createDataSource(dbDriverName, server.getProperty("jdbc_url"),
-                        server.getProperty("db_login"), server.getProperty("db_password")));
+        getDbDriverName(dbType);
+        try {
+            String connectionString = getConnectionString(dbType, server);
+            try (Connection connection = getConnection(connectionString, server)) {
+                log.debug("Connection to {} checked, closed: {}", connectionString, connection.isClosed());
             }
-            return jdbcTemplate;
+            return new JdbcTemplate(dataSourceRegistry.getDataSource(connectionString,
+                    getDecryptedProperty(server, "db_login"), getDecryptedProperty(server, "db_password")));
         } catch (Exception e) {
             log.error(TdmDbJdbsTemplateException.DEFAULT_MESSAGE, e);
             throw new TdmDbJdbsTemplateException();
@@ -139,15 +135,6 @@ public class SqlRepositoryImpl implements SqlRepository {
         return template;
     }
 
-    private DataSource createDataSource(String driverName, String connectionString, String user, String password) {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName(driverName);
-        dataSource.setUrl(connectionString);
-        dataSource.setUsername(getDecryptIfEncrypted(user));
-        dataSource.setPassword(getDecryptIfEncrypted(password));
-        return dataSource;
-    }
-
     /**
      * Set db driver.
      */
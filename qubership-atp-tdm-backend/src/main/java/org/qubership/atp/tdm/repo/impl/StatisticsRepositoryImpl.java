@@ -16,15 +16,20 @@
 
 package org.qubership.atp.tdm.repo.impl;
 
+import java.sql.Date;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
@@ -36,19 +41,21 @@ import org.qubership.atp.tdm.model.statistics.GeneralStatisticsItem;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatistics;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatisticsInner;
 import org.qubership.atp.tdm.model.statistics.OutdatedStatisticsItem;
-import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
 import org.qubership.atp.tdm.model.statistics.StatisticsItem;
 import org.qubership.atp.tdm.model.statistics.report.StatisticsReport;
+import org.qubership.atp.tdm.model.table.TestDataOccupyReportGroupBy;
 import org.qubership.atp.tdm.repo.ProjectInformationRepository;
 import org.qubership.atp.tdm.repo.StatisticsRepository;
-import org.qubership.atp.tdm.repo.impl.extractors.ConsumedStatisticsExtractor;
-import org.qubership.atp.tdm.repo.impl.extractors.GeneralStatisticsExtractor;
 import org.qubership.atp.tdm.repo.impl.extractors.OutdatedStatisticsExtractor;
 import org.qubership.atp.tdm.repo.impl.extractors.TestDataExtractorProvider;
 import org.qubership.atp.tdm.utils.DataUtils;
+import org.qubership.atp.tdm.utils.StatisticsBuckets;
 import org.qubership.atp.tdm.utils.TestDataQueries;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import org.qubership.atp.tdm.exceptions.internal.TdmStatisticsException;
@@ -62,8 +69,10 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
     private static final String NA = "N/A";
 
     private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
     private final TestDataExtractorProvider extractorProvider;
     private final ProjectInformationRepository projectInformationRepository;
+    private final AvailabilityStatisticsCounter availabilityStatisticsCounter;
 
     /**
      * TestDataRepositoryImpl Constructor.
@@ -71,10 +80,13 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
     @Autowired
     public StatisticsRepositoryImpl(@Nonnull JdbcTemplate jdbcTemplate,
                                     @Nonnull TestDataExtractorProvider extractorProvider,
-                                    @Nonnull ProjectInformationRepository projectInformationRepository) {
+                                    @Nonnull ProjectInformationRepository projectInformationRepository,
+                                    @Nonnull AvailabilityStatisticsCounter availabilityStatisticsCounter) {
         this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
         this.extractorProvider = extractorProvider;
         this.projectInformationRepository = projectInformationRepository;
+        this.availabilityStatisticsCounter = availabilityStatisticsCounter;
     }
 
     @Override
@@ -83,8 +95,10 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
         List<GeneralStatisticsItem> listStatisticsItems = new ArrayList<>();
         String timeZone = getTimeZone(projectId);
         Map<String, String> timeStampsMap = DataUtils.generateTimeStampDailyRange(timeZone);
-        catalogList.forEach(item -> {
-            GeneralStatisticsItem statisticsItem = getGeneralStatisticsItem(item, timeStampsMap);
+        List<GeneralStatisticsItem> statisticsItems = availabilityStatisticsCounter.count(catalogList, timeStampsMap);
+        for (int i = 0; i < catalogList.size(); i++) {
+            TestDataTableCatalog item = catalogList.get(i);
+            GeneralStatisticsItem statisticsItem = statisticsItems.get(i);
             if (Objects.nonNull(statisticsItem)) {
                 UUID system = item.getSystemId();
                 if (system != null) {
@@ -92,7 +106,7 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                 }
                 listStatisticsItems.add(statisticsItem);
             }
-        });
+        }
         listStatisticsItems.sort(Comparator.comparing(GeneralStatisticsItem::getContext));
         return listStatisticsItems;
     }
@@ -102,16 +116,16 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                                                      @Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
                                                      @Nonnull LocalDate dateTo) {
         ConsumedStatistics consumedStatistics = new ConsumedStatistics();
-        consumedStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
+        StatisticsBuckets buckets = StatisticsBuckets.of(dateFrom, dateTo);
+        consumedStatistics.setDates(new ArrayList<>(buckets.getDates()));
+        Map<String, long[]> consumedByTable = getCountsByTable(TestDataQueries.GET_TEST_DATA_CONSUMPTION_BY_PROJECT,
+                projectId, buckets);
         List<ConsumedStatisticsItem> listStatisticsItems = new ArrayList<>();
         occupyStatisticList.forEach(occupyStatisticItem -> {
             ConsumedStatisticsItem statisticsItem = new ConsumedStatisticsItem(occupyStatisticItem.getTableTitle());
-            ConsumedStatisticsExtractor extractor = extractorProvider.consumedStatisticsExtractor();
-            List<Map<LocalDate, Long>> dbOutput = jdbcTemplate.query(TestDataQueries.GET_TEST_DATA_CONSUMPTION_ITEM,
-                    extractor, occupyStatisticItem.getTableName().toLowerCase(),
-                    dateFrom.toString(), dateTo.toString());
-            List<Long> consumed = calculateStatistic(dbOutput, dateFrom, dateTo, statisticsItem, occupyStatisticItem);
-            statisticsItem.setConsumed(consumed);
+            statisticsItem.setConsumed(buckets.toList(
+                    consumedByTable.get(occupyStatisticItem.getTableName().toLowerCase())));
+            setSystem(statisticsItem, occupyStatisticItem);
             listStatisticsItems.add(statisticsItem);
         });
         listStatisticsItems.sort(Comparator.comparing(ConsumedStatisticsItem::getContext));
@@ -119,80 +133,31 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
         return consumedStatistics;
     }
 
-    private List<Long> calculateStatistic(List<Map<LocalDate, Long>> dbOutput, LocalDate dateFrom, LocalDate dateTo,
-                                          StatisticsItem statisticsItem, TestDataOccupyStatistic occupyStatisticItem) {
-        List<Long> consumed = new ArrayList<>();
-        long count;
-        switch (DataUtils.statisticsInterval) {
-            case YEARS:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusYears(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-            case WEEKS:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()
-                                    && dateFrom.getMonth() == entry.getKey().getMonth()
-                                    && (entry.getKey().isEqual(dateFrom) || entry.getKey().isAfter(dateFrom))
-                                    && entry.getKey().isBefore(dateFrom.plusWeeks(1))) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusWeeks(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-            case DAYS:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()
-                                    && dateFrom.getMonth() == entry.getKey().getMonth()
-                                    && dateFrom.getDayOfMonth() == entry.getKey().getDayOfMonth()) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusDays(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-            default:
-                do {
-                    count = 0L;
-                    for (Map<LocalDate, Long> outIt : dbOutput) {
-                        for (Map.Entry<LocalDate, Long> entry : outIt.entrySet()) {
-                            if (dateFrom.getYear() == entry.getKey().getYear()
-                                    && dateFrom.getMonth() == entry.getKey().getMonth()) {
-                                count += entry.getValue();
-                            }
-                        }
-                    }
-                    consumed.add(count);
-                    dateFrom = dateFrom.plusMonths(1);
-                } while (!dateFrom.isAfter(dateTo));
-                break;
-        }
+    /**
+     * Count rows of all project tables by one query over the daily statistics, counts are grouped by table
+     * and interval bucket.
+     */
+    private Map<String, long[]> getCountsByTable(@Nonnull String queryTemplate, @Nonnull UUID projectId,
+                                                 @Nonnull StatisticsBuckets buckets) {
+        String query = String.format(queryTemplate, buckets.getBucketExpression("stat_date"));
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("dateFrom", Date.valueOf(buckets.getDateFrom()))
+                .addValue("dateTo", Date.valueOf(buckets.getDateTo()));
+        Map<String, long[]> countsByTable = new HashMap<>();
+        namedParameterJdbcTemplate.query(query, parameters, (RowCallbackHandler) resultSet ->
+                buckets.add(countsByTable.computeIfAbsent(resultSet.getString("table_name"),
+                        tableName -> new long[buckets.getCount()]),
+                        resultSet.getDate("bucket").toLocalDate(), resultSet.getLong("count")));
+        return countsByTable;
+    }
+
+    private static void setSystem(@Nonnull StatisticsItem statisticsItem,
+                                  @Nonnull TestDataOccupyStatistic occupyStatisticItem) {
         UUID system = occupyStatisticItem.getSystemId();
         if (system != null) {
             statisticsItem.setSystem(system.toString());
         }
-
-        return consumed;
     }
 
     @Override
@@ -200,14 +165,11 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                                                              @Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
                                                              @Nonnull LocalDate dateTo, int expirationDate) {
         OutdatedStatistics outdatedStatistics = new OutdatedStatistics();
-        outdatedStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
+        StatisticsBuckets buckets = StatisticsBuckets.of(dateFrom, dateTo);
+        outdatedStatistics.setDates(new ArrayList<>(buckets.getDates()));
         List<OutdatedStatisticsItem> listStatisticsItems = new ArrayList<>();
         catalogList.forEach(occupyStatisticItem -> {
-            LocalDate iterDate = dateFrom;
             OutdatedStatisticsItem statisticsItem = new OutdatedStatisticsItem(occupyStatisticItem.getTableTitle());
-            List<Long> created = new ArrayList<>();
-            List<Long> consumed = new ArrayList<>();
-            List<Long> outdated = new ArrayList<>();
             List<OutdatedStatisticsInner> dbOutput;
 
             try {
@@ -225,98 +187,21 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
             }
 
             if (Objects.nonNull(dbOutput)) {
-                long countCreated;
-                long countConsumed;
-                long countOutdated;
-                switch (DataUtils.statisticsInterval) {
-                    case YEARS:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusYears(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
-                    case WEEKS:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()
-                                        && iterDate.getMonth() == outdatedStatisticsItem.getDate().getMonth()
-                                        && (outdatedStatisticsItem.getDate().isEqual(iterDate)
-                                        || outdatedStatisticsItem.getDate().isAfter(iterDate))
-                                        && outdatedStatisticsItem.getDate().isBefore(iterDate.plusWeeks(1))) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusWeeks(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
-                    case DAYS:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()
-                                        && iterDate.getMonth() == outdatedStatisticsItem.getDate().getMonth()
-                                        && iterDate.getDayOfMonth() == outdatedStatisticsItem.getDate()
-                                        .getDayOfMonth()) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusDays(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
-                    default:
-                        do {
-                            countCreated = 0L;
-                            countConsumed = 0L;
-                            countOutdated = 0L;
-                            for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
-                                if (iterDate.getYear() == outdatedStatisticsItem.getDate().getYear()
-                                        && iterDate.getMonth() == outdatedStatisticsItem.getDate().getMonth()) {
-                                    countCreated += outdatedStatisticsItem.getCreated();
-                                    countConsumed += outdatedStatisticsItem.getConsumed();
-                                    countOutdated += outdatedStatisticsItem.getOutdated();
-                                }
-                            }
-                            created.add(countCreated);
-                            consumed.add(countConsumed);
-                            outdated.add(countOutdated);
-                            iterDate = iterDate.plusMonths(1);
-                        } while (!iterDate.isAfter(dateTo));
-                        break;
+                long[] created = new long[buckets.getCount()];
+                long[] consumed = new long[buckets.getCount()];
+                long[] outdated = new long[buckets.getCount()];
+                for (OutdatedStatisticsInner outdatedStatisticsItem : dbOutput) {
+                    buckets.add(created, outdatedStatisticsItem.getDate(), outdatedStatisticsItem.getCreated());
+                    buckets.add(consumed, outdatedStatisticsItem.getDate(), outdatedStatisticsItem.getConsumed());
+                    buckets.add(outdated, outdatedStatisticsItem.getDate(), outdatedStatisticsItem.getOutdated());
                 }
                 UUID system = occupyStatisticItem.getSystemId();
                 if (system != null) {
                     statisticsItem.setSystem(system.toString());
                 }
-                statisticsItem.setCreated(created);
-                statisticsItem.setConsumed(consumed);
-                statisticsItem.setOutdated(outdated);
+                statisticsItem.setCreated(buckets.toList(created));
+                statisticsItem.setConsumed(buckets.toList(consumed));
+                statisticsItem.setOutdated(buckets.toList(outdated));
                 listStatisticsItems.add(statisticsItem);
             } else {
                 log.warn("Outdated data in table:[{}] not found.", occupyStatisticItem.getTableName());
@@ -332,16 +217,16 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
                                                  @Nonnull UUID projectId, @Nonnull LocalDate dateFrom,
                                                  @Nonnull LocalDate dateTo) {
         DateStatistics dateStatistics = new DateStatistics();
-        dateStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
+        StatisticsBuckets buckets = StatisticsBuckets.of(dateFrom, dateTo);
+        dateStatistics.setDates(new ArrayList<>(buckets.getDates()));
+        Map<String, long[]> createdByTable = getCountsByTable(TestDataQueries.GET_TEST_DATA_CREATED_WHEN_BY_PROJECT,
+                projectId, buckets);
         List<DateStatisticsItem> listStatisticsItems = new ArrayList<>();
         occupyStatisticList.forEach(occupyStatisticItem -> {
             DateStatisticsItem statisticsItem = new DateStatisticsItem(occupyStatisticItem.getTableTitle());
-            ConsumedStatisticsExtractor extractor = extractorProvider.consumedStatisticsExtractor();
-            List<Map<LocalDate, Long>> dbOutput = jdbcTemplate.query(TestDataQueries.GET_STATISTIC_CREATED_WHEN,
-                    extractor, occupyStatisticItem.getTableName().toLowerCase(),
-                    dateFrom.toString(), dateTo.toString());
-            List<Long> consumed = calculateStatistic(dbOutput, dateFrom, dateTo, statisticsItem, occupyStatisticItem);
-            statisticsItem.setCreated(consumed);
+            statisticsItem.setCreated(buckets.toList(
+                    createdByTable.get(occupyStatisticItem.getTableName().toLowerCase())));
+            setSystem(statisticsItem, occupyStatisticItem);
             listStatisticsItems.add(statisticsItem);
         });
         listStatisticsItems.sort(Comparator.comparing(DateStatisticsItem::getContext));
@@ -355,11 +240,12 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
         List<StatisticsReport> statisticsReport = new ArrayList<>();
         String timeZone = getTimeZone(projectId);
         Map<String, String> timeStampsMap = DataUtils.generateTimeStampDailyRange(timeZone);
-        catalogList.forEach(item -> {
-            GeneralStatisticsItem statisticsItem = getGeneralStatisticsItem(item, timeStampsMap);
+        List<GeneralStatisticsItem> statisticsItems = availabilityStatisticsCounter.count(catalogList, timeStampsMap);
+        for (int i = 0; i < catalogList.size(); i++) {
+            TestDataTableCatalog item = catalogList.get(i);
             String system = Objects.isNull(item.getSystemId()) ? NA : String.valueOf(item.getSystemId());
-            statisticsReport.add(new StatisticsReport(NA, system, statisticsItem));
-        });
+            statisticsReport.add(new StatisticsReport(NA, system, statisticsItems.get(i)));
+        }
         return statisticsReport;
     }
 
@@ -382,18 +268,38 @@ public class StatisticsRepositoryImpl implements StatisticsRepository {
         return result;
     }
 
+    @Override
+    public List<TestDataOccupyStatistic> getStatisticsTables(@Nonnull UUID projectId, @Nullable UUID systemId) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("projectId", projectId);
+        String query = TestDataQueries.GET_STATISTIC_TABLES_BY_PROJECT;
+        if (Objects.nonNull(systemId)) {
+            parameters.addValue("systemId", systemId);
+            query = TestDataQueries.GET_STATISTIC_TABLES_BY_PROJECT_AND_SYSTEM;
+        }
+        return namedParameterJdbcTemplate.query(query, parameters, (resultSet, rowNum) -> {
+            TestDataOccupyStatistic statistic = new TestDataOccupyStatistic();
+            statistic.setTableName(resultSet.getString("table_name"));
+            statistic.setProjectId(resultSet.getObject("project_id", UUID.class));
+            statistic.setSystemId(resultSet.getObject("system_id", UUID.class));
+            statistic.setTableTitle(resultSet.getString("table_title"));
+            return statistic;
+        });
+    }
+
+    @Override
+    public List<TestDataOccupyReportGroupBy> getOccupiedStatisticsGroupBy(@Nonnull UUID projectId,
+                                                                          @Nonnull LocalDateTime dateFrom) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("projectId", projectId)
+                .addValue("date", Timestamp.valueOf(dateFrom));
+        return namedParameterJdbcTemplate.query(TestDataQueries.GET_OCCUPIED_STATISTICS_GROUP_BY, parameters,
+                (resultSet, rowNum) -> new TestDataOccupyReportGroupBy(resultSet.getString("occupied_by"),
+                        resultSet.getDate("stat_date").toLocalDate().atStartOfDay(),
+                        resultSet.getString("table_name"), resultSet.getLong("occupied_count")));
+    }
+
     private String getTimeZone(UUID projectId) {
         return projectInformationRepository
                 .getProjectInformationTableByProjectId(projectId).getTimeZone();
     }
-
-    private GeneralStatisticsItem getGeneralStatisticsItem(TestDataTableCatalog item, Map<String, String> map) {
-        GeneralStatisticsExtractor extractor = extractorProvider.generalStatisticsExtractor(item.getTableTitle());
-        GeneralStatisticsItem statisticsItem = jdbcTemplate.query(
-                String.format(TestDataQueries.GET_TEST_DATA_AVAILABILITY_ITEM,
-                        item.getTableName().toLowerCase(), item.getTableName().toLowerCase(),
-                        item.getTableName().toLowerCase(), map.get("startTimeStamp"),
-                        map.get("endTimeStamp"), item.getTableName().toLowerCase()), extractor);
-        return statisticsItem;
-    }
 }
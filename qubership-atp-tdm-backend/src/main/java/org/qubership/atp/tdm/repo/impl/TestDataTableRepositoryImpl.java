@@ -19,18 +19,15 @@ package org.qubership.atp.tdm.repo.impl;
 import static java.lang.String.format;
 
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
-import java.sql.CallableStatement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.sql.Timestamp;
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
@@ -40,24 +37,21 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.hibernate.boot.model.naming.IllegalIdentifierException;
 import org.jetbrains.annotations.NotNull;
 import org.qubership.atp.common.lock.LockManager;
-import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.tdm.env.configurator.model.Server;
 import org.qubership.atp.tdm.exceptions.TdmInternalException;
 import org.qubership.atp.tdm.exceptions.db.TdmDbExecuteQueryException;
@@ -66,6 +60,7 @@ import org.qubership.atp.tdm.exceptions.file.TdmImportExcelTestDataException;
 import org.qubership.atp.tdm.exceptions.file.TdmWriteFileException;
 import org.qubership.atp.tdm.exceptions.internal.TdmCreateTestDataTableException;
 import org.qubership.atp.tdm.exceptions.internal.TdmInsertDataException;
+import org.qubership.atp.tdm.exceptions.internal.TdmSearchColumnException;
 import org.qubership.atp.tdm.exceptions.internal.TdmTestDataOccupiedException;
 import org.qubership.atp.tdm.model.ColumnValues;
 import org.qubership.atp.tdm.model.DateFormatter;
@@ -75,8 +70,10 @@ import org.qubership.atp.tdm.model.QueryInfo;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.TestDataTableImportInfo;
 import org.qubership.atp.tdm.model.cleanup.TestDataCleanupConfig;
+import org.qubership.atp.tdm.model.table.CountMode;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.TestDataTableIndex;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.model.table.conditions.factories.SearchConditionFactory;
@@ -87,16 +84,20 @@ import org.qubership.atp.tdm.repo.ImportInfoRepository;
 import org.qubership.atp.tdm.repo.SqlRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
 import org.qubership.atp.tdm.repo.impl.extractors.TestDataExtractorProvider;
+import org.qubership.atp.tdm.repo.impl.loader.TestDataCopyLoader;
 import org.qubership.atp.tdm.repo.impl.loader.TestDataExcelLoader;
+import org.qubership.atp.tdm.repo.impl.loader.TestDataSqlLoader;
 import org.qubership.atp.tdm.utils.DataUtils;
 import org.qubership.atp.tdm.utils.QueryEvaluator;
+import org.qubership.atp.tdm.utils.StatisticsBuckets;
 import org.qubership.atp.tdm.utils.TestDataQueries;
 import org.qubership.atp.tdm.utils.TestDataTableCreator;
+import org.qubership.atp.tdm.utils.TestDataTableIndexes;
 import org.qubership.atp.tdm.utils.TestDataUtils;
-import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -113,7 +114,6 @@ import com.healthmarketscience.sqlbuilder.BinaryCondition;
 import com.healthmarketscience.sqlbuilder.CustomExpression;
 import com.healthmarketscience.sqlbuilder.CustomSql;
 import com.healthmarketscience.sqlbuilder.UpdateQuery;
-import com.healthmarketscience.sqlbuilder.custom.postgresql.PgBinaryCondition;
 import com.healthmarketscience.sqlbuilder.dbspec.basic.DbColumn;
 import lombok.extern.slf4j.Slf4j;
 
@@ -122,8 +122,11 @@ import lombok.extern.slf4j.Slf4j;
 public class TestDataTableRepositoryImpl implements TestDataTableRepository {
 
     private static final String ALTER_COLUMN_HARD_MODE = "hard";
+    private static final String SHADOW_TABLE_SUFFIX = "_shadow";
     private static final Pattern INDEX_COLUMN_PATTERN = Pattern.compile("\\$\\{'([^']+)'}");
-    private static final Integer UPDATE_TEST_DATA_LIMIT = 100;
+    private static final UUID MIN_ROW_ID = new UUID(0L, 0L);
+    private static final String UPDATE_ROW_INDEX_COLUMN = "TDM_ROW_IDX";
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
     private static final String EXCEL_IMPORT_FILE_MASK = "ExcelForImport_%s.xlsx";
 
     private final JdbcTemplate jdbcTemplate;
@@ -137,7 +140,9 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     private final CatalogRepository catalogRepository;
     private final CleanupConfigRepository cleanupConfigRepository;
     private final LockManager lockManager;
-    private ConcurrentHashMap<String, String> cacheLastUsageTable = new ConcurrentHashMap<>();
+    private final ColumnFilterTypeCache columnFilterTypeCache;
+    private final LastUsageTracker lastUsageTracker;
+    private final CatalogIndex catalogIndex;
 
     @Value("${alter.column.mode}")
     private String alterColumnMode;
@@ -145,6 +150,27 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     @Value("${excel.import.directory}")
     private String excelImportDirectory;
 
+    @Value("${tdm.export.fetch.size:1000}")
+    private int exportFetchSize;
+
+    @Value("${tdm.bulk.load.copy.enabled:true}")
+    private boolean copyLoadEnabled;
+
+    @Value("${tdm.import.sql.fetch.size:1000}")
+    private int importSqlFetchSize;
+
+    @Value("${tdm.import.sql.chunk.size:5000}")
+    private int importSqlChunkSize;
+
+    @Value("${tdm.import.sql.queue.capacity:4}")
+    private int importSqlQueueCapacity;
+
+    @Value("${tdm.import.excel.chunk.size:5000}")
+    private int importExcelChunkSize;
+
+    @Value("${tdm.update.sql.chunk.size:100}")
+    private int updateSqlChunkSize;
+
     /**
      * TestDataTableRepository Constructor.
      */
@@ -157,7 +183,10 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                                        @Nonnull QueryEvaluator queryEvaluator,
                                        @Nonnull CatalogRepository catalogRepository,
                                        @Nonnull CleanupConfigRepository cleanupConfigRepository,
-                                       @Nonnull LockManager lockManager) {
+                                       @Nonnull LockManager lockManager,
+                                       @Nonnull ColumnFilterTypeCache columnFilterTypeCache,
+                                       @Nonnull LastUsageTracker lastUsageTracker,
+                                       @Nonnull CatalogIndex catalogIndex) {
         this.jdbcTemplate = jdbcTemplate;
         this.transactionManager = transactionManager;
         this.sqlRepository = sqlRepository;
@@ -168,6 +197,9 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         this.catalogRepository = catalogRepository;
         this.cleanupConfigRepository = cleanupConfigRepository;
         this.lockManager = lockManager;
+        this.columnFilterTypeCache = columnFilterTypeCache;
+        this.lastUsageTracker = lastUsageTracker;
+        this.catalogIndex = catalogIndex;
     }
 
     @Override
@@ -179,10 +211,13 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                 + format(EXCEL_IMPORT_FILE_MASK, currentTimeMillis));
         writeFileOnDiscSpace(file, destination);
         try {
-            try (OPCPackage opcPackage = OPCPackage.open(destination)) {
+            OPCPackage opcPackage = OPCPackage.open(destination, PackageAccess.READ);
+            try {
                 log.debug("File: {} successfully opened.", destination.getName());
-                TestDataExcelLoader loader = new TestDataExcelLoader(opcPackage);
-                return importTestData(tableName, exists, loader.process());
+                TestDataExcelLoader loader = new TestDataExcelLoader(opcPackage, importExcelChunkSize);
+                return importTestData(tableName, exists, loader);
+            } finally {
+                opcPackage.revert();
             }
         } catch (SQLException | BadSqlGrammarException ex) {
             log.error(format(TdmDbExecuteQueryException.DEFAULT_MESSAGE, ex.getMessage()), ex);
@@ -199,10 +234,10 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
 
     private void writeFileOnDiscSpace(MultipartFile sourceFile, File destinationFile) {
         log.debug("Writing file:{} to: {}", sourceFile.getName(), destinationFile.getName());
-        try (OutputStream fileOutputStream = new FileOutputStream(destinationFile)) {
-            fileOutputStream.write(sourceFile.getBytes());
+        try {
+            // Moves the upload if the container has already stored it on disk, without reading it into memory.
+            sourceFile.transferTo(destinationFile.getAbsoluteFile());
             log.debug("File writing success");
-            sourceFile.getInputStream().close();
         } catch (Exception e) {
             log.error(format(TdmWriteFileException.DEFAULT_MESSAGE,
                     sourceFile.getName(), destinationFile.getName(), e.getMessage()), e);
@@ -218,53 +253,29 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                                                      @Nonnull Server server) {
         DataUtils.checkQuery(query);
         DataUtils.checkTableName(tableName);
-        JdbcTemplate jdbcTemplate = sqlRepository.createJdbcTemplate(server, queryTimeout);
-        int batchSize = 100;
-        List<String> col = new ArrayList<>();
-        List<Map<String, Object>> rowsBuf = new ArrayList<>();
-        AtomicReference<Integer> refRows = new AtomicReference<>(0);
-        try {
-            jdbcTemplate.query(query, new RowCallbackHandler() {
-                @Override
-                public void processRow(ResultSet resSet) throws SQLException {
-                    if (col.isEmpty()) {
-                        ResultSetMetaData metData = resSet.getMetaData();
-                        int columnCount = metData.getColumnCount();
-                        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
-                            col.add(metData.getColumnName(columnIndex));
-                        }
-                    }
-                    Map<String, Object> row = new HashMap<>();
-                    for (String column : col) {
-                        row.put(column, resSet.getObject(column));
-                    }
-                    rowsBuf.add(row);
-                    if (rowsBuf.size() == batchSize) {
-                        if (refRows.get() > 0) {
-                            saveTestData(tableName, true, col, rowsBuf, false);
-                        } else {
-                            saveTestData(tableName, exists, col, rowsBuf, true);
-                        }
-                        refRows.updateAndGet(v -> v + batchSize);
-                        rowsBuf.clear();
-                    }
+        List<String> columns = new ArrayList<>();
+        long processedRows;
+        try (Connection connection = sqlRepository.createConnection(server)) {
+            TestDataSqlLoader loader = new TestDataSqlLoader(connection, query, queryTimeout,
+                    importSqlFetchSize, importSqlChunkSize, importSqlQueueCapacity);
+            processedRows = loader.process(rows -> {
+                if (columns.isEmpty()) {
+                    columns.addAll(rows.get(0).keySet());
+                    saveTestData(tableName, exists, columns, rows, false);
+                } else {
+                    saveTestData(tableName, true, columns, rows, true);
                 }
             });
         } catch (Exception e) {
             log.error(TdmDbExecuteQueryException.DEFAULT_MESSAGE, e);
             throw new TdmDbExecuteQueryException(e.getMessage());
         }
-        if (!rowsBuf.isEmpty()) {
-            saveTestData(tableName, exists || refRows.get() > 0, col, rowsBuf,
-                    refRows.get() > 0);
-            refRows.updateAndGet(v -> v + rowsBuf.size());
-        }
-        if (refRows.get() == 0) {
+        if (processedRows == 0) {
             log.info(TdmDbRowNotFoundException.DEFAULT_MESSAGE);
             throw new TdmDbRowNotFoundException();
         }
         ImportTestDataStatistic statistic = new ImportTestDataStatistic();
-        statistic.setProcessedRows(refRows.get());
+        statistic.setProcessedRows((int) processedRows);
         return statistic;
     }
 
@@ -286,6 +297,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
 
         if (!conditionColumnNamePattern.equals("")) {
             List<String> queryColumnNames = TestDataUtils.getColumnsNamesFromQuery(query);
+            queryColumnNames.forEach(DataUtils::checkColumnName);
             List<String> existingColumns = getTableColumns(tableName);
             for (String queryColumnName : queryColumnNames) {
                 if (!existingColumns.contains(queryColumnName)) {
@@ -294,49 +306,35 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                             tableName, queryColumnName));
                 }
             }
-            TestDataTable testDataTable;
-            Long rows = getTestDataSize(tableName, TestDataType.ALL);
             log.debug("Update test data. Column pattern:[{}], Column name:[{}]", conditionColumnNamePattern,
                     conditionColumnName);
             try (Connection connection = sqlRepository.createConnection(server)) {
                 int countOfUpdatedRows = 0;
-                for (int offset = 0; offset < rows; offset += UPDATE_TEST_DATA_LIMIT) {
-                    testDataTable = getTestData(tableName, TestDataType.AVAILABLE, offset, UPDATE_TEST_DATA_LIMIT,
-                            null, null, false);
-                    for (Map<String, Object> row : testDataTable.getData()) {
-                        String evaluatedQuery = query.replace(conditionColumnNamePattern,
-                                String.valueOf(row.get(conditionColumnName)));
-                        try (CallableStatement statement = connection.prepareCall(evaluatedQuery)) {
-                            ExecutorService executorService = Executors.newSingleThreadExecutor();
-                            Map<String, String> mdcContext = MDC.getCopyOfContextMap();
-                            try (ResultSet rs = executorService.submit(() -> {
-                                MdcUtils.setContextMap(mdcContext);
-                                return statement.executeQuery();
-                            }).get(queryTimeout, TimeUnit.SECONDS)) {
-                                while (rs.next()) {
-                                    for (String columnName : queryColumnNames) {
-                                        String value = rs.getString(columnName);
-                                        row.put(columnName, value);
-                                    }
-                                }
-                            }
-                        } catch (TimeoutException e) {
-                            statistic = new ImportTestDataStatistic();
-                            String message = "SQL execution has been stopped as maximum time of execution in "
-                                    + queryTimeout + " sec is exceeded.";
-                            statistic.setError(message);
-                            return statistic;
-                        }
-                        countOfUpdatedRows += updateTableRow(tableName, queryColumnNames, row);
+                UUID lastRowId = MIN_ROW_ID;
+                List<Map<String, Object>> rows;
+                do {
+                    rows = jdbcTemplate.queryForList(format(TestDataQueries.GET_AVAILABLE_ROWS_AFTER_ROW_ID,
+                            tableName), lastRowId, updateSqlChunkSize);
+                    if (rows.isEmpty()) {
+                        break;
                     }
-                }
+                    Map<Integer, Map<String, String>> externalValues = queryExternalValues(connection, query,
+                            conditionColumnNamePattern, conditionColumnName, queryColumnNames, rows, queryTimeout);
+                    updateTableRows(tableName, queryColumnNames, rows, externalValues);
+                    countOfUpdatedRows += rows.size();
+                    lastRowId = (UUID) rows.get(rows.size() - 1).get(SystemColumns.ROW_ID.getName());
+                } while (rows.size() == updateSqlChunkSize);
                 statistic.setProcessedRows(countOfUpdatedRows);
+            } catch (TimeoutException e) {
+                statistic = new ImportTestDataStatistic();
+                statistic.setError(e.getMessage());
             } catch (Exception e) {
                 statistic = new ImportTestDataStatistic();
                 String message = "Error while updating table: " + tableName;
                 log.error(message, e);
                 statistic.setError(message + ". " + e.getMessage());
             }
+            columnFilterTypeCache.invalidate(tableName);
             log.info("The update completed successfully.");
             return statistic;
         } else {
@@ -349,26 +347,111 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         }
     }
 
-    private long updateTableRow(@Nonnull String tableName, @Nonnull List<String> columns,
-                                @Nonnull Map<String, Object> row) {
-        UpdateQuery updateQuery = new UpdateQuery(tableName);
-        CustomSql customSql = new CustomSql("\"" + SystemColumns.ROW_ID.getName() + "\"");
-        BinaryCondition binaryCondition = PgBinaryCondition.equalTo(customSql,
-                String.valueOf(row.get(SystemColumns.ROW_ID.getName())));
-        updateQuery.addCondition(binaryCondition);
-        for (String column : columns) {
-            String value = TestDataUtils.escapeCharacters(String.valueOf(row.get(column)));
-            updateQuery.addCustomSetClause(new CustomSql("\"" + column + "\""), value);
+    /**
+     * Resolves values of a chunk of rows with one external query: the query is evaluated for each row
+     * and all evaluated queries are joined by UNION ALL, every result row is tagged with index of its row.
+     * The query timeout stays a per row limit, so the chunk statement gets it multiplied by chunk size.
+     *
+     * @return values of query columns by index of row in the chunk.
+     */
+    private Map<Integer, Map<String, String>> queryExternalValues(@Nonnull Connection connection,
+                                                                  @Nonnull String query,
+                                                                  @Nonnull String conditionColumnNamePattern,
+                                                                  @Nonnull String conditionColumnName,
+                                                                  @Nonnull List<String> queryColumnNames,
+                                                                  @Nonnull List<Map<String, Object>> rows,
+                                                                  int queryTimeout)
+            throws SQLException, TimeoutException {
+        String rowQuery = DataUtils.trimTrailingSemicolons(query);
+        StringBuilder chunkQuery = new StringBuilder();
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) {
+                chunkQuery.append(" UNION ALL ");
+            }
+            String evaluatedQuery = rowQuery.replace(conditionColumnNamePattern,
+                    String.valueOf(rows.get(i).get(conditionColumnName)));
+            chunkQuery.append("SELECT ").append(i).append(" AS ").append(UPDATE_ROW_INDEX_COLUMN)
+                    .append(", q.* FROM (").append(evaluatedQuery).append(") q");
         }
-        return jdbcTemplate.update(updateQuery.toString());
+        int chunkTimeout = (int) Math.min(Integer.MAX_VALUE, (long) queryTimeout * rows.size());
+        Map<Integer, Map<String, String>> externalValues = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(chunkQuery.toString())) {
+            statement.setQueryTimeout(chunkTimeout);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    Map<String, String> values = new HashMap<>();
+                    for (String columnName : queryColumnNames) {
+                        values.put(columnName, rs.getString(columnName));
+                    }
+                    externalValues.put(rs.getInt(UPDATE_ROW_INDEX_COLUMN), values);
+                }
+            }
+        } catch (SQLException e) {
+            if (e instanceof SQLTimeoutException || QUERY_CANCELED_SQL_STATE.equals(e.getSQLState())) {
+                throw new TimeoutException("SQL execution has been stopped as maximum time of execution in "
+                        + chunkTimeout + " sec (" + queryTimeout + " sec per row) is exceeded.");
+            }
+            throw e;
+        }
+        return externalValues;
+    }
+
+    /**
+     * Writes resolved values of a chunk back with one UPDATE ... FROM (VALUES ...) statement.
+     * Rows without values in external database are left as is.
+     */
+    private void updateTableRows(@Nonnull String tableName, @Nonnull List<String> columns,
+                                 @Nonnull List<Map<String, Object>> rows,
+                                 @Nonnull Map<Integer, Map<String, String>> externalValues) {
+        if (externalValues.isEmpty()) {
+            return;
+        }
+        String rowId = SystemColumns.ROW_ID.getName();
+        String setClause = columns.stream()
+                .map(column -> "\"" + column + "\" = v.\"" + column + "\"")
+                .collect(Collectors.joining(", "));
+        String valuesColumns = Stream.concat(Stream.of(rowId), columns.stream())
+                .map(column -> "\"" + column + "\"")
+                .collect(Collectors.joining(", "));
+        String valuesRow = "(" + String.join(", ", Collections.nCopies(columns.size() + 1, "?")) + ")";
+        List<Object> parameters = new ArrayList<>();
+        List<String> valuesRows = new ArrayList<>();
+        externalValues.forEach((index, values) -> {
+            parameters.add(rows.get(index).get(rowId));
+            columns.forEach(column -> parameters.add(values.get(column)));
+            valuesRows.add(valuesRow);
+        });
+        jdbcTemplate.update(format(TestDataQueries.UPDATE_ROWS_FROM_VALUES, tableName, setClause,
+                String.join(", ", valuesRows), valuesColumns), parameters.toArray());
     }
 
     private ImportTestDataStatistic importTestData(@Nonnull String tableName, boolean exists,
-                                                   @Nonnull TestDataTable testDataTable) {
+                                                   @Nonnull TestDataExcelLoader loader) {
         ImportTestDataStatistic statistic = new ImportTestDataStatistic();
         lockManager.executeWithLockWithUniqueLockKey("importTestData" + tableName, () -> {
-            statistic.setProcessedRows(testDataTable.getData().size());
-            saveTestData(tableName, exists, testDataTable);
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            Long processedRows = transactionTemplate.execute(status -> {
+                AtomicBoolean firstChunk = new AtomicBoolean(true);
+                try {
+                    return loader.process((columns, rows) -> {
+                        if (firstChunk.getAndSet(false)) {
+                            saveTestData(tableName, exists, columns, rows, false);
+                        } else {
+                            saveTestData(tableName, true, columns, rows, true);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.error(TdmImportExcelTestDataException.DEFAULT_MESSAGE, e);
+                    throw new TdmImportExcelTestDataException(e.getMessage());
+                }
+            });
+            if (Objects.isNull(processedRows) || processedRows == 0) {
+                log.error(TdmCreateTestDataTableException.DEFAULT_MESSAGE);
+                throw new TdmCreateTestDataTableException();
+            }
+            statistic.setProcessedRows(processedRows.intValue());
         });
         return statistic;
     }
@@ -378,14 +461,33 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                                      @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters,
                                      @Nullable TestDataTableOrder order, boolean isUpdate) {
         DataUtils.checkTableName(tableName);
+        return getTestData(isOccupied, tableName, offset, limit, filters, order, isUpdate, CountMode.EXACT);
+    }
+
+    @Override
+    public TestDataTable getTestData(@Nonnull Boolean isOccupied, @Nonnull String tableName, @Nullable Integer offset,
+                                     @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters,
+                                     @Nullable TestDataTableOrder order, boolean isUpdate,
+                                     @Nonnull CountMode countMode) {
+        DataUtils.checkTableName(tableName);
+        TestDataType testDataType = isOccupied ? TestDataType.OCCUPIED : TestDataType.AVAILABLE;
+        return getTestData(tableName, testDataType, offset, limit, filters, order, isUpdate, true, countMode);
+    }
+
+    @Override
+    public TestDataTable getTestDataRows(@Nonnull Boolean isOccupied, @Nonnull String tableName,
+                                         @Nullable Integer offset, @Nullable Integer limit,
+                                         @Nullable List<TestDataTableFilter> filters) {
+        DataUtils.checkTableName(tableName);
         TestDataType testDataType = isOccupied ? TestDataType.OCCUPIED : TestDataType.AVAILABLE;
-        return getTestData(tableName, testDataType, offset, limit, filters, order, isUpdate);
+        return getTestData(tableName, testDataType, offset, limit, filters, null, false, false, CountMode.NONE);
     }
 
     private TestDataTable getTestData(@Nonnull String tableName, @Nonnull TestDataType testDataType,
                                       @Nullable Integer offset, @Nullable Integer limit,
                                       @Nullable List<TestDataTableFilter> filters,
-                                      @Nullable TestDataTableOrder testDataTableOrder, boolean isUpdate) {
+                                      @Nullable TestDataTableOrder testDataTableOrder, boolean isUpdate,
+                                      boolean columnMetadata, @Nonnull CountMode countMode) {
         QueryInfo.Builder queryInfoBuilder = QueryInfo.newBuilder(tableName, testDataType);
         if (Objects.nonNull(offset)) {
             queryInfoBuilder.setOffset(offset);
@@ -403,13 +505,14 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         TestDataTable table;
         try {
             log.debug("Start DB query.");
-            String sqlQuery = queryInfo.getQuery().toString();
+            String sqlQuery = queryInfo.getQuery();
             if (isUpdate) {
                 sqlQuery += " FOR UPDATE SKIP LOCKED";
             }
-            table = jdbcTemplate.query(sqlQuery,
-                    extractorProvider.simpleExtractor(tableName, queryInfo.getCountQuery().toString(), testDataType,
-                            testDataTableOrder));
+            table = namedParameterJdbcTemplate.query(sqlQuery, queryInfo.getParameters(), columnMetadata
+                    ? extractorProvider.simpleExtractor(tableName, queryInfo, testDataType, testDataTableOrder,
+                    countMode)
+                    : extractorProvider.rowsExtractor(tableName, queryInfo, testDataType, countMode));
             log.debug("Stop DB query.");
         } catch (Exception e) {
             log.error(TdmDbExecuteQueryException.DEFAULT_MESSAGE, e);
@@ -428,7 +531,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
 
     @Override
     public TestDataTable getTestData(@Nonnull String tableName, @Nonnull List<String> columnNames,
-                                     @Nullable List<TestDataTableFilter> filters) {
+                                     @Nullable List<TestDataTableFilter> filters, @Nonnull CountMode countMode) {
         DataUtils.checkTableName(tableName);
         columnNames.forEach(DataUtils::checkColumnName);
         QueryInfo.Builder queryInfoBuilder = QueryInfo.newBuilder(tableName, columnNames, TestDataType.ALL);
@@ -436,9 +539,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
             queryInfoBuilder.setFilters(filters);
         }
         QueryInfo queryInfo = queryInfoBuilder.build();
-        return jdbcTemplate.query(queryInfo.getQuery().toString(),
-                extractorProvider.simpleExtractor(tableName, queryInfo.getCountQuery().toString(),
-                        TestDataType.ALL, null));
+        return namedParameterJdbcTemplate.query(queryInfo.getQuery(), queryInfo.getParameters(),
+                extractorProvider.rowsExtractor(tableName, queryInfo, TestDataType.ALL, countMode));
     }
 
     @Override
@@ -453,7 +555,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         TestDataTable table;
         try {
             log.debug("Start DB query.");
-            table = jdbcTemplate.query(queryInfo.getQuery().toString(),
+            table = namedParameterJdbcTemplate.query(queryInfo.getQuery(), queryInfo.getParameters(),
                     extractorProvider.multipleExtractor(tableName, TestDataType.AVAILABLE));
             log.debug("Finish DB query.");
         } catch (Exception e) {
@@ -469,7 +571,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     @Override
     public TestDataTable getFullTestData(@Nonnull String tableName) {
         DataUtils.checkTableName(tableName);
-        return getTestData(tableName, TestDataType.ALL, null, null, null, null, false);
+        return getTestData(tableName, TestDataType.ALL, null, null, null, null, false, false, CountMode.NONE);
     }
 
     @Override
@@ -477,7 +579,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                                         @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters) {
         QueryInfo queryInfo = QueryInfo.newBuilder(tableName, TestDataType.ALL).build();
         updateLastUsage(tableName);
-        return jdbcTemplate.query(queryInfo.getQuery().toString(), extractorProvider.fileExtractor(tableName,
+        return jdbcTemplate.query(queryInfo.getQuery(), extractorProvider.fileExtractor(tableName,
                 ExportFileType.EXCEL));
     }
 
@@ -486,10 +588,29 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                                       @Nullable Integer limit, @Nullable List<TestDataTableFilter> filters) {
         QueryInfo queryInfo = QueryInfo.newBuilder(tableName, TestDataType.ALL).build();
         updateLastUsage(tableName);
-        return jdbcTemplate.query(queryInfo.getQuery().toString(), extractorProvider.fileExtractor(tableName,
+        return jdbcTemplate.query(queryInfo.getQuery(), extractorProvider.fileExtractor(tableName,
                 ExportFileType.CSV));
     }
 
+    @Override
+    public int writeTestDataTable(@Nonnull String tableName, @Nonnull ExportFileType fileType,
+                                  @Nonnull OutputStream outputStream) {
+        DataUtils.checkTableName(tableName);
+        QueryInfo queryInfo = QueryInfo.newBuilder(tableName, TestDataType.ALL).build();
+        updateLastUsage(tableName);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        // PostgreSQL uses a server-side cursor only for forward-only statements with fetch size
+        // executed outside of autocommit, otherwise the whole table is loaded into memory.
+        Integer rowsCount = transactionTemplate.execute(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(queryInfo.getQuery(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(exportFetchSize);
+            return statement;
+        }, extractorProvider.streamExtractor(tableName, fileType, outputStream)));
+        return Objects.nonNull(rowsCount) ? rowsCount : 0;
+    }
+
     @Override
     public TestDataTable saveTestData(@Nonnull String tableName, boolean exists, @Nonnull TestDataTable testDataTable) {
         DataUtils.checkTableName(tableName);
@@ -525,25 +646,45 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         if (!skipSchemaUpdate) {
             log.info("Saving test data. Processing rows. Table name: [{}]", tableName);
         }
+        loadRows(tableName, columns, rows, systemColumnsExists);
+        if (!exists) {
+            TestDataTableIndexes.createSystemIndexes(jdbcTemplate, tableName);
+        }
+        columnFilterTypeCache.invalidate(tableName);
+        if (!skipSchemaUpdate) {
+            log.info("Test data table saved.");
+        }
+    }
+
+    /**
+     * Loads rows with COPY if it's enabled and supported by the connection, otherwise with batch inserts.
+     */
+    private void loadRows(@Nonnull String tableName, @Nonnull List<String> columns,
+                          @Nonnull List<Map<String, Object>> rows, boolean systemColumnsExists) {
+        boolean copied = copyLoadEnabled && Boolean.TRUE.equals(jdbcTemplate.execute(
+                (ConnectionCallback<Boolean>) connection -> {
+                    if (!TestDataCopyLoader.isSupported(connection)) {
+                        return false;
+                    }
+                    try {
+                        new TestDataCopyLoader(connection).copy(tableName, columns, rows, systemColumnsExists);
+                    } catch (IOException e) {
+                        throw new SQLException(e.getMessage(), e);
+                    }
+                    return true;
+                }));
+        if (copied) {
+            return;
+        }
         jdbcTemplate.batchUpdate(TestDataUtils.generateInsertTemplate(tableName, new ArrayList<>(columns),
                         systemColumnsExists),
                 rows,
                 Math.min(rows.size(), 100),
                 (PreparedStatement ps, Map<String, Object> row) -> {
                     for (int ind = 1; ind <= columns.size(); ind++) {
-                        Object rowValue = row.get(columns.get(ind - 1));
-                        if (rowValue instanceof String && !rowValue.equals("null")) {
-                            ps.setObject(ind, String.valueOf(rowValue));
-                        } else if (!(rowValue instanceof String) && rowValue != null) {
-                            ps.setObject(ind, TestDataUtils.convertToJsonString(rowValue));
-                        } else {
-                            ps.setObject(ind, "");
-                        }
+                        ps.setObject(ind, TestDataCopyLoader.convertValue(row.get(columns.get(ind - 1))));
                     }
                 });
-        if (!skipSchemaUpdate) {
-            log.info("Test data table saved.");
-        }
     }
 
     private boolean isSystemColumnsExists(List<Map<String, Object>> rows) {
@@ -577,6 +718,61 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         return DateFormatter.DB_DATE_FORMATTER.format(new Timestamp(new Date().getTime()));
     }
 
+    @Override
+    public Optional<Map<String, Object>> occupyFirstAvailableRow(@Nonnull String tableName,
+                                                                 @Nonnull String occupiedBy,
+                                                                 @Nullable List<TestDataTableFilter> filters,
+                                                                 @Nonnull List<String> responseColumns) {
+        return occupyAvailableRows(tableName, occupiedBy, filters, responseColumns, 1).stream().findFirst();
+    }
+
+    /**
+     * Claims up to count available rows matching filters and returns them in a single statement.
+     * Concurrent callers skip rows locked by each other instead of waiting, so no distributed lock is needed.
+     * If the claimed rows miss any of response columns, the claim is rolled back and the rows are returned
+     * as is to let the caller report the missing columns.
+     *
+     * @param tableName       - table name.
+     * @param occupiedBy      - user name to occupy rows under.
+     * @param filters         - search filters.
+     * @param responseColumns - columns expected in the response.
+     * @param count           - maximum number of rows to claim.
+     * @return claimed rows, fewer than count if not enough available rows match filters.
+     */
+    @Override
+    public List<Map<String, Object>> occupyAvailableRows(@Nonnull String tableName, @Nonnull String occupiedBy,
+                                                         @Nullable List<TestDataTableFilter> filters,
+                                                         @Nonnull List<String> responseColumns, int count) {
+        DataUtils.checkTableName(tableName);
+        QueryInfo.Builder queryInfoBuilder = QueryInfo.newBuilder(tableName,
+                Collections.singletonList(SystemColumns.ROW_ID.getName()), TestDataType.AVAILABLE);
+        queryInfoBuilder.setLimit(count);
+        if (Objects.nonNull(filters)) {
+            queryInfoBuilder.setFilters(filters);
+        }
+        QueryInfo queryInfo = queryInfoBuilder.build();
+        String query = format(TestDataQueries.OCCUPY_AVAILABLE_ROWS, tableName, queryInfo.getQuery());
+        MapSqlParameterSource parameters = queryInfo.getParameters();
+        parameters.addValue("user", occupiedBy);
+        parameters.addValue("date", new Timestamp(java.lang.System.currentTimeMillis()));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            return transactionTemplate.execute(status -> {
+                List<Map<String, Object>> rows = namedParameterJdbcTemplate.query(query, parameters,
+                        extractorProvider.occupiedRowsExtractor());
+                if (!rows.isEmpty() && !rows.get(0).keySet().containsAll(responseColumns)) {
+                    log.debug("Occupied rows in table [{}] miss some of response columns {}, rolling back.",
+                            tableName, responseColumns);
+                    status.setRollbackOnly();
+                }
+                return rows;
+            });
+        } catch (Exception e) {
+            log.error(TdmDbExecuteQueryException.DEFAULT_MESSAGE, e);
+            throw new TdmDbExecuteQueryException(e.getMessage());
+        }
+    }
+
     @Override
     public void releaseTestData(@Nonnull String tableName, @Nonnull List<UUID> rows) {
         DataUtils.checkColumnName(tableName);
@@ -606,7 +802,9 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         for (String key : dataForUpdate.keySet()) {
             query.addCustomSetClause(new CustomSql("\"" + key + "\""), dataForUpdate.get(key));
         }
-        return jdbcTemplate.update(query.toString());
+        int updatedRows = jdbcTemplate.update(query.toString());
+        columnFilterTypeCache.invalidate(tableName);
+        return updatedRows;
     }
 
     @Override
@@ -620,7 +818,9 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
             query.addCustomSetClause(new CustomSql("\"" + key + "\""),
                     new CustomExpression("CONCAT(" + "\"" + key + "\",'\r\n" + dataForUpdate.get(key) + "')"));
         }
-        return jdbcTemplate.update(query.toString());
+        int updatedRows = jdbcTemplate.update(query.toString());
+        columnFilterTypeCache.invalidate(tableName);
+        return updatedRows;
     }
 
     @Override
@@ -630,6 +830,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         DataUtils.checkColumnName(tableName);
         parameters.addValue("ids", rows);
         namedParameterJdbcTemplate.update(format(TestDataQueries.DELETE_ROWS_BY_ID, tableName), parameters);
+        columnFilterTypeCache.invalidate(tableName);
     }
 
     @Override
@@ -637,13 +838,16 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         log.info("Deleting all rows from table with name: [{}]", tableName);
         DataUtils.checkColumnName(tableName);
         jdbcTemplate.execute(format(TestDataQueries.DELETE_ALL_TABLE_ROWS, tableName));
+        columnFilterTypeCache.invalidate(tableName);
     }
 
     @Override
     public int deleteRowsByDate(@Nonnull String tableName, @Nonnull LocalDate date) {
         log.info("Deleting rows from table with name [{}] by date", tableName);
         DataUtils.checkColumnName(tableName);
-        return jdbcTemplate.update(format(TestDataQueries.DELETE_ROWS_BY_DATE, tableName, date));
+        int deletedRows = jdbcTemplate.update(format(TestDataQueries.DELETE_ROWS_BY_DATE, tableName, date));
+        columnFilterTypeCache.invalidate(tableName);
+        return deletedRows;
     }
 
     @Override
@@ -657,6 +861,54 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         log.info("Deleting unoccupied rows from table with name: [{}]", tableName);
         DataUtils.checkColumnName(tableName);
         jdbcTemplate.execute(format(TestDataQueries.DELETE_UNOCCUPIED_ROWS, tableName));
+        columnFilterTypeCache.invalidate(tableName);
+    }
+
+    @Override
+    public String createShadowTable(@Nonnull String tableName) {
+        DataUtils.checkTableName(tableName);
+        String shadowTableName = tableName + SHADOW_TABLE_SUFFIX;
+        log.info("Creating shadow table [{}] for table [{}]", shadowTableName, tableName);
+        jdbcTemplate.execute(format(TestDataQueries.DROP_TABLE, shadowTableName));
+        jdbcTemplate.execute(format(TestDataQueries.CREATE_TABLE_LIKE, shadowTableName, tableName));
+        return shadowTableName;
+    }
+
+    @Override
+    public void swapShadowTable(@Nonnull String tableName, @Nonnull String shadowTableName,
+                                boolean saveOccupiedData) {
+        DataUtils.checkTableName(tableName);
+        DataUtils.checkTableName(shadowTableName);
+        log.info("Swapping shadow table [{}] into table [{}], save occupied data: {}",
+                shadowTableName, tableName, saveOccupiedData);
+        List<TestDataTableIndex> columnIndexes = getColumnIndexes(tableName);
+        TestDataTableIndexes.createSystemIndexes(jdbcTemplate, shadowTableName);
+        columnIndexes.forEach(index -> jdbcTemplate.execute(format(TestDataQueries.CREATE_COLUMN_INDEX,
+                TestDataTableIndexes.buildColumnIndexName(shadowTableName, index.getColumnName()),
+                shadowTableName, index.getColumnName())));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.execute(new TransactionCallbackWithoutResult() {
+            public void doInTransactionWithoutResult(@NotNull TransactionStatus status) {
+                jdbcTemplate.execute(format(TestDataQueries.LOCK_TABLE_EXCLUSIVE, tableName));
+                if (saveOccupiedData) {
+                    List<String> columns = getTableColumns(tableName);
+                    List<String> missingColumns = new ArrayList<>(columns);
+                    missingColumns.removeAll(getTableColumns(shadowTableName));
+                    missingColumns.forEach(columnName -> jdbcTemplate.execute(
+                            format(TestDataQueries.ADD_NEW_COLUMN_VARCHAR, shadowTableName, columnName)));
+                    String columnNames = String.join("\" , \"", columns);
+                    jdbcTemplate.execute(format(TestDataQueries.INSERT_OCCUPIED_DATA, shadowTableName,
+                            columnNames, columnNames, tableName));
+                }
+                jdbcTemplate.execute(format(TestDataQueries.DROP_TABLE, tableName));
+                jdbcTemplate.execute(format(TestDataQueries.RENAME_TABLE, shadowTableName, tableName));
+                columnIndexes.forEach(index -> jdbcTemplate.execute(format(TestDataQueries.RENAME_INDEX,
+                        TestDataTableIndexes.buildColumnIndexName(shadowTableName, index.getColumnName()),
+                        index.getName())));
+            }
+        });
+        columnFilterTypeCache.invalidate(tableName);
+        log.info("Table [{}] replaced by shadow table.", tableName);
     }
 
     @Override
@@ -680,6 +932,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         log.info("Dropping a table with name: [{}]", tableName);
         DataUtils.checkTableName(tableName);
         jdbcTemplate.execute(format(TestDataQueries.DROP_TABLE, tableName));
+        columnFilterTypeCache.invalidate(tableName);
+        catalogIndex.invalidateTable(tableName);
     }
 
     @Override
@@ -687,6 +941,38 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         log.info("Truncating a table with name: [{}]", tableName);
         DataUtils.checkTableName(tableName);
         jdbcTemplate.execute(format(TestDataQueries.TRUNCATE_TABLE, tableName));
+        columnFilterTypeCache.invalidate(tableName);
+    }
+
+    @Override
+    public List<TestDataTableIndex> getColumnIndexes(@Nonnull String tableName) {
+        DataUtils.checkTableName(tableName);
+        return jdbcTemplate.query(TestDataQueries.GET_COLUMN_INDEXES,
+                (resultSet, rowNum) -> new TestDataTableIndex(resultSet.getString("index_name"),
+                        resultSet.getString("column_name")), tableName);
+    }
+
+    @Override
+    public TestDataTableIndex createColumnIndex(@Nonnull String tableName, @Nonnull String columnName) {
+        DataUtils.checkTableName(tableName);
+        DataUtils.checkColumnName(columnName);
+        if (!getTableColumns(tableName).contains(columnName)) {
+            log.error(String.format(TdmSearchColumnException.DEFAULT_MESSAGE, columnName));
+            throw new TdmSearchColumnException(columnName);
+        }
+        String indexName = TestDataTableIndexes.buildColumnIndexName(tableName, columnName);
+        log.info("Creating index [{}] on column [{}] of table [{}]", indexName, columnName, tableName);
+        jdbcTemplate.execute(format(TestDataQueries.CREATE_COLUMN_INDEX, indexName, tableName, columnName));
+        return new TestDataTableIndex(indexName, columnName);
+    }
+
+    @Override
+    public void dropColumnIndex(@Nonnull String tableName, @Nonnull String columnName) {
+        DataUtils.checkTableName(tableName);
+        DataUtils.checkColumnName(columnName);
+        String indexName = TestDataTableIndexes.buildColumnIndexName(tableName, columnName);
+        log.info("Dropping index [{}] on column [{}] of table [{}]", indexName, columnName, tableName);
+        jdbcTemplate.execute(format(TestDataQueries.DROP_INDEX, indexName));
     }
 
     @Override
@@ -743,27 +1029,18 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         }
     }
 
-    /**
-     * Get table by created date.
-     *
-     * @param tableName - table name.
-     * @param dateFrom  - beginning date.
-     * @param dateTo    - ending date.
-     * @return - table.
-     */
-    public TestDataTable getTableByCreatedWhen(@Nonnull String tableName, @Nonnull LocalDate dateFrom,
-                                               @Nonnull LocalDate dateTo) {
+    @Override
+    public List<Long> getCreatedWhenCounts(@Nonnull String tableName, @Nonnull StatisticsBuckets buckets) {
         DataUtils.checkTableName(tableName);
-        List<TestDataTableFilter> filters = new ArrayList<>();
-        TestDataTableFilter filterFrom = new TestDataTableFilter("CREATED_WHEN", "From",
-                Collections.singletonList(
-                        dateFrom.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))), false);
-        TestDataTableFilter filterTo = new TestDataTableFilter("CREATED_WHEN", "To",
-                Collections.singletonList(
-                        dateTo.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"))), false);
-        filters.add(filterFrom);
-        filters.add(filterTo);
-        return getTestData(tableName, TestDataType.ALL, null, null, filters, null, false);
+        String query = String.format(TestDataQueries.GET_CREATED_WHEN_COUNTS,
+                buckets.getBucketExpression("CAST(\"CREATED_WHEN\" AS date)"), tableName);
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("dateFrom", buckets.getDateFrom())
+                .addValue("dateTo", buckets.getDateTo().plusDays(1));
+        long[] counts = new long[buckets.getCount()];
+        namedParameterJdbcTemplate.query(query, parameters, (RowCallbackHandler) resultSet ->
+                buckets.add(counts, resultSet.getDate("bucket").toLocalDate(), resultSet.getLong("count")));
+        return buckets.toList(counts);
     }
 
     @Override
@@ -775,6 +1052,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         parameters.addValue("table_name", tableName);
         parameters.addValue("table_title", tableTitle);
         if (namedParameterJdbcTemplate.update(TestDataQueries.CHANGE_TEST_DATA_TITLE, parameters) > 0) {
+            catalogIndex.invalidateTable(tableName);
             log.info("Test data title successfully changed.");
             return true;
         } else {
@@ -788,7 +1066,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         DataUtils.checkTableName(tableName);
         QueryInfo.Builder queryInfoBuilder = QueryInfo.newBuilder(tableName, dataType);
         try {
-            return jdbcTemplate.queryForObject(queryInfoBuilder.build().getCountQuery().toString(), Long.class);
+            return jdbcTemplate.queryForObject(queryInfoBuilder.build().getCountQuery(), Long.class);
         } catch (Exception e) {
             return 0L;
         }
@@ -803,7 +1081,8 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                 throw new IllegalIdentifierException("There is no values in filter: " + filter);
             } else {
                 String filterValue = filter.getValues().get(0); //It's not good, need to do refactor here
-                BinaryCondition binaryCondition = searchCondition.create(column, filterValue);
+                BinaryCondition binaryCondition = searchCondition.create(column,
+                        searchCondition.toValue(filterValue));
                 query.addCondition(binaryCondition);
             }
         }
@@ -830,6 +1109,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                     jdbcTemplate.execute(format(query, tableName, columnName));
                 });
             }
+            columnFilterTypeCache.invalidate(tableName);
             log.info("Missing columns successfully added.");
         }
     }
@@ -847,6 +1127,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     private void recreateTable(@Nonnull String tableName, @Nonnull List<String> columns) {
         log.info("Recreate Table: [{}], columns: [{}]", tableName, columns);
         List<String> currentColumns = getTableColumns(tableName);
+        List<TestDataTableIndex> columnIndexes = getColumnIndexes(tableName);
         TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
             public void doInTransactionWithoutResult(@NotNull TransactionStatus status) {
@@ -861,8 +1142,11 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
                         currentColumnNames, tableName);
                 log.debug("Recreating table:[{}], data insert query:[{}]", tableName, insertQuery);
                 jdbcTemplate.execute(insertQuery);
+                TestDataTableIndexes.createSystemIndexes(jdbcTemplate, tmpTableName);
                 jdbcTemplate.execute(format(TestDataQueries.DROP_TABLE, tableName));
                 jdbcTemplate.execute(format(TestDataQueries.RENAME_TABLE, tmpTableName, tableName));
+                columnIndexes.forEach(index -> jdbcTemplate.execute(format(TestDataQueries.CREATE_COLUMN_INDEX,
+                        index.getName(), tableName, index.getColumnName())));
                 jdbcTemplate.execute(TestDataQueries.COMMIT_WORK);
             }
         });
@@ -889,6 +1173,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
         tableCatalog.setLastUsage(new Date());
         getCleanupConfig(projectId, tableTitle).ifPresent(config -> tableCatalog.setCleanupConfigId(config.getId()));
         catalogRepository.save(tableCatalog);
+        catalogIndex.invalidateTitle(projectId, tableTitle);
     }
 
     private Optional<TestDataCleanupConfig> getCleanupConfig(@Nonnull UUID projectId, @Nonnull String tableTitle) {
@@ -911,18 +1196,7 @@ public class TestDataTableRepositoryImpl implements TestDataTableRepository {
     @Override
     public void updateLastUsage(@Nonnull String tableName) {
         DataUtils.checkTableName(tableName);
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd");
-        String currentDate = simpleDateFormat.format(new Date());
-        if (cacheLastUsageTable.size() == 2000) {
-            cacheLastUsageTable.clear();
-        }
-        if (!cacheLastUsageTable.containsKey(tableName) || !cacheLastUsageTable.get(tableName).equals(currentDate)) {
-            Date lastUsage = catalogRepository.findByTableName(tableName).getLastUsage();
-            if (lastUsage == null || !simpleDateFormat.format(lastUsage).equals(currentDate)) {
-                catalogRepository.updateLastUsageByTableName(new Date(), tableName);
-            }
-            cacheLastUsageTable.put(tableName, currentDate);
-        }
+        lastUsageTracker.touch(tableName);
     }
 
     @Override
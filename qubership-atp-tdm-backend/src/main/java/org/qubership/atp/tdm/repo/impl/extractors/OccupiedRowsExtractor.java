@@ -0,0 +1,61 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl.extractors;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nonnull;
+
+import org.qubership.atp.tdm.model.DateFormatter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+public class OccupiedRowsExtractor implements ResultSetExtractor<List<Map<String, Object>>> {
+
+    OccupiedRowsExtractor() {
+    }
+
+    @Override
+    public List<Map<String, Object>> extractData(@Nonnull ResultSet resultSet)
+            throws SQLException, DataAccessException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<Map<String, Object>> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            Map<String, Object> row = new HashMap<>();
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                row.put(metaData.getColumnLabel(columnIndex), formatColumn(resultSet.getObject(columnIndex)));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private Object formatColumn(Object value) {
+        if (value instanceof Timestamp) {
+            value = DateFormatter.DB_DATE_FORMATTER.format(new Timestamp(((Timestamp) value).getTime()));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl.extractors;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.qubership.atp.tdm.model.table.CountMode;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class RecordsCounter {
+
+    private static final String EXPLAIN = "EXPLAIN ";
+    private static final Pattern ESTIMATED_ROWS_PATTERN = Pattern.compile("rows=(\\d+)");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CountMode countMode;
+    private final String countQuery;
+    private final String estimateQuery;
+    private final MapSqlParameterSource parameters;
+    private final long estimateThreshold;
+
+    RecordsCounter(@Nonnull NamedParameterJdbcTemplate jdbcTemplate, @Nonnull CountMode countMode,
+                   @Nullable String countQuery, @Nullable String estimateQuery,
+                   @Nullable MapSqlParameterSource parameters, long estimateThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.countMode = countMode;
+        this.countQuery = countQuery;
+        this.estimateQuery = estimateQuery;
+        this.parameters = parameters;
+        this.estimateThreshold = estimateThreshold;
+    }
+
+    /**
+     * Returns total number of records according to count mode.
+     *
+     * @param fetchedRows - number of rows fetched by the data query.
+     * @return number of records.
+     */
+    public int count(int fetchedRows) {
+        switch (countMode) {
+            case NONE:
+                return fetchedRows;
+            case ESTIMATE:
+                long estimate = estimate();
+                if (estimate >= estimateThreshold) {
+                    log.debug("Estimated count: {}", estimate);
+                    return (int) Math.min(estimate, Integer.MAX_VALUE);
+                }
+                return exactCount();
+            case EXACT:
+            default:
+                return exactCount();
+        }
+    }
+
+    private int exactCount() {
+        try {
+            log.debug("count start");
+            Integer count = jdbcTemplate.queryForObject(countQuery, parameters, Integer.class);
+            log.debug("count finish");
+            return count == null ? 0 : count;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private long estimate() {
+        try {
+            List<String> plan = jdbcTemplate.queryForList(EXPLAIN + estimateQuery, parameters, String.class);
+            if (!plan.isEmpty()) {
+                Matcher matcher = ESTIMATED_ROWS_PATTERN.matcher(plan.get(0));
+                if (matcher.find()) {
+                    return Long.parseLong(matcher.group(1));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Unable to estimate records count, exact count will be used.", e);
+        }
+        return -1;
+    }
+}
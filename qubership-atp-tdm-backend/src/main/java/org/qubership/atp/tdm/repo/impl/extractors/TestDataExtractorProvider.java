@@ -16,34 +16,71 @@
 
 package org.qubership.atp.tdm.repo.impl.extractors;
 
+import java.io.OutputStream;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.qubership.atp.tdm.model.ExportFileType;
+import org.qubership.atp.tdm.model.QueryInfo;
+import org.qubership.atp.tdm.model.table.CountMode;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.service.ColumnService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
-import lombok.AllArgsConstructor;
-
 @Component
-@AllArgsConstructor
 public class TestDataExtractorProvider {
 
-    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
     private final ColumnService columnService;
 
-    public TestDataTableExtractor simpleExtractor(@Nonnull String tableName, @Nonnull String countQuery) {
-        return new TestDataTableExtractor(columnService, jdbcTemplate, tableName, countQuery);
+    @Value("${tdm.records.count.estimate.threshold:100000}")
+    private long countEstimateThreshold;
+
+    /**
+     * Default constructor.
+     */
+    public TestDataExtractorProvider(@Nonnull JdbcTemplate jdbcTemplate, @Nonnull ColumnService columnService) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.columnService = columnService;
     }
 
-    public TestDataTableExtractor simpleExtractor(@Nonnull String tableName, @Nonnull String countQuery,
+    /**
+     * Extractor for UI reads: rows with column filter types, links and ordering.
+     */
+    public TestDataTableExtractor simpleExtractor(@Nonnull String tableName, @Nonnull QueryInfo queryInfo,
                                                   @Nonnull TestDataType testDataType,
-                                                  @Nullable TestDataTableOrder testDataTableOrder) {
-        return new TestDataTableExtractor(columnService, jdbcTemplate, tableName, countQuery, testDataType,
-                testDataTableOrder);
+                                                  @Nullable TestDataTableOrder testDataTableOrder,
+                                                  @Nonnull CountMode countMode) {
+        return new TestDataTableExtractor(columnService, recordsCounter(queryInfo, countMode), tableName,
+                testDataType, testDataTableOrder, true);
+    }
+
+    /**
+     * Extractor for machine-facing reads: rows and column names only, without column filter types and links.
+     */
+    public TestDataTableExtractor rowsExtractor(@Nonnull String tableName, @Nonnull QueryInfo queryInfo,
+                                                @Nonnull TestDataType testDataType, @Nonnull CountMode countMode) {
+        return new TestDataTableExtractor(columnService, recordsCounter(queryInfo, countMode), tableName,
+                testDataType, null, false);
+    }
+
+    /**
+     * Extractor for arbitrary queries: rows and column names only, records are not counted.
+     */
+    public TestDataTableExtractor rowsExtractor(@Nonnull String tableName) {
+        return new TestDataTableExtractor(columnService,
+                new RecordsCounter(jdbcTemplate, CountMode.NONE, null, null, null, countEstimateThreshold),
+                tableName, TestDataType.ALL, null, false);
+    }
+
+    private RecordsCounter recordsCounter(@Nonnull QueryInfo queryInfo, @Nonnull CountMode countMode) {
+        return new RecordsCounter(jdbcTemplate, countMode, queryInfo.getCountQuery(),
+                queryInfo.getEstimateQuery(), queryInfo.getParameters(), countEstimateThreshold);
     }
 
     public TestDataTableMultipleExtractor multipleExtractor(@Nonnull String tableName,
@@ -51,8 +88,18 @@ public class TestDataExtractorProvider {
         return new TestDataTableMultipleExtractor(columnService, tableName, testDataType);
     }
 
+    public OccupiedRowsExtractor occupiedRowsExtractor() {
+        return new OccupiedRowsExtractor();
+    }
+
     public TestDataTableAsFileExtractor fileExtractor(@Nonnull String tableName, ExportFileType exportFileType) {
-        return new TestDataTableAsFileExtractor(columnService, tableName, exportFileType);
+        return new TestDataTableAsFileExtractor(tableName, exportFileType);
+    }
+
+    public TestDataTableStreamExtractor streamExtractor(@Nonnull String tableName,
+                                                        @Nonnull ExportFileType exportFileType,
+                                                        @Nonnull OutputStream outputStream) {
+        return new TestDataTableStreamExtractor(tableName, exportFileType, outputStream);
     }
 
     public GeneralStatisticsExtractor generalStatisticsExtractor(@Nonnull String tableTitle) {
@@ -62,8 +109,4 @@ public class TestDataExtractorProvider {
     public OutdatedStatisticsExtractor outdatedStatisticsExtractor() {
         return new OutdatedStatisticsExtractor();
     }
-
-    public ConsumedStatisticsExtractor consumedStatisticsExtractor() {
-        return new ConsumedStatisticsExtractor();
-    }
 }
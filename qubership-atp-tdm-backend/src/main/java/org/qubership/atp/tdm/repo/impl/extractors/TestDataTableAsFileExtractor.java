@@ -21,15 +21,11 @@ import java.io.File;
 import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
 
 import javax.annotation.Nonnull;
 
 import org.jetbrains.annotations.NotNull;
 import org.qubership.atp.tdm.model.ExportFileType;
-import org.qubership.atp.tdm.model.table.TestDataType;
-import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
-import org.qubership.atp.tdm.service.ColumnService;
 import org.qubership.atp.tdm.utils.TestDataTableConvertor;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.ResultSetExtractor;
@@ -41,26 +37,21 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TestDataTableAsFileExtractor implements ResultSetExtractor<File> {
 
-    private final ColumnService columnService;
-
     private String tableName;
     private ExportFileType fileType;
 
-    TestDataTableAsFileExtractor(@Nonnull ColumnService columnService, @Nonnull String tableName,
-                                 @Nonnull ExportFileType fileType) {
-        this.columnService = columnService;
+    TestDataTableAsFileExtractor(@Nonnull String tableName, @Nonnull ExportFileType fileType) {
         this.tableName = tableName;
         this.fileType = fileType;
     }
 
     @Override
     public File extractData(@NotNull ResultSet resultSet) throws SQLException, DataAccessException {
-        List<TestDataTableColumn> columns = columnService.extractColumns(this.tableName, TestDataType.ALL, resultSet);
         try {
             if (ExportFileType.EXCEL.equals(this.fileType)) {
-                return TestDataTableConvertor.convertTableToExcelFile(this.tableName, columns, resultSet);
+                return TestDataTableConvertor.convertTableToExcelFile(this.tableName, resultSet);
             } else {
-                return TestDataTableConvertor.convertTableToCsvFile(this.tableName, columns, resultSet);
+                return TestDataTableConvertor.convertTableToCsvFile(this.tableName, resultSet);
             }
         } catch (IOException e) {
             log.error(String.format(TdmGetTableException.DEFAULT_MESSAGE, this.fileType.name()), e);
@@ -34,7 +34,6 @@ import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
 import org.qubership.atp.tdm.service.ColumnService;
 import org.springframework.dao.DataAccessException;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
 
 import lombok.extern.slf4j.Slf4j;
@@ -43,26 +42,21 @@ import lombok.extern.slf4j.Slf4j;
 public class TestDataTableExtractor implements ResultSetExtractor<TestDataTable> {
 
     private final ColumnService columnService;
-    private final JdbcTemplate jdbcTemplate;
+    private final RecordsCounter recordsCounter;
     private final String tableName;
-    private final String countQuery;
-    private TestDataType testDataType;
-    private TestDataTableOrder testDataTableOrder;
+    private final TestDataType testDataType;
+    private final TestDataTableOrder testDataTableOrder;
+    private final boolean columnMetadata;
 
-    TestDataTableExtractor(@Nonnull ColumnService columnService, @Nonnull JdbcTemplate jdbcTemplate,
-                           @Nonnull String tableName, @Nonnull String countQuery, @Nonnull TestDataType testDataType,
-                           @Nullable TestDataTableOrder testDataTableOrder) {
-        this(columnService, jdbcTemplate, tableName, countQuery);
-        this.testDataType = testDataType;
-        this.testDataTableOrder = testDataTableOrder;
-    }
-
-    TestDataTableExtractor(@Nonnull ColumnService columnService, @Nonnull JdbcTemplate jdbcTemplate,
-                           @Nonnull String tableName, @Nonnull String countQuery) {
+    TestDataTableExtractor(@Nonnull ColumnService columnService, @Nonnull RecordsCounter recordsCounter,
+                           @Nonnull String tableName, @Nullable TestDataType testDataType,
+                           @Nullable TestDataTableOrder testDataTableOrder, boolean columnMetadata) {
         this.columnService = columnService;
-        this.jdbcTemplate = jdbcTemplate;
+        this.recordsCounter = recordsCounter;
         this.tableName = tableName;
-        this.countQuery = countQuery;
+        this.testDataType = testDataType;
+        this.testDataTableOrder = testDataTableOrder;
+        this.columnMetadata = columnMetadata;
     }
 
     @Override
@@ -81,13 +75,16 @@ public class TestDataTableExtractor implements ResultSetExtractor<TestDataTable>
             rows.add(row);
         }
         testDataTable.setData(rows);
-        testDataTable.setRecords(count(countQuery));
+        testDataTable.setRecords(recordsCounter.count(rows.size()));
         log.debug("ExtractData Finish");
         return testDataTable;
     }
 
     private List<TestDataTableColumn> getColumns(@Nonnull ResultSet resultSet, @Nonnull TestDataType testDataType,
                                                  @Nonnull TestDataTableOrder testDataTableOrder) throws SQLException {
+        if (!columnMetadata) {
+            return columnService.extractColumnsMultiple(this.tableName, testDataType, resultSet);
+        }
         return columnService.extractColumns(this.tableName, testDataType, resultSet, testDataTableOrder);
     }
 
@@ -98,15 +95,4 @@ public class TestDataTableExtractor implements ResultSetExtractor<TestDataTable>
         }
         return value;
     }
-
-    private Integer count(@Nonnull String query) {
-        try {
-            log.debug("count start");
-            Integer i = jdbcTemplate.queryForObject(query, Integer.class);
-            log.debug("count finish");
-            return i;
-        } catch (Exception e) {
-            return 0;
-        }
-    }
 }
@@ -0,0 +1,74 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl.extractors;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.annotation.Nonnull;
+
+import org.qubership.atp.tdm.exceptions.internal.TdmGetTableException;
+import org.qubership.atp.tdm.model.ExportFileType;
+import org.qubership.atp.tdm.utils.TestDataTableConvertor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes rows of test data table straight to output stream while result set is being read.
+ * Returns number of exported rows.
+ */
+@Slf4j
+public class TestDataTableStreamExtractor implements ResultSetExtractor<Integer> {
+
+    private final String tableName;
+    private final ExportFileType fileType;
+    private final OutputStream outputStream;
+
+    TestDataTableStreamExtractor(@Nonnull String tableName, @Nonnull ExportFileType fileType,
+                                 @Nonnull OutputStream outputStream) {
+        this.tableName = tableName;
+        this.fileType = fileType;
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public Integer extractData(@Nonnull ResultSet resultSet) throws SQLException, DataAccessException {
+        try {
+            int rowsCount;
+            if (ExportFileType.EXCEL.equals(fileType)) {
+                rowsCount = TestDataTableConvertor.writeTableAsExcel(resultSet, outputStream);
+            } else {
+                Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+                rowsCount = TestDataTableConvertor.writeTableAsCsv(resultSet, writer);
+                writer.flush();
+            }
+            outputStream.flush();
+            log.info("Exported {} rows of table {} as {}", rowsCount, tableName, fileType.name());
+            return rowsCount;
+        } catch (IOException e) {
+            log.error(String.format(TdmGetTableException.DEFAULT_MESSAGE, fileType.name()), e);
+            throw new TdmGetTableException(fileType.name());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+package org.qubership.atp.tdm.repo.impl.loader;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.QuoteMode;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.qubership.atp.tdm.model.DateFormatter;
+import org.qubership.atp.tdm.repo.impl.SystemColumns;
+import org.qubership.atp.tdm.utils.TestDataUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams rows into a test data table with PostgreSQL {@code COPY FROM STDIN}.
+ * Values are converted the same way as for batch inserts; every value is quoted,
+ * so empty strings stay empty strings and are not turned into NULL.
+ */
+@Slf4j
+public class TestDataCopyLoader {
+
+    private static final String COPY_QUERY = "COPY %s (%s) FROM STDIN WITH (FORMAT csv)";
+    private static final CSVFormat COPY_FORMAT = CSVFormat.DEFAULT
+            .withQuoteMode(QuoteMode.ALL)
+            .withRecordSeparator('\n');
+    private static final int COPY_BUFFER_SIZE = 65536;
+
+    private final Connection connection;
+
+    /**
+     * Full constructor.
+     *
+     * @param connection - connection to test data database.
+     */
+    public TestDataCopyLoader(@Nonnull Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Check whether connection supports COPY protocol.
+     *
+     * @param connection - connection to check.
+     * @return true if connection is a PostgreSQL one.
+     */
+    public static boolean isSupported(@Nonnull Connection connection) throws SQLException {
+        return connection.isWrapperFor(PGConnection.class);
+    }
+
+    /**
+     * Convert row value to the string stored in test data table.
+     *
+     * @param value - row value.
+     * @return string value, empty string for null and "null" values.
+     */
+    public static String convertValue(Object value) {
+        if (value instanceof String && !value.equals("null")) {
+            return String.valueOf(value);
+        } else if (!(value instanceof String) && value != null) {
+            return TestDataUtils.convertToJsonString(value);
+        } else {
+            return "";
+        }
+    }
+
+    /**
+     * Copy rows into table. If rows don't contain system columns, row id and created date are generated.
+     *
+     * @param tableName           - table name.
+     * @param columns             - columns to fill.
+     * @param rows                - rows to copy.
+     * @param systemColumnsExists - whether rows contain system columns.
+     * @return number of copied rows.
+     */
+    public long copy(@Nonnull String tableName, @Nonnull List<String> columns,
+                     @Nonnull List<Map<String, Object>> rows, boolean systemColumnsExists)
+            throws SQLException, IOException {
+        List<String> copyColumns = new ArrayList<>();
+        if (!systemColumnsExists) {
+            copyColumns.add(SystemColumns.ROW_ID.getName());
+            copyColumns.add(SystemColumns.CREATED_WHEN.getName());
+        }
+        copyColumns.addAll(columns);
+        String query = String.format(COPY_QUERY, tableName, copyColumns.stream()
+                .map(column -> "\"" + column + "\"")
+                .collect(Collectors.joining(", ")));
+        String createdWhen = DateFormatter.DB_DATE_FORMATTER.format(new Timestamp(new Date().getTime()));
+        PGCopyOutputStream copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), query,
+                COPY_BUFFER_SIZE);
+        try {
+            Writer writer = new OutputStreamWriter(copyStream, StandardCharsets.UTF_8);
+            CSVPrinter printer = new CSVPrinter(writer, COPY_FORMAT);
+            List<String> values = new ArrayList<>(copyColumns.size());
+            for (Map<String, Object> row : rows) {
+                values.clear();
+                if (!systemColumnsExists) {
+                    values.add(UUID.randomUUID().toString());
+                    values.add(createdWhen);
+                }
+                for (String column : columns) {
+                    values.add(convertValue(row.get(column)));
+                }
+                printer.printRecord(values);
+            }
+            printer.flush();
+            long copiedRows = copyStream.endCopy();
+            log.debug("Copied {} rows into table: [{}]", copiedRows, tableName);
+            return copiedRows;
+        } finally {
+            if (copyStream.isActive()) {
+                copyStream.cancelCopy();
+            }
+        }
+    }
+}
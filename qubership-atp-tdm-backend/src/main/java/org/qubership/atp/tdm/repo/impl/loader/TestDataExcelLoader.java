@@ -20,8 +20,11 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import javax.xml.parsers.SAXParserFactory;
@@ -46,42 +49,83 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class TestDataExcelLoader {
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+
     private final OPCPackage xlsxPackage;
-    private final TestDataTable testDataTable = new TestDataTable();
+    private final int chunkSize;
     private final Map<Integer, String> columns = new HashMap<>();
     private List<Map<String, Object>> rows = new ArrayList<>();
+    private BiConsumer<List<String>, List<Map<String, Object>>> chunkConsumer;
+    private long processedRows;
 
     /**
-     * Full constructor.
+     * Constructor with default chunk size.
      *
      * @param pkg - xlsx package.
      */
     public TestDataExcelLoader(OPCPackage pkg) {
+        this(pkg, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Full constructor.
+     *
+     * @param pkg       - xlsx package.
+     * @param chunkSize - number of rows passed to consumer at once.
+     */
+    public TestDataExcelLoader(OPCPackage pkg, int chunkSize) {
         this.xlsxPackage = pkg;
+        this.chunkSize = chunkSize;
     }
 
     /**
-     * Process sheet.
+     * Process sheet and collect all rows into a table. Suitable for small files only.
      *
      * @throws Exception if xssf reader is empty.
      */
     public TestDataTable process() throws Exception {
+        TestDataTable testDataTable = new TestDataTable();
+        List<Map<String, Object>> data = new ArrayList<>();
+        process((chunkColumns, chunk) -> data.addAll(chunk));
+        testDataTable.setColumns(columns.values().stream()
+                .map(c -> new TestDataTableColumn(new TestDataTableColumnIdentity("", c)))
+                .collect(Collectors.toList()));
+        testDataTable.setData(data);
+        return testDataTable;
+    }
+
+    /**
+     * Process sheet and pass rows to consumer by chunks while the sheet is parsed,
+     * so only one chunk of rows is kept in memory.
+     *
+     * @param chunkConsumer - consumer of column names and non-empty row chunks.
+     * @return number of processed rows.
+     * @throws Exception if xssf reader is empty.
+     */
+    public long process(BiConsumer<List<String>, List<Map<String, Object>>> chunkConsumer) throws Exception {
         log.info("Excel parsing started.");
+        this.chunkConsumer = chunkConsumer;
         ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(this.xlsxPackage);
         XSSFReader xssfReader = new XSSFReader(this.xlsxPackage);
 
         try (InputStream stream = xssfReader.getSheetsData().next()) {
             processSheet(strings, new TestDataSheetContentsHandler(), stream);
         }
+        flushRows();
 
-        testDataTable.setColumns(columns.values().stream()
-                .map(c -> new TestDataTableColumn(new TestDataTableColumnIdentity("", c)))
-                .collect(Collectors.toList()));
-        testDataTable.setData(rows);
+        log.info("Excel parsing finished, total rows: {}", processedRows);
 
-        log.info("Excel parsing finished.");
+        return processedRows;
+    }
 
-        return testDataTable;
+    private void flushRows() {
+        if (rows.isEmpty()) {
+            return;
+        }
+        chunkConsumer.accept(new ArrayList<>(columns.values()), rows);
+        processedRows += rows.size();
+        log.debug("Processed {} rows.", processedRows);
+        rows = new ArrayList<>(chunkSize);
     }
 
     private void processSheet(ReadOnlySharedStringsTable strings, SheetContentsHandler sheetHandler,
@@ -116,7 +160,7 @@ public class TestDataExcelLoader {
 
     private class TestDataSheetContentsHandler implements SheetContentsHandler {
         private final String[] systemColumns = {"SELECTED", "OCCUPIED_DATE", "OCCUPIED_BY", "CREATED_WHEN"};
-        private List<Integer> workCol = new ArrayList<>();
+        private Set<Integer> workCol = new HashSet<>();
         private Map<String, Object> row;
         private int currentRow = -1;
 
@@ -132,6 +176,9 @@ public class TestDataExcelLoader {
         public void endRow(int rowNum) {
             if (currentRow > 0) {
                 rows.add(row);
+                if (rows.size() >= chunkSize) {
+                    flushRows();
+                }
             }
         }
 
@@ -13,102 +13,297 @@
  * # See the License for the specific language governing permissions and
  * # limitations under the License.
  */
-
 package org.qubership.atp.tdm.repo.impl.loader;
 
-import java.sql.CallableStatement;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
+import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumnIdentity;
 import org.slf4j.MDC;
-import org.springframework.dao.DataAccessException;
 
-import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Streams rows of an external query in chunks.
+ * The query is read with a forward-only cursor on a separate thread, chunks are handed over
+ * through a bounded queue to the calling thread, so only a few chunks are kept in memory at once.
+ */
 @Slf4j
 public class TestDataSqlLoader {
-    private final Map<Integer, String> columns = new HashMap<>();
+
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+    private static final long READER_AWAIT_SECONDS = 10;
+    private static final List<Map<String, Object>> END_OF_STREAM = new ArrayList<>(0);
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    private static final int DEFAULT_CHUNK_SIZE = 1000;
+    private static final int DEFAULT_QUEUE_CAPACITY = 4;
+
     private final Connection connection;
     private final String sqlQuery;
     private final Integer queryTimeout;
+    private final int fetchSize;
+    private final int chunkSize;
+    private final int queueCapacity;
+    private final AtomicReference<PreparedStatement> runningStatement = new AtomicReference<>();
+    private volatile boolean canceled;
 
     /**
-     * Full constructor.
+     * Constructor with default fetch size, chunk size and queue capacity.
      */
     public TestDataSqlLoader(@Nonnull Connection connection, @Nonnull String sqlQuery, @Nonnull Integer queryTimeout) {
+        this(connection, sqlQuery, queryTimeout, DEFAULT_FETCH_SIZE, DEFAULT_CHUNK_SIZE, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Full constructor.
+     *
+     * @param connection    - connection to external database.
+     * @param sqlQuery      - query to load rows with.
+     * @param queryTimeout  - query timeout in seconds.
+     * @param fetchSize     - number of rows fetched from database per round trip.
+     * @param chunkSize     - number of rows passed to consumer at once.
+     * @param queueCapacity - maximum number of chunks read ahead of consumer.
+     */
+    public TestDataSqlLoader(@Nonnull Connection connection, @Nonnull String sqlQuery, @Nonnull Integer queryTimeout,
+                             int fetchSize, int chunkSize, int queueCapacity) {
         this.connection = connection;
         this.sqlQuery = sqlQuery;
         this.queryTimeout = queryTimeout;
+        this.fetchSize = fetchSize;
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
     }
 
-
     /**
-     * Process query.
+     * Process query and collect all rows into a table. Suitable for small results only.
      */
     public TestDataTable process() throws Exception {
+        TestDataTable testDataTable = new TestDataTable();
+        List<Map<String, Object>> rows = new ArrayList<>();
+        List<String> columns = new ArrayList<>();
+        process(chunk -> {
+            if (columns.isEmpty()) {
+                columns.addAll(chunk.get(0).keySet());
+            }
+            rows.addAll(chunk);
+        });
+        testDataTable.setColumns(columns.stream()
+                .map(c -> new TestDataTableColumn(new TestDataTableColumnIdentity("", c)))
+                .collect(Collectors.toList()));
+        testDataTable.setData(rows);
+        return testDataTable;
+    }
+
+    /**
+     * Process query and pass rows to consumer by chunks. Consumer is called on the calling thread,
+     * so it takes part in the caller's transaction. Every row keeps the order of query columns.
+     *
+     * @param chunkConsumer - consumer of non-empty row chunks.
+     * @return number of processed rows.
+     * @throws TimeoutException if query timeout is exceeded.
+     */
+    public long process(@Nonnull Consumer<List<Map<String, Object>>> chunkConsumer) throws Exception {
         log.info("Executing query: {}", sqlQuery);
-        try (CallableStatement statement = connection.prepareCall(sqlQuery)) {
-            ExecutorService executorService = Executors.newSingleThreadExecutor();
-            Map<String, String> mdcContext = MDC.getCopyOfContextMap();
-            try (ResultSet rs = executorService.submit(() -> {
+        BlockingQueue<List<Map<String, Object>>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        ExecutorService readerExecutor = Executors.newSingleThreadExecutor();
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        long processedRows = 0;
+        boolean completed = false;
+        try {
+            Future<Long> reader = readerExecutor.submit(() -> {
                 MdcUtils.setContextMap(mdcContext);
-                return statement.executeQuery();
-            })
-                    .get(queryTimeout, TimeUnit.SECONDS)) {
-                return extractData(rs);
+                try {
+                    return readRows(queue);
+                } finally {
+                    if (!canceled) {
+                        queue.put(END_OF_STREAM);
+                    }
+                }
+            });
+            List<Map<String, Object>> chunk;
+            while ((chunk = queue.take()) != END_OF_STREAM) {
+                chunkConsumer.accept(chunk);
+                processedRows += chunk.size();
+                log.info("Processed {} rows.", processedRows);
+            }
+            getReadResult(reader);
+            completed = true;
+        } finally {
+            if (!completed) {
+                cancel();
             }
+            readerExecutor.shutdownNow();
+            awaitReader(readerExecutor);
         }
+        log.info("Processing finished, total rows: {}", processedRows);
+        return processedRows;
     }
 
-    private TestDataTable extractData(ResultSet resultSet) throws SQLException, DataAccessException {
-        log.info("Extracting data from result set...");
-
-        TestDataTable testDataTable = new TestDataTable();
+    private long readRows(BlockingQueue<List<Map<String, Object>>> queue) throws SQLException, InterruptedException,
+            TimeoutException {
+        boolean autoCommit = connection.getAutoCommit();
+        // Drivers like PostgreSQL use a server cursor for fetch size only outside of auto-commit mode.
+        connection.setAutoCommit(false);
+        Exception failure = null;
+        try (PreparedStatement statement = connection.prepareStatement(sqlQuery,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            runningStatement.set(statement);
+            if (canceled) {
+                throw new InterruptedException("Query is canceled.");
+            }
+            statement.setFetchSize(fetchSize);
+            statement.setQueryTimeout(queryTimeout);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return readRows(resultSet, queue);
+            }
+        } catch (SQLException e) {
+            if (e instanceof SQLTimeoutException || QUERY_CANCELED_SQL_STATE.equals(e.getSQLState())) {
+                TimeoutException timeout = new TimeoutException("SQL execution has been stopped as maximum "
+                        + "time of execution in " + queryTimeout + " sec is exceeded.");
+                failure = timeout;
+                throw timeout;
+            }
+            failure = e;
+            throw e;
+        } catch (InterruptedException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            runningStatement.set(null);
+            restoreConnection(autoCommit, failure);
+        }
+    }
 
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        int colCount = metaData.getColumnCount();
+    /**
+     * Ends the read-only transaction and restores auto-commit mode of the connection.
+     * Cleanup errors are suppressed into the failure of reading, if any, so they do not hide it.
+     */
+    private void restoreConnection(boolean autoCommit, @Nullable Exception failure) throws SQLException {
+        SQLException cleanupError = null;
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            cleanupError = e;
+        }
+        try {
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException e) {
+            if (Objects.isNull(cleanupError)) {
+                cleanupError = e;
+            } else {
+                cleanupError.addSuppressed(e);
+            }
+        }
+        if (Objects.isNull(cleanupError)) {
+            return;
+        }
+        if (Objects.nonNull(failure)) {
+            failure.addSuppressed(cleanupError);
+            return;
+        }
+        throw cleanupError;
+    }
 
-        for (int c = 1; c <= colCount; c++) {
-            String columnName = metaData.getColumnName(c);
-            columns.put(c, columnName);
+    /**
+     * Cancels running query, so the reader does not keep using the connection after the caller gave up.
+     * Statement registered after this call is canceled by the reader itself.
+     */
+    private void cancel() {
+        canceled = true;
+        PreparedStatement statement = runningStatement.get();
+        if (Objects.nonNull(statement)) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                log.warn("Unable to cancel query: {}", sqlQuery, e);
+            }
         }
+    }
 
-        testDataTable.setColumns(columns.values().stream()
-                .map(c -> new TestDataTableColumn(new TestDataTableColumnIdentity("", c)))
-                .collect(Collectors.toList()));
+    /**
+     * Waits until the reader releases the connection: the caller closes the connection right after processing.
+     */
+    private void awaitReader(ExecutorService readerExecutor) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                if (readerExecutor.awaitTermination(READER_AWAIT_SECONDS, TimeUnit.SECONDS)) {
+                    break;
+                }
+                log.warn("Reader of query is still running, keep waiting: {}", sqlQuery);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-        log.info("Processing rows...");
-        List<Map<String, Object>> rows = new ArrayList<>();
+    private long readRows(ResultSet resultSet, BlockingQueue<List<Map<String, Object>>> queue)
+            throws SQLException, InterruptedException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        List<String> columns = new ArrayList<>(columnCount);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            columns.add(metaData.getColumnName(columnIndex));
+        }
+        long readRows = 0;
+        List<Map<String, Object>> chunk = new ArrayList<>(chunkSize);
         while (resultSet.next()) {
-            Map<String, Object> row = new HashMap<>();
-            for (int key : columns.keySet()) {
-                String columnName = columns.get(key);
-                row.put(columnName, resultSet.getObject(columnName));
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                row.put(columns.get(columnIndex - 1), resultSet.getObject(columnIndex));
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                queue.put(chunk);
+                readRows += chunk.size();
+                chunk = new ArrayList<>(chunkSize);
             }
-            rows.add(row);
         }
-        testDataTable.setData(rows);
-
-        log.info("Extracting finished.");
-
-        return testDataTable;
+        if (!chunk.isEmpty()) {
+            queue.put(chunk);
+            readRows += chunk.size();
+        }
+        return readRows;
     }
 
-
+    private void getReadResult(Future<Long> reader) throws Exception {
+        try {
+            reader.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        }
+    }
 }
@@ -25,6 +25,7 @@ import javax.annotation.Nullable;
 import org.qubership.atp.tdm.model.rest.ResponseMessage;
 import org.qubership.atp.tdm.model.rest.requests.AddInfoToRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.GetRowRequest;
+import org.qubership.atp.tdm.model.rest.requests.OccupyBatchRequest;
 import org.qubership.atp.tdm.model.rest.requests.OccupyFullRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.OccupyRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.ReleaseRowRequest;
@@ -43,6 +44,10 @@ public interface AtpActionService {
                                                 @Nullable String systemName, @Nonnull String tableTitle,
                                                 List<OccupyFullRowRequest> occupyFullRowRequests);
 
+    ResponseMessage occupyTestDataBatch(@Nonnull String projectName, @Nullable String envName,
+                                        @Nullable String systemName, @Nonnull String tableTitle,
+                                        @Nonnull OccupyBatchRequest occupyBatchRequest);
+
     List<ResponseMessage> releaseTestData(@Nonnull String projectName, @Nullable String envName,
                                           @Nullable String systemName, @Nonnull String tableTitle,
                                           List<ReleaseRowRequest> releaseRowRequests);
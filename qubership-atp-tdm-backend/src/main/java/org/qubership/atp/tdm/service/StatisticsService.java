@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.IOException;
 import java.text.ParseException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -80,6 +81,23 @@ public interface StatisticsService {
 
     void saveOccupyStatistic(@Nonnull TestDataOccupyStatistic testDataOccupyStatistic);
 
+    /**
+     * Save occupy statistics asynchronously, statistics are written in batches by the occupy statistic writer.
+     */
+    void saveOccupyStatisticsAsync(@Nonnull List<TestDataOccupyStatistic> testDataOccupyStatistics);
+
+    /**
+     * Save occupy statistics of the rows asynchronously, created when of rows is read with one query.
+     */
+    void saveOccupyStatisticsAsync(@Nonnull String tableName, @Nonnull TestDataTableCatalog catalog,
+                                   @Nonnull String occupiedBy, @Nonnull LocalDateTime occupiedDate,
+                                   @Nonnull List<UUID> rows);
+
+    /**
+     * Write occupy statistics saved asynchronously and not written yet.
+     */
+    void flushOccupyStatistics();
+
     void deleteAllOccupyStatisticByRowId(@Nonnull List<UUID> rows);
 
     void fillCreatedWhenStatistics(@Nonnull String tableName, @Nonnull TestDataTableCatalog catalog);
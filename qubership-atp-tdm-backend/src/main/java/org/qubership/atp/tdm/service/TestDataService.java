@@ -17,6 +17,7 @@
 package org.qubership.atp.tdm.service;
 
 import java.io.File;
+import java.io.OutputStream;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.List;
@@ -31,12 +32,14 @@ import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataFlagsTable;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.TestDataTableIndex;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 import org.springframework.web.multipart.MultipartFile;
 
 import org.qubership.atp.tdm.model.ColumnValues;
 import org.qubership.atp.tdm.model.DropResults;
 import org.qubership.atp.tdm.model.EnvsList;
+import org.qubership.atp.tdm.model.ExportFileType;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.ei.TdmDataToExport;
@@ -80,6 +83,9 @@ public interface TestDataService {
 
     File getTestDataTableAsCsvFile(@Nonnull String tableName) throws IOException;
 
+    void writeTestDataTable(@Nonnull String tableName, @Nonnull ExportFileType fileType,
+                            @Nonnull OutputStream outputStream);
+
     String getPreviewLink(@Nonnull UUID projectId, @Nullable UUID systemId, @Nullable String endpoint,
                                    @Nonnull String columnName, @Nullable String tableName,
                                    @Nonnull Boolean pickUpFullLinkFromTableCell);
@@ -102,6 +108,12 @@ public interface TestDataService {
 
     ColumnValues getColumnDistinctValues(@Nonnull String tableName, @Nonnull String columnName, Boolean occupied);
 
+    List<TestDataTableIndex> getColumnIndexes(@Nonnull String tableName);
+
+    TestDataTableIndex createColumnIndex(@Nonnull String tableName, @Nonnull String columnName);
+
+    void dropColumnIndex(@Nonnull String tableName, @Nonnull String columnName);
+
     Map<String, Object> getTableRow(@Nonnull UUID projectId, @Nullable UUID systemId, @Nonnull String tableTitle,
                                     @Nonnull String columnName, @Nonnull String searchValue,
                                     boolean occupied);
@@ -41,6 +41,7 @@ import org.qubership.atp.tdm.model.rest.ResponseMessage;
 import org.qubership.atp.tdm.model.rest.ResponseType;
 import org.qubership.atp.tdm.model.rest.requests.AddInfoToRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.GetRowRequest;
+import org.qubership.atp.tdm.model.rest.requests.OccupyBatchRequest;
 import org.qubership.atp.tdm.model.rest.requests.OccupyFullRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.OccupyRowRequest;
 import org.qubership.atp.tdm.model.rest.requests.ReleaseRowRequest;
@@ -133,6 +134,19 @@ public class AtpActionServiceImpl implements AtpActionService {
                 tableTitle, OCCUPIED_BY_USER, occupyFullRowRequests, link);
     }
 
+    @Override
+    public ResponseMessage occupyTestDataBatch(@Nonnull String projectName, @Nullable String envName,
+                                               @Nullable String systemName, @Nonnull String tableTitle,
+                                               @Nonnull OccupyBatchRequest occupyBatchRequest) {
+        log.info("ATP Action. Batch occupation of test data. Table Title: {}, rows count: {}", tableTitle,
+                occupyBatchRequest.getRowsCount());
+        EnvironmentContext environmentContext = getEnvironmentContext(projectName, envName, systemName);
+        String link = this.formResultLink(environmentContext.getProjectId(), environmentContext.getEnvId(),
+                environmentContext.getSystemId());
+        return repository.occupyTestDataBatch(environmentContext.getProjectId(), environmentContext.getSystemId(),
+                tableTitle, OCCUPIED_BY_USER, occupyBatchRequest, link);
+    }
+
     @Override
     public List<ResponseMessage> releaseTestData(@Nonnull String projectName, @Nullable String envName,
                                                  @Nullable String systemName, @Nonnull String tableTitle,
@@ -16,7 +16,6 @@
 
 package org.qubership.atp.tdm.service.impl;
 
-import java.sql.Connection;
 import java.text.ParseException;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -28,10 +27,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import javax.annotation.PreDestroy;
 import javax.sql.DataSource;
 
 import org.apache.commons.lang.ObjectUtils;
@@ -69,6 +73,7 @@ import org.qubership.atp.tdm.utils.DataUtils;
 import org.qubership.atp.tdm.utils.ValidateCronExpression;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
 import com.google.common.base.Preconditions;
@@ -83,6 +88,12 @@ public class CleanupServiceImpl implements CleanupService {
     private Integer maxQueryTimeout;
     @Value("${external.query.default.timeout:1800}")
     private Integer defaultQueryTimeout;
+    @Value("${tdm.cleanup.sql.chunk.size:100}")
+    private int sqlCleanupChunkSize;
+    @Value("${tdm.cleanup.sql.parallelism:4}")
+    private int sqlCleanupParallelism;
+    @Value("${tdm.external.pool.max.size:5}")
+    private int externalPoolMaxSize;
     private final EnvironmentsService environmentsService;
     private final SchedulerService schedulerService;
     private final CleanupConfigRepository cleanupConfigRepository;
@@ -95,6 +106,7 @@ public class CleanupServiceImpl implements CleanupService {
     private final TdmMdcHelper tdmMdcHelper;
 
     private final Map<String, Class<? extends TestDataCleaner>> CLASS_METHOD_WHITE_LIST = new HashMap<>();
+    private final Map<String, ThreadPoolExecutor> sqlCleanupExecutors = new ConcurrentHashMap<>();
 
 
     /**
@@ -301,15 +313,17 @@ public class CleanupServiceImpl implements CleanupService {
                                      @Nonnull TestDataCleanupConfig config) throws Exception {
         if (CleanupType.SQL.equals(config.getType())) {
             Server server = sqlRepository.getServer(tableName, catalogRepository, environmentsService);
-            try (Connection connection = sqlRepository.createConnection(server)) {
+            try {
                 if (config.getQueryTimeout() == null) {
                     int queryTimeout = (int) ObjectUtils.defaultIfNull(
                             importInfoRepository.findByTableName(tableName).getQueryTimeout(), defaultQueryTimeout);
                     config.setQueryTimeout(queryTimeout);
                 }
 
-                return runCleanup(tableName, new SqlTestDataCleaner(connection,
-                        config.getSearchSql(), config.getQueryTimeout()));
+                TestDataTableCatalog catalog = catalogRepository.findByTableName(tableName);
+                return runCleanup(tableName, new SqlTestDataCleaner(() -> sqlRepository.createConnection(server),
+                        config.getSearchSql(), config.getQueryTimeout(), sqlCleanupChunkSize,
+                        getSqlCleanupExecutor(String.valueOf(catalog.getEnvironmentId()))));
             } catch (Exception ex) {
                 log.error("Error while run cleanup.", ex);
                 throw new TdmRunCleanupException(ex.getMessage());
@@ -332,6 +346,29 @@ public class CleanupServiceImpl implements CleanupService {
         }
     }
 
+    /**
+     * Returns executor of SQL cleanup chunks shared by all cleanups of the environment. Its size does not exceed
+     * the size of the environment connection pool, so chunks of parallel cleanups do not wait for connections.
+     */
+    private ThreadPoolExecutor getSqlCleanupExecutor(@Nonnull String environmentId) {
+        return sqlCleanupExecutors.computeIfAbsent(environmentId, id -> {
+            int threads = Math.max(1, Math.min(sqlCleanupParallelism, externalPoolMaxSize));
+            log.info("Creating SQL cleanup executor for environment: [{}], threads: {}", id, threads);
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES,
+                    new LinkedBlockingQueue<>(), new CustomizableThreadFactory("sql-cleanup-"));
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        });
+    }
+
+    /**
+     * Stops SQL cleanup executors.
+     */
+    @PreDestroy
+    public void shutdown() {
+        sqlCleanupExecutors.values().forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
     @Nonnull
     private CleanupResults runCleanup(@Nonnull String tableName, @Nonnull TestDataCleaner cleaner) throws Exception {
         CleanupResults results = new CleanupResults();
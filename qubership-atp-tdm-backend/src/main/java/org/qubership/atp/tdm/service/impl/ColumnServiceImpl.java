@@ -54,6 +54,7 @@ import org.qubership.atp.tdm.model.table.column.TestDataTableColumnIdentity;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.ColumnRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
+import org.qubership.atp.tdm.repo.impl.ColumnFilterTypeCache;
 import org.qubership.atp.tdm.repo.impl.SystemColumns;
 import org.qubership.atp.tdm.service.ColumnService;
 import org.qubership.atp.tdm.utils.TestDataUtils;
@@ -73,6 +74,7 @@ public class ColumnServiceImpl implements ColumnService {
     private final EnvironmentsService environmentsService;
     private final TestDataTableRepository testDataTableRepository;
     private final LockManager lockManager;
+    private final ColumnFilterTypeCache columnFilterTypeCache;
 
     @Value("${tdm.linker.property.external.url}")
     private Boolean externalUrl;
@@ -85,12 +87,14 @@ public class ColumnServiceImpl implements ColumnService {
     public ColumnServiceImpl(@Nonnull CatalogRepository catalogRepository, @Nonnull ColumnRepository columnRepository,
                              @Nonnull EnvironmentsService environmentsService,
                              @Nonnull TestDataTableRepository testDataTableRepository,
-                             @Nonnull LockManager lockManager) {
+                             @Nonnull LockManager lockManager,
+                             @Nonnull ColumnFilterTypeCache columnFilterTypeCache) {
         this.catalogRepository = catalogRepository;
         this.columnRepository = columnRepository;
         this.environmentsService = environmentsService;
         this.testDataTableRepository = testDataTableRepository;
         this.lockManager = lockManager;
+        this.columnFilterTypeCache = columnFilterTypeCache;
     }
 
     @Override
@@ -122,19 +126,8 @@ public class ColumnServiceImpl implements ColumnService {
                 column.setFilterType(FilterType.DATE);
             } else {
                 boolean occupied = TestDataType.OCCUPIED.equals(testDataType);
-                log.debug("GetColumnDistinctValues start");
-                int columnDistinctValuesCount = testDataTableRepository.getColumnDistinctValuesCount(tableName,
-                        columnName, columnType, occupied);
-                log.debug("GetColumnDistinctValues finish");
-                if (columnDistinctValuesCount < 1) {
-                    column.setFilterType(FilterType.NONE);
-                } else {
-                    if (columnDistinctValuesCount < COUNT_OF_DISTINCT_VALUES_FOR_LIST_FILTER_TYPE) {
-                        column.setFilterType(FilterType.LIST);
-                    } else {
-                        column.setFilterType(FilterType.TEXT);
-                    }
-                }
+                column.setFilterType(columnFilterTypeCache.get(tableName, columnName, occupied,
+                        () -> getFilterType(tableName, columnName, columnType, occupied)));
             }
             columns.add(column);
         }
@@ -142,6 +135,21 @@ public class ColumnServiceImpl implements ColumnService {
         return columns;
     }
 
+    private FilterType getFilterType(@Nonnull String tableName, @Nonnull String columnName,
+                                     @Nonnull String columnType, boolean occupied) {
+        log.debug("GetColumnDistinctValues start");
+        int columnDistinctValuesCount = testDataTableRepository.getColumnDistinctValuesCount(tableName,
+                columnName, columnType, occupied);
+        log.debug("GetColumnDistinctValues finish");
+        if (columnDistinctValuesCount < 1) {
+            return FilterType.NONE;
+        }
+        if (columnDistinctValuesCount < COUNT_OF_DISTINCT_VALUES_FOR_LIST_FILTER_TYPE) {
+            return FilterType.LIST;
+        }
+        return FilterType.TEXT;
+    }
+
     @Override
     public List<TestDataTableColumn> extractColumnsMultiple(@Nonnull String tableName,
                                                             @Nonnull TestDataType testDataType,
@@ -80,6 +80,10 @@ public class DataRefreshServiceImpl implements DataRefreshService {
     private Integer defaultQueryTimeout;
     @Value("${external.query.max.timeout:3600}")
     private Integer maxQueryTimeout;
+    @Value("${tdm.refresh.shadow.table.enabled:true}")
+    private boolean shadowTableRefresh;
+    @Value("${tdm.refresh.batch.size:1000}")
+    private int refreshBatchSize;
     private final EnvironmentsService environmentsService;
     private final SchedulerService schedulerService;
     private final RefreshConfigRepository refreshConfigRepository;
@@ -257,21 +261,59 @@ public class DataRefreshServiceImpl implements DataRefreshService {
         if (!importInfo.isPresent()) {
             throw new RuntimeException("Import info not exist for table: " + tableName);
         }
-        if (saveOccupiedData) {
-            testDataTableRepository.deleteUnoccupiedRows(tableName);
-        } else {
-            testDataTableRepository.deleteAllRows(tableName);
-        }
         Integer queryTimeout = ObjectUtils.defaultIfNull(importInfo.get().getQueryTimeout(),
                 defaultQueryTimeout);
-
         JdbcTemplate userJdbcTemplate = sqlRepository.createJdbcTemplate(server, queryTimeout);
+        int refreshedRows;
+        if (shadowTableRefresh) {
+            String shadowTableName = testDataTableRepository.createShadowTable(tableName);
+            try {
+                refreshedRows = loadRows(userJdbcTemplate, importInfo.get().getTableQuery(), shadowTableName);
+                if (refreshedRows == 0) {
+                    throw new TdmSearchImportInfoException(tableName);
+                }
+                testDataTableRepository.swapShadowTable(tableName, shadowTableName, saveOccupiedData);
+            } catch (Exception e) {
+                dropShadowTable(shadowTableName);
+                throw e;
+            }
+        } else {
+            if (saveOccupiedData) {
+                testDataTableRepository.deleteUnoccupiedRows(tableName);
+            } else {
+                testDataTableRepository.deleteAllRows(tableName);
+            }
+            refreshedRows = loadRows(userJdbcTemplate, importInfo.get().getTableQuery(), tableName);
+            if (refreshedRows == 0) {
+                throw new TdmSearchImportInfoException(tableName);
+            }
+        }
+        log.info("Total refreshed records: {}", refreshedRows);
+        RefreshResults results = new RefreshResults();
+        results.setRecordsTotal(refreshedRows);
+        log.info("Data refresh has been finished");
+        return results;
+    }
+
+    private void dropShadowTable(@Nonnull String shadowTableName) {
+        try {
+            testDataTableRepository.dropTable(shadowTableName);
+        } catch (Exception e) {
+            log.warn("Unable to drop shadow table [{}], it will be recreated by next refresh.", shadowTableName, e);
+        }
+    }
+
+    /**
+     * Streams rows of the external query into the table by batches.
+     *
+     * @return number of loaded rows.
+     */
+    private int loadRows(@Nonnull JdbcTemplate userJdbcTemplate, @Nonnull String query, @Nonnull String tableName) {
         List<String> columns = new ArrayList<>();
         List<Map<String, Object>> rowsBuffer = new ArrayList<>();
-        int batchSize = 100;
         AtomicReference<Integer> refreshedRows = new AtomicReference<>(0);
         try {
-            userJdbcTemplate.query(importInfo.get().getTableQuery(), new RowCallbackHandler() {
+            userJdbcTemplate.query(query, new RowCallbackHandler() {
                 @Override
                 public void processRow(ResultSet resultSet) throws SQLException {
                     if (columns.isEmpty()) {
@@ -286,10 +328,10 @@ public class DataRefreshServiceImpl implements DataRefreshService {
                         row.put(column, resultSet.getObject(column));
                     }
                     rowsBuffer.add(row);
-                    if (rowsBuffer.size() == batchSize) {
+                    if (rowsBuffer.size() == refreshBatchSize) {
                         testDataTableRepository
                                 .insertRows(tableName, true, rowsBuffer, refreshedRows.get() > 0);
-                        refreshedRows.updateAndGet(v -> v + batchSize);
+                        refreshedRows.updateAndGet(v -> v + refreshBatchSize);
                         rowsBuffer.clear();
                     }
                 }
@@ -302,14 +344,7 @@ public class DataRefreshServiceImpl implements DataRefreshService {
             testDataTableRepository.insertRows(tableName, true, rowsBuffer, refreshedRows.get() > 0);
             refreshedRows.updateAndGet(v -> v + rowsBuffer.size());
         }
-        if (refreshedRows.get() == 0) {
-            throw new TdmSearchImportInfoException(tableName);
-        }
-        log.info("Total refreshed records: {}", refreshedRows.get());
-        RefreshResults results = new RefreshResults();
-        results.setRecordsTotal(refreshedRows.get());
-        log.info("Data refresh has been finished");
-        return results;
+        return refreshedRows.get();
     }
 
     /**
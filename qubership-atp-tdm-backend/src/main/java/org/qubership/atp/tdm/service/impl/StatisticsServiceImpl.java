@@ -113,6 +113,7 @@ import org.qubership.atp.tdm.repo.TableColumnValuesRepository;
 import org.qubership.atp.tdm.repo.TestAvailableDataMonitoringRepository;
 import org.qubership.atp.tdm.repo.TestDataMonitoringRepository;
 import org.qubership.atp.tdm.repo.TestDataUsersMonitoringRepository;
+import org.qubership.atp.tdm.repo.impl.OccupyStatisticWriter;
 import org.qubership.atp.tdm.repo.impl.SystemColumns;
 import org.qubership.atp.tdm.service.TestDataService;
 import org.qubership.atp.tdm.utils.UsersOccupyStatisticUtils;
@@ -142,6 +143,7 @@ public class StatisticsServiceImpl implements StatisticsService {
     private final TestAvailableDataMonitoringRepository availableDataMonitoringRepository;
     private final TableColumnValuesRepository tableColumnValuesRepository;
     private final OccupyStatisticRepository occupyStatisticRepository;
+    private final OccupyStatisticWriter occupyStatisticWriter;
     private final SchedulerService schedulerService;
     private final EnvironmentsService environmentsService;
     private final TestDataService testDataService;
@@ -160,6 +162,7 @@ public class StatisticsServiceImpl implements StatisticsService {
                                  @Lazy TestDataService testDataService,
                                  @Nonnull CatalogRepository catalogRepository,
                                  @Nonnull OccupyStatisticRepository occupyStatisticRepository,
+                                 @Nonnull OccupyStatisticWriter occupyStatisticWriter,
                                  @Nonnull TestAvailableDataMonitoringRepository availableDataMonitoringRepository,
                                  @Nonnull TableColumnValuesRepository tableColumnValuesRepository,
                                  @Value("${test.data.initial.threshold}") Integer threshold) {
@@ -171,6 +174,7 @@ public class StatisticsServiceImpl implements StatisticsService {
         this.catalogRepository = catalogRepository;
         this.testDataService = testDataService;
         this.occupyStatisticRepository = occupyStatisticRepository;
+        this.occupyStatisticWriter = occupyStatisticWriter;
         this.availableDataMonitoringRepository = availableDataMonitoringRepository;
         this.tableColumnValuesRepository = tableColumnValuesRepository;
         this.threshold = threshold;
@@ -226,9 +230,8 @@ public class StatisticsServiceImpl implements StatisticsService {
         log.info("Get consumed test data for project: {}, system: {}, from: {}, to: {}",
                 projectId, systemId, dateFrom, dateTo);
         List<ConsumedStatisticsItem> listItems = new ArrayList<>();
-        List<TestDataOccupyStatistic> occupyStatisticList = Objects.nonNull(systemId)
-                ? occupyStatisticRepository.findAllByProjectIdAndSystemId(projectId, systemId)
-                : occupyStatisticRepository.findAllByProjectId(projectId);
+        List<TestDataOccupyStatistic> occupyStatisticList = statisticsRepository.getStatisticsTables(projectId,
+                systemId);
         ConsumedStatistics data = statisticsRepository.getTestDataConsumption(occupyStatisticList,
                 projectId, dateFrom, dateTo);
         setEnvironmentsNames(projectId, data.getItems());
@@ -343,9 +346,8 @@ public class StatisticsServiceImpl implements StatisticsService {
         List<TestDataTableCatalog> catalogExistingList = Objects.nonNull(systemId)
                 ? catalogRepository.findAllByProjectIdAndSystemId(projectId, systemId)
                 : catalogRepository.findAllByProjectId(projectId);
-        List<TestDataOccupyStatistic> catalogDeletedList = Objects.nonNull(systemId)
-                ? occupyStatisticRepository.findAllByProjectIdAndSystemId(projectId, systemId)
-                : occupyStatisticRepository.findAllByProjectId(projectId);
+        List<TestDataOccupyStatistic> catalogDeletedList = statisticsRepository.getStatisticsTables(projectId,
+                systemId);
         DateStatistics dataExisting = testDataService.getTableByCreatedWhen(catalogExistingList, dateFrom, dateTo);
         DateStatistics dataDeleted = statisticsRepository.getTestDataCreatedWhen(catalogDeletedList,
                 projectId, dateFrom, dateTo);
@@ -516,11 +518,32 @@ public class StatisticsServiceImpl implements StatisticsService {
 
     @Override
     public void saveOccupyStatistic(@Nonnull TestDataOccupyStatistic testDataOccupyStatistic) {
+        occupyStatisticWriter.flush();
         occupyStatisticRepository.save(testDataOccupyStatistic);
     }
 
+    @Override
+    public void saveOccupyStatisticsAsync(@Nonnull List<TestDataOccupyStatistic> testDataOccupyStatistics) {
+        occupyStatisticWriter.write(testDataOccupyStatistics);
+    }
+
+    @Override
+    public void saveOccupyStatisticsAsync(@Nonnull String tableName, @Nonnull TestDataTableCatalog catalog,
+                                          @Nonnull String occupiedBy, @Nonnull LocalDateTime occupiedDate,
+                                          @Nonnull List<UUID> rows) {
+        TestDataTable testDataTable = getCreatedWhenTestDataInfo(tableName, rows);
+        occupyStatisticWriter.write(toOccupyStatistics(tableName, catalog, testDataTable, occupiedBy,
+                occupiedDate));
+    }
+
+    @Override
+    public void flushOccupyStatistics() {
+        occupyStatisticWriter.flush();
+    }
+
     @Override
     public void deleteAllOccupyStatisticByRowId(@Nonnull List<UUID> rows) {
+        occupyStatisticWriter.flush();
         occupyStatisticRepository.deleteAllByRowId(rows);
     }
 
@@ -540,18 +563,27 @@ public class StatisticsServiceImpl implements StatisticsService {
     private void fillCreatedWhenStatistics(@Nonnull String tableName, @Nonnull TestDataTableCatalog catalog,
                                            @Nonnull TestDataTable testDataTable) {
         log.info("Save created when statistics for table:[{}]", tableName);
-        List<TestDataOccupyStatistic> statistics = testDataTable.getData().stream()
+        List<TestDataOccupyStatistic> statistics = toOccupyStatistics(tableName, catalog, testDataTable, null, null);
+        occupyStatisticWriter.flush();
+        occupyStatisticRepository.saveAll(statistics);
+        log.info("Created when statistics for table:[{}] successfully saved.", tableName);
+    }
+
+    private List<TestDataOccupyStatistic> toOccupyStatistics(@Nonnull String tableName,
+                                                             @Nonnull TestDataTableCatalog catalog,
+                                                             @Nonnull TestDataTable testDataTable,
+                                                             @Nullable String occupiedBy,
+                                                             @Nullable LocalDateTime occupiedDate) {
+        return testDataTable.getData().stream()
                 .map(row -> {
                     LocalDateTime createdWhen = LocalDateTime.parse(String.valueOf(row.get(SystemColumns.CREATED_WHEN
                                     .getName())),
                             FULL_DATE_FORMATTER);
                     UUID rowId = UUID.fromString(String.valueOf(row.get(SystemColumns.ROW_ID.getName())));
                     return new TestDataOccupyStatistic(rowId, catalog.getProjectId(), catalog.getSystemId(), tableName,
-                            catalog.getTableTitle(), null, null, createdWhen);
+                            catalog.getTableTitle(), occupiedBy, occupiedDate, createdWhen);
                 })
                 .collect(Collectors.toList());
-        occupyStatisticRepository.saveAll(statistics);
-        log.info("Created when statistics for table:[{}] successfully saved.", tableName);
     }
 
     private TestDataTable getCreatedWhenTestDataInfo(@Nonnull String tableName) {
@@ -577,8 +609,8 @@ public class StatisticsServiceImpl implements StatisticsService {
         int daysCount = testDataTableUsersMonitoring.getDaysCount();
         String shortNameProject = environmentsService.getLazyProjectById(projectId).getName();
 
-        List<TestDataOccupyReportGroupBy> testDataOccupy = occupyStatisticRepository
-                .findAllByProjectIdAndOccupiedDateAndCountGroupBy(projectId, LocalDateTime.now().minusDays(daysCount));
+        List<TestDataOccupyReportGroupBy> testDataOccupy = statisticsRepository
+                .getOccupiedStatisticsGroupBy(projectId, LocalDateTime.now().minusDays(daysCount));
 
         if (!testDataOccupy.isEmpty()) {
             List<UsersStatisticsReportElement> userElements = new ArrayList<>();
@@ -19,6 +19,7 @@ package org.qubership.atp.tdm.service.impl;
 import static org.qubership.atp.tdm.utils.DateFormatters.FULL_DATE_FORMATTER;
 
 import java.io.File;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -72,6 +73,7 @@ import org.qubership.atp.tdm.mdc.TdmMdcHelper;
 import org.qubership.atp.tdm.model.ColumnValues;
 import org.qubership.atp.tdm.model.DropResults;
 import org.qubership.atp.tdm.model.EnvsList;
+import org.qubership.atp.tdm.model.ExportFileType;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
 import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
@@ -81,22 +83,23 @@ import org.qubership.atp.tdm.model.scheduler.CleanRemovingHistoryJob;
 import org.qubership.atp.tdm.model.scheduler.TableCleanerJob;
 import org.qubership.atp.tdm.model.statistics.DateStatistics;
 import org.qubership.atp.tdm.model.statistics.DateStatisticsItem;
+import org.qubership.atp.tdm.model.table.CountMode;
 import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataFlagsTable;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.TestDataTableIndex;
 import org.qubership.atp.tdm.model.table.TestDataTableOrder;
 import org.qubership.atp.tdm.model.table.conditions.search.SearchConditionType;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.ImportInfoRepository;
 import org.qubership.atp.tdm.repo.ProjectInformationRepository;
 import org.qubership.atp.tdm.repo.TestDataTableRepository;
-import org.qubership.atp.tdm.repo.impl.SystemColumns;
 import org.qubership.atp.tdm.service.CleanupService;
 import org.qubership.atp.tdm.service.ColumnService;
 import org.qubership.atp.tdm.service.TestDataFlagsService;
 import org.qubership.atp.tdm.service.TestDataService;
-import org.qubership.atp.tdm.utils.DataUtils;
+import org.qubership.atp.tdm.utils.StatisticsBuckets;
 import org.qubership.atp.tdm.utils.TestDataTableConvertor;
 import org.qubership.atp.tdm.utils.TestDataUtils;
 import lombok.extern.slf4j.Slf4j;
@@ -217,13 +220,13 @@ public class TestDataServiceImpl implements TestDataService {
                                      @Nonnull Boolean isOccupied) {
         testDataTableRepository.updateLastUsage(tableName);
         return testDataTableRepository.getTestData(isOccupied, tableName, offset, limit, filters,
-                testDataTableOrder, false);
+                testDataTableOrder, false, CountMode.ESTIMATE);
     }
 
     @Override
     public TestDataTable getTestData(@Nonnull String tableName, @Nonnull List<String> columnNames,
                                      @Nullable List<TestDataTableFilter> filters) {
-        return testDataTableRepository.getTestData(tableName, columnNames, filters);
+        return testDataTableRepository.getTestData(tableName, columnNames, filters, CountMode.NONE);
     }
 
     @Override
@@ -363,12 +366,7 @@ public class TestDataServiceImpl implements TestDataService {
         testDataTableRepository.updateLastUsage(tableName);
         tdmMdcHelper.putConfigFields(catalog);
         LocalDateTime occupyTime = LocalDateTime.parse(date, FULL_DATE_FORMATTER);
-        rows.forEach(row -> {
-            LocalDateTime createdTime = LocalDateTime.parse(String.valueOf(getTableRow(tableName, "ROW_ID",
-                    row.toString(), true).get("CREATED_WHEN")), FULL_DATE_FORMATTER);
-            statisticsService.saveOccupyStatistic(new TestDataOccupyStatistic(row, catalog.getProjectId(),
-                    catalog.getSystemId(), tableName, catalog.getTableTitle(), occupiedBy, occupyTime, createdTime));
-        });
+        statisticsService.saveOccupyStatisticsAsync(tableName, catalog, occupiedBy, occupyTime, rows);
     }
 
     @Override
@@ -449,6 +447,19 @@ public class TestDataServiceImpl implements TestDataService {
         return testDataTableRepository.getTestDataTableAsCsv(tableName, null, null, null);
     }
 
+    /**
+     * Write TestDataTable to output stream as excel or csv document without intermediate file.
+     *
+     * @param tableName    table name.
+     * @param fileType     document format.
+     * @param outputStream stream to write document to.
+     */
+    @Override
+    public void writeTestDataTable(@Nonnull String tableName, @Nonnull ExportFileType fileType,
+                                   @Nonnull OutputStream outputStream) {
+        testDataTableRepository.writeTestDataTable(tableName, fileType, outputStream);
+    }
+
     @Override
     public String getPreviewLink(@Nonnull UUID projectId, @Nullable UUID systemId, @Nullable String endpoint,
                                  @Nonnull String columnName, @Nullable String tableName,
@@ -563,88 +574,32 @@ public class TestDataServiceImpl implements TestDataService {
         return testDataTableRepository.getColumnDistinctValues(tableName, columnName, occupied);
     }
 
+    @Override
+    public List<TestDataTableIndex> getColumnIndexes(@Nonnull String tableName) {
+        return testDataTableRepository.getColumnIndexes(tableName);
+    }
+
+    @Override
+    public TestDataTableIndex createColumnIndex(@Nonnull String tableName, @Nonnull String columnName) {
+        return testDataTableRepository.createColumnIndex(tableName, columnName);
+    }
+
+    @Override
+    public void dropColumnIndex(@Nonnull String tableName, @Nonnull String columnName) {
+        testDataTableRepository.dropColumnIndex(tableName, columnName);
+    }
+
     @Override
     public DateStatistics getTableByCreatedWhen(@Nonnull List<TestDataTableCatalog> catalogList,
                                                 @Nonnull LocalDate dateFrom,
                                                 @Nonnull LocalDate dateTo) {
         DateStatistics dateStatistics = new DateStatistics();
         List<DateStatisticsItem> listStatisticsItems = new ArrayList<>();
-        dateStatistics.setDates(DataUtils.getStatisticsInterval(dateFrom, dateTo));
+        StatisticsBuckets buckets = StatisticsBuckets.of(dateFrom, dateTo);
+        dateStatistics.setDates(new ArrayList<>(buckets.getDates()));
         catalogList.forEach(catalog -> {
-            TestDataTable table = testDataTableRepository.getTableByCreatedWhen(catalog.getTableName(),
-                    dateFrom, dateTo);
-            LocalDate iterDate = dateFrom;
             DateStatisticsItem statisticsItem = new DateStatisticsItem(catalog.getTableTitle());
-            List<Long> created = new ArrayList<>();
-            long count;
-            switch (DataUtils.statisticsInterval) {
-                case YEARS:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen = LocalDateTime.parse(
-                                    row.get(SystemColumns.CREATED_WHEN.getName()).toString(), FULL_DATE_FORMATTER)
-                                    .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusYears(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
-                case WEEKS:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen = LocalDateTime.parse(
-                                    row.get(SystemColumns.CREATED_WHEN.getName()).toString(), FULL_DATE_FORMATTER)
-                                    .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()
-                                    && iterDate.getMonth() == createdWhen.getMonth()
-                                    && (createdWhen.isEqual(iterDate) || createdWhen.isAfter(iterDate))
-                                    && createdWhen.isBefore(iterDate.plusWeeks(1))) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusWeeks(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
-                case DAYS:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen = LocalDateTime.parse(
-                                    row.get(SystemColumns.CREATED_WHEN.getName()).toString(), FULL_DATE_FORMATTER)
-                                    .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()
-                                    && iterDate.getMonth() == createdWhen.getMonth()
-                                    && iterDate.getDayOfMonth() == createdWhen.getDayOfMonth()) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusDays(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
-                default:
-                    do {
-                        count = 0L;
-                        for (Map<String, Object> row : table.getData()) {
-                            LocalDate createdWhen = LocalDateTime.parse(
-                                    row.get(SystemColumns.CREATED_WHEN.getName()).toString(), FULL_DATE_FORMATTER)
-                                    .toLocalDate();
-                            if (iterDate.getYear() == createdWhen.getYear()
-                                    && iterDate.getMonth() == createdWhen.getMonth()) {
-                                count++;
-                            }
-                        }
-                        created.add(count);
-                        iterDate = iterDate.plusMonths(1);
-                    } while (!iterDate.isAfter(dateTo));
-                    break;
-            }
+            List<Long> created = testDataTableRepository.getCreatedWhenCounts(catalog.getTableName(), buckets);
             UUID system = catalog.getSystemId();
             if (system != null) {
                 statisticsItem.setSystem(system.toString());
@@ -673,8 +628,8 @@ public class TestDataServiceImpl implements TestDataService {
         filters.add(filter);
         TestDataTable table;
         try {
-            table = testDataTableRepository.getTestData(occupied, catalog.getTableName(),
-                    null, null, filters, null, false);
+            table = testDataTableRepository.getTestDataRows(occupied, catalog.getTableName(),
+                    null, null, filters);
             testDataTableRepository.updateLastUsage(catalog.getTableName());
 
         } catch (Exception e) {
@@ -712,8 +667,8 @@ public class TestDataServiceImpl implements TestDataService {
         filters.add(filter);
         TestDataTable table;
         try {
-            table = testDataTableRepository.getTestData(occupied, catalog.getTableName(),
-                    null, null, filters, null, false);
+            table = testDataTableRepository.getTestDataRows(occupied, catalog.getTableName(),
+                    null, null, filters);
         } catch (Exception e) {
             log.error(String.format("Error while retrieving test data from table %s", tableName), e);
             throw new TdmRetrieveTestDataException(tableName);
@@ -738,10 +693,11 @@ public class TestDataServiceImpl implements TestDataService {
         tablesCatalog.forEach(catalog -> {
             tdmMdcHelper.putConfigFields(catalog);
             try {
-                TestDataTable table = testDataTableRepository.getTestData(true, catalog.getTableName(),
-                        null, null, null, null, false);
+                TestDataTable table = testDataTableRepository.getTestDataRows(true, catalog.getTableName(),
+                        null, null, null);
                 if (table.getData().size() > 0) {
                     List<Map<String, Object>> rows = table.getData();
+                    List<TestDataOccupyStatistic> statistics = new ArrayList<>();
                     for (Map<String, Object> row : rows) {
                         log.debug("Processing row #{} from table {}", row.get("ROW_ID"), catalog.getTableName());
                         if (Objects.nonNull(row.get("OCCUPIED_BY"))) {
@@ -749,13 +705,13 @@ public class TestDataServiceImpl implements TestDataService {
                             String dateCreated = String.valueOf(row.get("CREATED_WHEN"));
                             LocalDateTime occupyTime = LocalDateTime.parse(dateOccupied, FULL_DATE_FORMATTER);
                             LocalDateTime createTime = LocalDateTime.parse(dateCreated, FULL_DATE_FORMATTER);
-                            statisticsService.saveOccupyStatistic(
-                                    new TestDataOccupyStatistic(UUID.fromString(row.get("ROW_ID").toString()),
-                                            catalog.getProjectId(), catalog.getSystemId(), catalog.getTableName(),
-                                            catalog.getTableTitle(), String.valueOf(row.get("OCCUPIED_BY")),
-                                            occupyTime, createTime));
+                            statistics.add(new TestDataOccupyStatistic(UUID.fromString(row.get("ROW_ID").toString()),
+                                    catalog.getProjectId(), catalog.getSystemId(), catalog.getTableName(),
+                                    catalog.getTableTitle(), String.valueOf(row.get("OCCUPIED_BY")),
+                                    occupyTime, createTime));
                         }
                     }
+                    statisticsService.saveOccupyStatisticsAsync(statistics);
                 }
             } catch (BadSqlGrammarException e) {
                 log.error("Table with name {} does not exist.", catalog.getTableName());
@@ -20,12 +20,15 @@ import static org.qubership.atp.tdm.service.notification.environments.Environmen
 import static java.lang.String.format;
 
 import java.io.IOException;
+import java.util.Objects;
 
 import javax.annotation.Nonnull;
 
+import org.qubership.atp.tdm.env.configurator.configuration.EnvironmentsCacheInvalidator;
 import org.qubership.atp.tdm.exceptions.kafka.TdmKafkaListenerReadEventException;
 import org.qubership.atp.tdm.mdc.TdmMdcHelper;
 import org.qubership.atp.tdm.repo.CatalogRepository;
+import org.qubership.atp.tdm.repo.impl.CatalogIndex;
 import org.qubership.atp.tdm.service.TestDataService;
 import org.slf4j.MDC;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -39,15 +42,22 @@ public class EnvironmentsEventKafkaListener implements EnvironmentEventListener
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final TestDataService testDataService;
     private final CatalogRepository catalogRepository;
+    private final CatalogIndex catalogIndex;
+    private final EnvironmentsCacheInvalidator environmentsCacheInvalidator;
     private final TdmMdcHelper tdmMdcHelper;
 
     /**
      * Environments Event Kafka Listener.
      */
     public EnvironmentsEventKafkaListener(@Nonnull TestDataService testDataService,
-                                          @Nonnull CatalogRepository catalogRepository, TdmMdcHelper tdmMdcHelper) {
+                                          @Nonnull CatalogRepository catalogRepository,
+                                          @Nonnull CatalogIndex catalogIndex,
+                                          @Nonnull EnvironmentsCacheInvalidator environmentsCacheInvalidator,
+                                          TdmMdcHelper tdmMdcHelper) {
         this.testDataService = testDataService;
         this.catalogRepository = catalogRepository;
+        this.catalogIndex = catalogIndex;
+        this.environmentsCacheInvalidator = environmentsCacheInvalidator;
         this.tdmMdcHelper = tdmMdcHelper;
     }
 
@@ -64,6 +74,11 @@ public class EnvironmentsEventKafkaListener implements EnvironmentEventListener
             throw new TdmKafkaListenerReadEventException(event);
         }
         tdmMdcHelper.putEnvironmentEventFields(environmentEvent);
+        if (Objects.nonNull(environmentEvent.getId())) {
+            catalogIndex.invalidateEnvironment(environmentEvent.getId());
+            environmentsCacheInvalidator.evictEnvironment(environmentEvent.getProjectId(), environmentEvent.getId(),
+                    DELETE.equals(environmentEvent.getEventType()));
+        }
         if (DELETE.equals(environmentEvent.getEventType())) {
             log.info("Environment '{}' was deleted", environmentEvent.getId());
             catalogRepository.findByEnvironmentId(environmentEvent.getId()).forEach(
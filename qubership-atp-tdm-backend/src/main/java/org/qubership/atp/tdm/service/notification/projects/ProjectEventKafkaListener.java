@@ -16,21 +16,22 @@
 
 package org.qubership.atp.tdm.service.notification.projects;
 
-import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.AUTH_PROJECT_CACHE;
 import static java.lang.String.format;
 
 import java.io.IOException;
+import java.util.Objects;
 
 import javax.annotation.Nonnull;
 
+import org.qubership.atp.tdm.env.configurator.configuration.EnvironmentsCacheInvalidator;
 import org.qubership.atp.tdm.exceptions.kafka.TdmKafkaListenerReadEventException;
 import org.qubership.atp.tdm.exceptions.kafka.TdmKafkaListenerTypeEventException;
 import org.qubership.atp.tdm.mdc.MdcField;
 import org.qubership.atp.tdm.model.ProjectInformation;
+import org.qubership.atp.tdm.repo.impl.CatalogIndex;
 import org.qubership.atp.tdm.service.ProjectInformationService;
 import org.qubership.atp.tdm.service.TestDataService;
 import org.slf4j.MDC;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.kafka.annotation.KafkaListener;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -43,16 +44,24 @@ public class ProjectEventKafkaListener implements ProjectEventListener {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final TestDataService testDataService;
     private final ProjectInformationService projectInformationService;
+    private final CatalogIndex catalogIndex;
+    private final EnvironmentsCacheInvalidator environmentsCacheInvalidator;
 
+    /**
+     * Project Event Kafka Listener.
+     */
     public ProjectEventKafkaListener(@Nonnull TestDataService testDataService,
-                                     @Nonnull ProjectInformationService projectInformationService) {
+                                     @Nonnull ProjectInformationService projectInformationService,
+                                     @Nonnull CatalogIndex catalogIndex,
+                                     @Nonnull EnvironmentsCacheInvalidator environmentsCacheInvalidator) {
         this.testDataService = testDataService;
         this.projectInformationService = projectInformationService;
+        this.catalogIndex = catalogIndex;
+        this.environmentsCacheInvalidator = environmentsCacheInvalidator;
     }
 
     @Override
     @KafkaListener(topics = "${kafka.project.topic:catalog_notification_topic}")
-    @CacheEvict(value = AUTH_PROJECT_CACHE, allEntries = true)
     public void listen(String event) {
         MDC.clear();
         ProjectEvent projectEvent;
@@ -63,6 +72,10 @@ public class ProjectEventKafkaListener implements ProjectEventListener {
             throw new TdmKafkaListenerReadEventException(event);
         }
         MdcUtils.put(MdcField.PROJECT_ID.toString(), projectEvent.getProjectId());
+        if (Objects.nonNull(projectEvent.getProjectId())) {
+            environmentsCacheInvalidator.evictProject(projectEvent.getProjectId(), projectEvent.getProjectName(),
+                    ProjectEventType.DELETE.equals(projectEvent.getType()));
+        }
         switch (projectEvent.getType()) {
             case CREATE: {
                 log.info("Project '{}' was created", projectEvent.getProjectName());
@@ -83,6 +96,7 @@ public class ProjectEventKafkaListener implements ProjectEventListener {
             case DELETE: {
                 log.info("Project '{}' was deleted from projects catalogue", projectEvent.getProjectName());
                 testDataService.deleteProjectFromCatalogue(projectEvent.getProjectId());
+                catalogIndex.invalidateProject(projectEvent.getProjectId());
                 break;
             }
             default: {
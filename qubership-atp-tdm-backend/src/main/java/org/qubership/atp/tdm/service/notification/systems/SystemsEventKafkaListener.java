@@ -20,12 +20,15 @@ import static org.qubership.atp.tdm.service.notification.systems.SystemEventType
 import static java.lang.String.format;
 
 import java.io.IOException;
+import java.util.Objects;
 
 import javax.annotation.Nonnull;
 
+import org.qubership.atp.tdm.env.configurator.configuration.EnvironmentsCacheInvalidator;
 import org.qubership.atp.tdm.exceptions.kafka.TdmKafkaListenerReadEventException;
 import org.qubership.atp.tdm.mdc.TdmMdcHelper;
 import org.qubership.atp.tdm.repo.CatalogRepository;
+import org.qubership.atp.tdm.repo.impl.CatalogIndex;
 import org.qubership.atp.tdm.service.TestDataService;
 import org.slf4j.MDC;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -39,6 +42,8 @@ public class SystemsEventKafkaListener implements SystemEventListener {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final TestDataService testDataService;
     private final CatalogRepository catalogRepository;
+    private final CatalogIndex catalogIndex;
+    private final EnvironmentsCacheInvalidator environmentsCacheInvalidator;
     private final TdmMdcHelper tdmMdcHelper;
 
     /**
@@ -46,9 +51,13 @@ public class SystemsEventKafkaListener implements SystemEventListener {
      */
     public SystemsEventKafkaListener(@Nonnull TestDataService testDataService,
                                      @Nonnull CatalogRepository catalogRepository,
+                                     @Nonnull CatalogIndex catalogIndex,
+                                     @Nonnull EnvironmentsCacheInvalidator environmentsCacheInvalidator,
                                      TdmMdcHelper tdmMdcHelper) {
         this.testDataService = testDataService;
         this.catalogRepository = catalogRepository;
+        this.catalogIndex = catalogIndex;
+        this.environmentsCacheInvalidator = environmentsCacheInvalidator;
         this.tdmMdcHelper = tdmMdcHelper;
     }
 
@@ -65,6 +74,11 @@ public class SystemsEventKafkaListener implements SystemEventListener {
             throw new TdmKafkaListenerReadEventException(event);
         }
         tdmMdcHelper.putSystemEventFields(systemEvent);
+        if (Objects.nonNull(systemEvent.getId())) {
+            catalogIndex.invalidateSystem(systemEvent.getId());
+            environmentsCacheInvalidator.evictSystem(systemEvent.getProjectId(), systemEvent.getId(),
+                    DELETE.equals(systemEvent.getEventType()));
+        }
         if (DELETE.equals(systemEvent.getEventType())) {
             log.info("System '{}' was deleted", systemEvent.getId());
             catalogRepository.findBySystemId(systemEvent.getId()).forEach(
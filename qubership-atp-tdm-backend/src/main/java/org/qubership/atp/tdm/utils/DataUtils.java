@@ -19,10 +19,7 @@ package org.qubership.atp.tdm.utils;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
-import java.time.Period;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -38,16 +35,11 @@ import org.springframework.util.FileSystemUtils;
 import org.qubership.atp.tdm.exceptions.db.TdmDbCheckColumnNameException;
 import org.qubership.atp.tdm.exceptions.db.TdmDbCheckQueryException;
 import org.qubership.atp.tdm.exceptions.db.TdmDbCheckTableNameException;
-import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class DataUtils {
 
-    private static final int UI_SUITABLE_PERIODS = 8;
-    private static final int WEEK_LENGTH = 7;
-    public static StatisticsInterval statisticsInterval;
-
     private static final String WEEK_PLACEHOLDER = "w";
     private static final String DAY_PLACEHOLDER = "d";
 
@@ -80,41 +72,7 @@ public class DataUtils {
      * @return - parsed dates list.
      */
     public static List<String> getStatisticsInterval(@Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo) {
-        List<String> dates = new ArrayList<>();
-        double days = ChronoUnit.DAYS.between(dateFrom, dateTo);
-        long weeks = (long) Math.ceil(days / WEEK_LENGTH);
-        Period period = Period.between(dateFrom, dateTo);
-        if (period.getYears() == 0) {
-            if (period.getMonths() == 0 && period.getDays() < UI_SUITABLE_PERIODS) {
-                for (int i = 0; i <= period.getDays(); ++i) {
-                    dates.add(dateFrom.plusDays(i).format(DateTimeFormatter.ofPattern(
-                            DateFormatters.UI_DATE_FORMATTER_DAYS)));
-                }
-                statisticsInterval = StatisticsInterval.DAYS;
-            } else if (weeks < UI_SUITABLE_PERIODS) {
-                for (int i = 1; i <= weeks; ++i) {
-                    dates.add(dateFrom.plusWeeks(i - 1).format(DateTimeFormatter.ofPattern(
-                            DateFormatters.UI_DATE_FORMATTER_DAYS))
-                            + " - "
-                            + dateFrom.plusWeeks(i).minusDays(1)
-                            .format(DateTimeFormatter.ofPattern(DateFormatters.UI_DATE_FORMATTER_DAYS)));
-                }
-                statisticsInterval = StatisticsInterval.WEEKS;
-            } else {
-                for (int i = 0; i <= period.getMonths(); ++i) {
-                    dates.add(dateFrom.plusMonths(i).format(DateTimeFormatter.ofPattern(
-                            DateFormatters.UI_DATE_FORMATTER_MONTHS)));
-                }
-                statisticsInterval = StatisticsInterval.MONTHS;
-            }
-        } else {
-            for (int i = 0; i <= period.getYears(); ++i) {
-                dates.add(dateFrom.plusYears(i).format(DateTimeFormatter.ofPattern(
-                        DateFormatters.UI_DATE_FORMATTER_YEARS)) + " year");
-            }
-            statisticsInterval = StatisticsInterval.YEARS;
-        }
-        return dates;
+        return new ArrayList<>(StatisticsBuckets.of(dateFrom, dateTo).getDates());
     }
 
     /**
@@ -186,4 +144,20 @@ public class DataUtils {
         }
     }
 
+    /**
+     * Removes trailing semicolons and whitespaces, so the query can be embedded into another query.
+     *
+     * @param query - user query.
+     * @return query without statement terminator.
+     */
+    public static String trimTrailingSemicolons(String query) {
+        if (query == null) {
+            return null;
+        }
+        String trimmed = query.trim();
+        while (trimmed.endsWith(";")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1).trim();
+        }
+        return trimmed;
+    }
 }
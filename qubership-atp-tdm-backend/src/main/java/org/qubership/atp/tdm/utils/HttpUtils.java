@@ -25,6 +25,7 @@ import java.nio.file.Paths;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public class HttpUtils {
 
@@ -59,4 +60,22 @@ public class HttpUtils {
         DataUtils.deleteFile(file.toPath());
         return body;
     }
+
+    /**
+     * Building response entity streaming document to user while it is being generated.
+     *
+     * @param fileName    - name of downloaded file.
+     * @param contentType - type of file.
+     * @param body        - writer of document content.
+     * @return - response entity.
+     */
+    public static ResponseEntity<StreamingResponseBody> buildStreamingResponseEntity(String fileName,
+                                                                                     String contentType,
+                                                                                     StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "Content-Disposition")
+                .header("Content-Disposition", Paths.get(fileName).getFileName().toString())
+                .header("Content-Type", contentType)
+                .body(body);
+    }
 }
@@ -43,7 +43,6 @@ public class QueryEvaluator {
     private static final String OPEN_BRACKET = "${";
     private static final String CLOSE_BRACKET = "}";
 
-    private static final String DEFAULT_COUNT_QUERY = "select 5";
     private static final String TDM_TABLE_ALIAS = "tdm_table";
 
     private final JdbcTemplate jdbcTemplate;
@@ -66,8 +65,7 @@ public class QueryEvaluator {
         for (String query : queries) {
             String finalQuery = query.replace(TDM_TABLE_ALIAS, tableName);
             log.debug("Execute query: {}", finalQuery);
-            TestDataTable table = jdbcTemplate.query(finalQuery, extractorProvider.simpleExtractor(tableName,
-                    DEFAULT_COUNT_QUERY));
+            TestDataTable table = jdbcTemplate.query(finalQuery, extractorProvider.rowsExtractor(tableName));
 
             String result;
             if (Objects.isNull(table)) {
@@ -0,0 +1,193 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.utils;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
+
+import lombok.Getter;
+
+/**
+ * Date buckets of one statistics request. The interval is chosen by the length of the requested period,
+ * so the chart has a suitable number of points. Weeks are counted from the beginning of the period.
+ * Buckets are calculated by SQL with the bucket expression and mapped to positions by bucket index.
+ */
+@Getter
+public class StatisticsBuckets {
+
+    private static final int UI_SUITABLE_PERIODS = 8;
+    private static final int WEEK_LENGTH = 7;
+
+    private final LocalDate dateFrom;
+    private final LocalDate dateTo;
+    private final StatisticsInterval interval;
+    private final List<String> dates;
+    private final int count;
+
+    private StatisticsBuckets(@Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo,
+                              @Nonnull StatisticsInterval interval, @Nonnull List<String> dates) {
+        this.dateFrom = dateFrom;
+        this.dateTo = dateTo;
+        this.interval = interval;
+        this.dates = Collections.unmodifiableList(dates);
+        this.count = calculateCount();
+    }
+
+    /**
+     * Get buckets of the period.
+     *
+     * @param dateFrom - beginning date.
+     * @param dateTo   - ending date.
+     * @return buckets with interval and dates labels.
+     */
+    public static StatisticsBuckets of(@Nonnull LocalDate dateFrom, @Nonnull LocalDate dateTo) {
+        List<String> dates = new ArrayList<>();
+        double days = ChronoUnit.DAYS.between(dateFrom, dateTo);
+        long weeks = (long) Math.ceil(days / WEEK_LENGTH);
+        Period period = Period.between(dateFrom, dateTo);
+        if (period.getYears() == 0) {
+            if (period.getMonths() == 0 && period.getDays() < UI_SUITABLE_PERIODS) {
+                for (int i = 0; i <= period.getDays(); ++i) {
+                    dates.add(dateFrom.plusDays(i).format(DateTimeFormatter.ofPattern(
+                            DateFormatters.UI_DATE_FORMATTER_DAYS)));
+                }
+                return new StatisticsBuckets(dateFrom, dateTo, StatisticsInterval.DAYS, dates);
+            } else if (weeks < UI_SUITABLE_PERIODS) {
+                for (int i = 1; i <= weeks; ++i) {
+                    dates.add(dateFrom.plusWeeks(i - 1).format(DateTimeFormatter.ofPattern(
+                            DateFormatters.UI_DATE_FORMATTER_DAYS))
+                            + " - "
+                            + dateFrom.plusWeeks(i).minusDays(1)
+                            .format(DateTimeFormatter.ofPattern(DateFormatters.UI_DATE_FORMATTER_DAYS)));
+                }
+                return new StatisticsBuckets(dateFrom, dateTo, StatisticsInterval.WEEKS, dates);
+            } else {
+                for (int i = 0; i <= period.getMonths(); ++i) {
+                    dates.add(dateFrom.plusMonths(i).format(DateTimeFormatter.ofPattern(
+                            DateFormatters.UI_DATE_FORMATTER_MONTHS)));
+                }
+                return new StatisticsBuckets(dateFrom, dateTo, StatisticsInterval.MONTHS, dates);
+            }
+        }
+        for (int i = 0; i <= period.getYears(); ++i) {
+            dates.add(dateFrom.plusYears(i).format(DateTimeFormatter.ofPattern(
+                    DateFormatters.UI_DATE_FORMATTER_YEARS)) + " year");
+        }
+        return new StatisticsBuckets(dateFrom, dateTo, StatisticsInterval.YEARS, dates);
+    }
+
+    /**
+     * SQL expression of the bucket date. Weeks are counted from :dateFrom query parameter.
+     *
+     * @param dateExpression - SQL expression of DATE type, e.g. column name.
+     * @return SQL expression which truncates the date to the beginning of its bucket.
+     */
+    public String getBucketExpression(@Nonnull String dateExpression) {
+        switch (interval) {
+            case YEARS:
+                return "CAST(date_trunc('year', " + dateExpression + ") AS date)";
+            case WEEKS:
+                return "CAST(:dateFrom AS date) + (" + dateExpression + " - CAST(:dateFrom AS date)) / 7 * 7";
+            case DAYS:
+                return dateExpression;
+            default:
+                return "CAST(date_trunc('month', " + dateExpression + ") AS date)";
+        }
+    }
+
+    /**
+     * Position of the date bucket.
+     *
+     * @param date - any date of the bucket.
+     * @return bucket index, negative or not less than buckets count if the date is out of the period.
+     */
+    public int indexOf(@Nonnull LocalDate date) {
+        switch (interval) {
+            case YEARS:
+                return date.getYear() - dateFrom.getYear();
+            case WEEKS:
+                return (int) Math.floorDiv(ChronoUnit.DAYS.between(dateFrom, date), (long) WEEK_LENGTH);
+            case DAYS:
+                return (int) ChronoUnit.DAYS.between(dateFrom, date);
+            default:
+                return (int) ChronoUnit.MONTHS.between(YearMonth.from(dateFrom), YearMonth.from(date));
+        }
+    }
+
+    /**
+     * Add count to the bucket of the date, dates out of the period are skipped.
+     *
+     * @param counts - counts by bucket index.
+     * @param date   - any date of the bucket.
+     * @param count  - count to add.
+     */
+    public void add(@Nonnull long[] counts, @Nonnull LocalDate date, long count) {
+        int index = indexOf(date);
+        if (index >= 0 && index < this.count) {
+            counts[index] += count;
+        }
+    }
+
+    /**
+     * Counts by bucket index as list, missing counts are zeros.
+     *
+     * @param counts - counts by bucket index.
+     * @return list of counts, one per bucket.
+     */
+    public List<Long> toList(@Nullable long[] counts) {
+        List<Long> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            list.add(Objects.isNull(counts) ? 0L : counts[i]);
+        }
+        return list;
+    }
+
+    private int calculateCount() {
+        int buckets = 0;
+        LocalDate date = dateFrom;
+        do {
+            buckets++;
+            switch (interval) {
+                case YEARS:
+                    date = date.plusYears(1);
+                    break;
+                case WEEKS:
+                    date = date.plusWeeks(1);
+                    break;
+                case DAYS:
+                    date = date.plusDays(1);
+                    break;
+                default:
+                    date = date.plusMonths(1);
+                    break;
+            }
+        } while (!date.isAfter(dateTo));
+        return buckets;
+    }
+}
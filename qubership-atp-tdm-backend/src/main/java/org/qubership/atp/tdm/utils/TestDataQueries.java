@@ -21,24 +21,57 @@ public class TestDataQueries {
     public static final String OCCUPIED_CONDITION = "WHERE \"SELECTED\" = ?";
 
     public static final String GET_OCCUPIED_STATISTICS_GROUP_BY =
-            "SELECT NEW org.qubership.atp.tdm.model.table.TestDataOccupyReportGroupBy"
-            + "(c.occupiedBy, c.occupiedDate, c.tableName, COUNT(*)) "
-            + "FROM TestDataOccupyStatistic as c "
-            + "WHERE c.projectId = :projectId "
-            + "AND c.occupiedDate >= :date "
-            + "GROUP BY c.occupiedBy, c.occupiedDate, c.tableName "
-            + "ORDER BY c.tableName";
+            "SELECT occupied_by, stat_date, table_name, occupied_count "
+            + "FROM test_data_statistic_daily "
+            + "WHERE project_id = :projectId "
+            + "AND stat_date >= :date "
+            + "AND occupied_count <> 0 "
+            + "ORDER BY table_name";
 
     public static final String OCCUPY_TEST_DATA =
             "update %s set \"SELECTED\" = true, \"OCCUPIED_BY\" = :user, \"OCCUPIED_DATE\" = '%s' "
                     + "where \"SELECTED\" = false and \"ROW_ID\" IN (:ids)";
 
+    public static final String OCCUPY_AVAILABLE_ROWS =
+            "UPDATE %s SET \"SELECTED\" = true, \"OCCUPIED_BY\" = :user, \"OCCUPIED_DATE\" = :date "
+                    + "WHERE \"SELECTED\" = false AND \"ROW_ID\" IN (%s FOR UPDATE SKIP LOCKED) RETURNING *";
+
     public static final String RELEASE_TEST_DATA =
             "update %s set \"SELECTED\" = false, \"OCCUPIED_BY\" = '' "
                     + "where \"ROW_ID\" IN (:ids)";
 
     public static final String DROP_TABLE = "DROP TABLE IF EXISTS %s CASCADE";
 
+    public static final String ADD_ROW_ID_PRIMARY_KEY = "ALTER TABLE %s ADD PRIMARY KEY (\"ROW_ID\")";
+
+    public static final String CREATE_ROW_ID_INDEX = "CREATE INDEX ON %s (\"ROW_ID\")";
+
+    public static final String CREATE_AVAILABLE_ROWS_INDEX =
+            "CREATE INDEX ON %s (\"ROW_ID\") WHERE \"SELECTED\" = false";
+
+    public static final String GET_PRIMARY_KEYS_COUNT = "SELECT COUNT(*) FROM information_schema.table_constraints "
+            + "WHERE constraint_type = 'PRIMARY KEY' AND table_name = LOWER(?)";
+
+    public static final String GET_PARTIAL_INDEXES_COUNT = "SELECT COUNT(*) FROM pg_index ix "
+            + "JOIN pg_class t ON t.oid = ix.indrelid "
+            + "WHERE t.relname = LOWER(?) AND ix.indpred IS NOT NULL";
+
+    public static final String GET_ROW_ID_DUPLICATES_COUNT = "SELECT COUNT(*) - COUNT(DISTINCT \"ROW_ID\") FROM %s";
+
+    public static final String GET_EXISTING_CATALOG_TABLES = "SELECT c.table_name FROM test_data_table_catalog c "
+            + "JOIN information_schema.tables t ON t.table_name = LOWER(c.table_name)";
+
+    public static final String CREATE_COLUMN_INDEX = "CREATE INDEX IF NOT EXISTS %s ON %s (\"%s\")";
+
+    public static final String DROP_INDEX = "DROP INDEX IF EXISTS %s";
+
+    public static final String GET_COLUMN_INDEXES = "SELECT i.relname AS index_name, a.attname AS column_name "
+            + "FROM pg_index ix "
+            + "JOIN pg_class t ON t.oid = ix.indrelid "
+            + "JOIN pg_class i ON i.oid = ix.indexrelid "
+            + "JOIN pg_attribute a ON a.attrelid = t.oid AND a.attnum = ANY(ix.indkey) "
+            + "WHERE t.relname = LOWER(?) AND i.relname LIKE 'tdm_idx_%'";
+
     public static final String TRUNCATE_TABLE = "TRUNCATE TABLE %s";
 
     public static final String DATA_TABLE_COLUMNS = "SELECT COLUMN_NAME FROM information_schema.COLUMNS "
@@ -60,26 +93,53 @@ public class TestDataQueries {
 
     public static final String DELETE_UNOCCUPIED_ROWS = "DELETE FROM %s where \"SELECTED\" = false";
 
+    public static final String UPDATE_ROWS_FROM_VALUES = "UPDATE %s AS t SET %s FROM (VALUES %s) AS v(%s) "
+            + "WHERE t.\"ROW_ID\" = v.\"ROW_ID\"";
+
+    public static final String GET_AVAILABLE_ROWS_AFTER_ROW_ID = "SELECT * FROM %s "
+            + "WHERE \"SELECTED\" = false AND \"ROW_ID\" > ? ORDER BY \"ROW_ID\" LIMIT ?";
+
     public static final String GET_TEST_DATA_AVAILABILITY_ITEM = ""
-            + "SELECT * FROM "
-            + "(SELECT COUNT(*) as available FROM %s WHERE \"SELECTED\" = false) available, "
-            + "(SELECT COUNT(*) as occupied FROM %s WHERE \"SELECTED\" = true) occupied,"
-            + "(SELECT COUNT(*) FROM %s\n"
-            + "WHERE \"SELECTED\" = true\n"
-            + "AND \"OCCUPIED_DATE\" >= '%s'::TIMESTAMP WITH TIME ZONE\n"
-            + "AND \"OCCUPIED_DATE\" <= '%s'::TIMESTAMP WITH TIME ZONE) occupiedToday,"
-            + "(SELECT COUNT(*) as total FROM %s ) total";
-
-    public static final String GET_TEST_DATA_CONSUMPTION_ITEM = ""
-            + "SELECT date, SUM(count) as count FROM ( "
-            + "SELECT date, count FROM "
-            + "( "
-            + "SELECT TO_CHAR(occupied_date, 'YYYY-MM-dd') as date, COUNT(*) as count "
-            + "FROM test_data_occupy_statistic "
-            + "WHERE LOWER(table_name) = ? AND (occupied_date BETWEEN ?::date AND ?::date) "
-            + "GROUP BY date ORDER BY date) as existing "
-            + ") as statistics "
-            + "GROUP BY date ORDER BY date";
+            + "SELECT COUNT(*) FILTER (WHERE \"SELECTED\" = false) AS available, "
+            + "COUNT(*) FILTER (WHERE \"SELECTED\" = true) AS occupied, "
+            + "COUNT(*) FILTER (WHERE \"SELECTED\" = true "
+            + "AND \"OCCUPIED_DATE\" >= '%s'::TIMESTAMP WITH TIME ZONE "
+            + "AND \"OCCUPIED_DATE\" <= '%s'::TIMESTAMP WITH TIME ZONE) AS occupiedToday, "
+            + "COUNT(*) AS total "
+            + "FROM %s";
+
+    public static final String GET_CREATED_WHEN_COUNTS = ""
+            + "SELECT %s AS bucket, COUNT(*) AS count FROM %s "
+            + "WHERE \"CREATED_WHEN\" >= :dateFrom AND \"CREATED_WHEN\" < :dateTo "
+            + "GROUP BY bucket";
+
+    public static final String UPDATE_LAST_USAGE = ""
+            + "UPDATE test_data_table_catalog SET last_usage = :date "
+            + "WHERE table_name IN (:tableNames) AND (last_usage IS NULL OR last_usage < :date)";
+
+    public static final String UPSERT_OCCUPY_STATISTIC = ""
+            + "INSERT INTO test_data_occupy_statistic (row_id, project_id, system_id, table_name, table_title, "
+            + "occupied_by, occupied_date, created_when) VALUES (?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (row_id) DO UPDATE SET project_id = EXCLUDED.project_id, "
+            + "system_id = EXCLUDED.system_id, table_name = EXCLUDED.table_name, "
+            + "table_title = EXCLUDED.table_title, occupied_by = EXCLUDED.occupied_by, "
+            + "occupied_date = EXCLUDED.occupied_date, created_when = EXCLUDED.created_when";
+
+    public static final String GET_TEST_DATA_CONSUMPTION_BY_PROJECT = ""
+            + "SELECT LOWER(table_name) AS table_name, %s AS bucket, SUM(occupied_count) AS count "
+            + "FROM test_data_statistic_daily "
+            + "WHERE project_id = :projectId "
+            + "AND stat_date BETWEEN CAST(:dateFrom AS date) AND CAST(:dateTo AS date) "
+            + "AND occupied_count <> 0 "
+            + "GROUP BY LOWER(table_name), bucket";
+
+    public static final String GET_TEST_DATA_CREATED_WHEN_BY_PROJECT = ""
+            + "SELECT LOWER(table_name) AS table_name, %s AS bucket, SUM(created_count) AS count "
+            + "FROM test_data_statistic_daily "
+            + "WHERE project_id = :projectId "
+            + "AND stat_date BETWEEN CAST(:dateFrom AS date) AND CAST(:dateTo AS date) "
+            + "AND created_count <> 0 "
+            + "GROUP BY LOWER(table_name), bucket";
 
     public static final String GET_TEST_DATA_OUTDATED_ITEM = ""
             + "SELECT date, SUM(created) AS created, SUM(consumed) AS consumed, SUM(outdated) AS outdated "
@@ -89,17 +149,18 @@ public class TestDataQueries {
             + "GROUP BY date ORDER BY date) "
             + "UNION ALL "
             + "( "
-            + "SELECT TO_CHAR(occupied_date, 'YYYY-MM-dd') as date, 0 created, COUNT(*) as consumed, 0 outdated "
-            + "FROM test_data_occupy_statistic "
+            + "SELECT TO_CHAR(stat_date, 'YYYY-MM-dd') as date, 0 created, SUM(occupied_count) as consumed, "
+            + "0 outdated "
+            + "FROM test_data_statistic_daily "
             + "WHERE LOWER(table_name) = ? "
-            + "AND occupied_date is not null "
+            + "AND occupied_count <> 0 "
             + "GROUP BY date ORDER BY date) "
             + "UNION ALL "
             + "( "
-            + "SELECT TO_CHAR(occupied_date, 'YYYY-MM-dd') as date,0 created, 0 consumed, COUNT(*) "
+            + "SELECT TO_CHAR(stat_date, 'YYYY-MM-dd') as date,0 created, 0 consumed, SUM(occupied_count) "
             + "AS outdated "
-            + "FROM test_data_occupy_statistic WHERE LOWER(table_name) = ? "
-            + "AND OCCUPIED_DATE >= ?::date "
+            + "FROM test_data_statistic_daily WHERE LOWER(table_name) = ? "
+            + "AND occupied_count <> 0 AND stat_date >= ?::date "
             + "GROUP BY date ORDER BY date "
             + ")) AS test GROUP BY date ";
 
@@ -118,6 +179,15 @@ public class TestDataQueries {
 
     public static final String RENAME_TABLE = "ALTER TABLE %s RENAME TO %s;";
 
+    public static final String RENAME_INDEX = "ALTER INDEX %s RENAME TO %s";
+
+    public static final String CREATE_TABLE_LIKE = "CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS)";
+
+    public static final String LOCK_TABLE_EXCLUSIVE = "LOCK TABLE %s IN ACCESS EXCLUSIVE MODE";
+
+    public static final String INSERT_OCCUPIED_DATA = "insert into %s (\"%s\") select "
+            + "\"%s\" from %s where \"SELECTED\" = true";
+
     public static final String COMMIT_WORK = "COMMIT WORK;";
 
     public static final String GET_COLUMN_CHARACTER_LENGTH = "SELECT character_length(\"%s\") FROM %s LIMIT 1";
@@ -132,32 +202,22 @@ public class TestDataQueries {
     public static final String GET_COLUMN_DISTINCT_VALUES_BY_OCCUPIED_COUNT =
             GET_COLUMN_DISTINCT_VALUES_COUNT + " " + OCCUPIED_CONDITION;
 
-    public static final String GET_OCCUPIED_STATISTIC_BY_PROJECT =
-            "SELECT DISTINCT ON(table_name) "
-                    + "row_id, table_name, occupied_by, occupied_date, "
-                    + "project_id, system_id, table_title, created_when "
-                    + "FROM test_data_occupy_statistic "
-                    + "WHERE project_id = :projectId "
+    public static final String GET_STATISTIC_TABLES_BY_PROJECT =
+            "SELECT DISTINCT ON(table_name) table_name, project_id, system_id, table_title "
+                    + "FROM test_data_statistic_daily "
+                    + "WHERE project_id = :projectId AND (created_count <> 0 OR occupied_count <> 0) "
                     + "ORDER BY table_name";
 
-    public static final String GET_OCCUPIED_STATISTIC_BY_PROJECT_AND_SYSTEM =
-            "SELECT DISTINCT ON(table_name) "
-                    + "row_id, table_name, occupied_by, occupied_date, "
-                    + "project_id, system_id, table_title, created_when "
-                    + "FROM test_data_occupy_statistic "
+    public static final String GET_STATISTIC_TABLES_BY_PROJECT_AND_SYSTEM =
+            "SELECT DISTINCT ON(table_name) table_name, project_id, system_id, table_title "
+                    + "FROM test_data_statistic_daily "
                     + "WHERE project_id = :projectId AND system_id = :systemId "
+                    + "AND (created_count <> 0 OR occupied_count <> 0) "
                     + "ORDER BY table_name";
 
     public static final String DELETE_OCCUPIED_STATISTIC = "DELETE FROM test_data_occupy_statistic "
             + "WHERE row_id IN (:rowIds)";
 
-    public static final String GET_STATISTIC_CREATED_WHEN =
-            "SELECT TO_CHAR(CREATED_WHEN, 'YYYY-MM-dd') as date, COUNT(*) as count "
-                    + "FROM test_data_occupy_statistic "
-                    + "WHERE LOWER(table_name) = ? "
-                    + "AND CREATED_WHEN BETWEEN ?::date AND ?::date "
-                    + "GROUP BY CREATED_WHEN ORDER BY CREATED_WHEN";
-
     public static final String CHANGE_TEST_DATA_TITLE = "UPDATE test_data_table_catalog "
             + "SET table_title = :table_title WHERE table_name = :table_name";
 
@@ -185,11 +245,12 @@ public class TestDataQueries {
             + " %s "
             + "FROM ( "
             + "    SELECT stats.table_title, stats.table_name, "
-            + "        stats.occupied_by, stats.occupied_date, count(*) as amount "
-            + "    FROM test_data_occupy_statistic AS stats "
+            + "        stats.occupied_by, stats.stat_date AS occupied_date, SUM(stats.occupied_count) as amount "
+            + "    FROM test_data_statistic_daily AS stats "
             + "JOIN test_data_table_catalog AS catalog on stats.table_name = catalog.table_name "
-            + "    WHERE stats.project_id ='%s' AND occupied_date BETWEEN '%s' AND '%s' %s "
-            + "    GROUP BY stats.table_title, stats.table_name, occupied_by, occupied_date  ) sourceTable "
+            + "    WHERE stats.project_id ='%s' AND stats.stat_date BETWEEN '%s' AND '%s' "
+            + "    AND stats.occupied_count <> 0 %s "
+            + "    GROUP BY stats.table_title, stats.table_name, stats.occupied_by, stats.stat_date  ) sourceTable "
             + "GROUP BY sourceTable.table_title,sourceTable.table_name, sourceTable.occupied_by "
             + "%s ";
 
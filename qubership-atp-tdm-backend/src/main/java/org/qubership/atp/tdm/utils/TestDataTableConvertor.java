@@ -20,24 +20,24 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.function.Consumer;
 
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
-import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.xssf.streaming.SXSSFSheet;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
-import org.qubership.atp.tdm.exceptions.file.TdmBuildCvsFileException;
-import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -46,7 +46,7 @@ public class TestDataTableConvertor {
     private static final String TEST_TABLE_NAME_PREFIX = "TDM_";
     private static final String EXCEL_EXT = ".xlsx";
     private static final String CSV_EXT = ".csv";
-    private static final int NUM_OF_BODY_ROW = 2;
+    private static final int EXCEL_ROWS_WINDOW_SIZE = 100;
 
     private static final int BATCH_SIZE = 200;
 
@@ -59,22 +59,11 @@ public class TestDataTableConvertor {
      *
      * @return fn .xlsx file
      */
-    public static File convertTableToExcelFile(String tableName, List<TestDataTableColumn> columns,
-                                               ResultSet resultSet) throws IOException, SQLException {
+    public static File convertTableToExcelFile(String tableName, ResultSet resultSet)
+            throws IOException, SQLException {
         File file = new File(Files.createTempFile(tableName, EXCEL_EXT).toString());
-        try (FileOutputStream outputStream = new FileOutputStream(file); SXSSFWorkbook workbook = new SXSSFWorkbook()) {
-            SXSSFSheet sheet = workbook.createSheet();
-            sheet.setRandomAccessWindowSize(100);
-            while (resultSet.next()) {
-                int rowCount = resultSet.getRow();
-                if (rowCount - 1 == 0) {
-                    Row row = sheet.createRow(rowCount - 1);
-                    formExcelRow(rowCount - 1, columns, row, resultSet);
-                }
-                Row row = sheet.createRow(rowCount);
-                formExcelRow(rowCount + NUM_OF_BODY_ROW, columns, row, resultSet);
-            }
-            workbook.write(outputStream);
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            writeTableAsExcel(resultSet, outputStream);
         } finally {
             file.deleteOnExit();
         }
@@ -82,21 +71,45 @@ public class TestDataTableConvertor {
     }
 
     /**
-     * Method for forming excel row.
+     * Write table rows from result set to output stream as .xlsx document.
+     * Only window of rows is kept in memory, result set is read forward only.
      *
-     * @param columns   - list of columns.
-     * @param row       - row from sheet to work.
-     * @param resultSet - resultSet for SQL queries.
-     * @throws SQLException - sql exception.
+     * @param resultSet    - resultSet for SQL queries.
+     * @param outputStream - stream to write document to.
+     * @return number of written rows.
      */
-    private static void formExcelRow(int rowCount, List<TestDataTableColumn> columns, Row row,
-                                     ResultSet resultSet) throws SQLException {
-        for (int colCount = 1; colCount < columns.size(); colCount++) {
-            //colCount-1 or empty column will be in the start of the file
-            Cell cell = row.createCell(colCount - 1);
-            Consumer<String> consumer = cell::setCellValue;
-            String columnName = columns.get(colCount).getIdentity().getColumnName();
-            setCellsForExcelFile(rowCount, columnName, resultSet, consumer);
+    public static int writeTableAsExcel(ResultSet resultSet, OutputStream outputStream)
+            throws IOException, SQLException {
+        List<String> columnNames = getExportColumnNames(resultSet);
+        SXSSFWorkbook workbook = new SXSSFWorkbook(EXCEL_ROWS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        int rowCount = 0;
+        try {
+            SXSSFSheet sheet = workbook.createSheet();
+            while (resultSet.next()) {
+                if (rowCount == 0) {
+                    formExcelRow(sheet.createRow(rowCount), columnNames);
+                }
+                rowCount++;
+                formExcelRow(sheet.createRow(rowCount), columnNames.size(), resultSet);
+            }
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+        return rowCount;
+    }
+
+    private static void formExcelRow(Row row, List<String> columnNames) {
+        for (int colCount = 0; colCount < columnNames.size(); colCount++) {
+            row.createCell(colCount).setCellValue(columnNames.get(colCount));
+        }
+    }
+
+    private static void formExcelRow(Row row, int columnsCount, ResultSet resultSet) throws SQLException {
+        for (int colCount = 0; colCount < columnsCount; colCount++) {
+            row.createCell(colCount).setCellValue(getCellValue(resultSet, colCount));
         }
     }
 
@@ -105,22 +118,11 @@ public class TestDataTableConvertor {
      *
      * @return fn .csv file
      */
-    public static File convertTableToCsvFile(String tableName, List<TestDataTableColumn> columns,
-                                             ResultSet resultSet) throws IOException, SQLException {
+    public static File convertTableToCsvFile(String tableName, ResultSet resultSet)
+            throws IOException, SQLException {
         File file = new File(Files.createTempFile(tableName, CSV_EXT).toString());
-        try (CSVPrinter printer = new CSVPrinter(new FileWriter(file), CSVFormat.EXCEL)) {
-            while (resultSet.next()) {
-                int rowCount = resultSet.getRow();
-                if (rowCount - 1 == 0) {
-                    formCsvRow(columns, rowCount - 1, resultSet, printer, tableName);
-                    printer.println();
-                }
-                formCsvRow(columns, rowCount + NUM_OF_BODY_ROW, resultSet, printer, tableName);
-                printer.println();
-                if (rowCount % BATCH_SIZE == 0) {
-                    printer.flush();
-                }
-            }
+        try (Writer writer = new FileWriter(file)) {
+            writeTableAsCsv(resultSet, writer);
         } finally {
             file.deleteOnExit();
         }
@@ -128,81 +130,48 @@ public class TestDataTableConvertor {
     }
 
     /**
-     * Method for forming csv row.
+     * Write table rows from result set to writer as csv document. Writer is flushed every batch of rows.
      *
-     * @param columns   - list of columns.
-     * @param rowCount  - row iter count.
      * @param resultSet - resultSet for SQL queries.
-     * @param printer   - csv printer.
-     * @param tableName - table name.
-     * @throws SQLException - sql exception.
-     */
-    private static void formCsvRow(List<TestDataTableColumn> columns, int rowCount, ResultSet resultSet,
-                                   CSVPrinter printer, String tableName) throws SQLException {
-        for (int colCount = 1; colCount < columns.size(); colCount++) {
-            String columnName = columns.get(colCount).getIdentity().getColumnName();
-            setCellsForCsvFile(rowCount, colCount, columnName, resultSet, value -> {
-                try {
-                    printer.print(value);
-                } catch (IOException e) {
-                    log.error(String.format(TdmBuildCvsFileException.DEFAULT_MESSAGE, tableName), e);
-                    throw new TdmBuildCvsFileException(tableName);
-                }
-            });
-        }
-    }
-
-    /**
-     * Set full table to write in excel file for user.
-     *
-     * @param columnName - name column.
-     * @param resultSet  - resultSet for SQL queries.
-     * @param consumer   - consumer for work.
+     * @param writer    - writer to write document to.
+     * @return number of written rows.
      */
-    private static void setCellsForExcelFile(int rowCount, String columnName, ResultSet resultSet,
-                                             Consumer<String> consumer) throws SQLException {
-        if (rowCount == 0) {
-            setBodyCellsForFile(columnName, consumer);
-        } else {
-            String cellValue = "";
-            if (Objects.nonNull(resultSet.getObject(columnName))) {
-                cellValue = resultSet.getObject(columnName).toString();
+    public static int writeTableAsCsv(ResultSet resultSet, Writer writer) throws IOException, SQLException {
+        List<String> columnNames = getExportColumnNames(resultSet);
+        CSVPrinter printer = new CSVPrinter(writer, CSVFormat.EXCEL);
+        int rowCount = 0;
+        while (resultSet.next()) {
+            if (rowCount == 0) {
+                printer.printRecord(columnNames);
+            }
+            rowCount++;
+            for (int colCount = 0; colCount < columnNames.size(); colCount++) {
+                printer.print(getCellValue(resultSet, colCount));
+            }
+            printer.println();
+            if (rowCount % BATCH_SIZE == 0) {
+                printer.flush();
             }
-            setBodyCellsForFile(cellValue, consumer);
         }
+        printer.flush();
+        return rowCount;
     }
 
     /**
-     * Method to set cells in csv file.
-     *
-     * @param rowCount   - row iter count.
-     * @param colCount   - column iter count.
-     * @param columnName - name of a column.
-     * @param resultSet  - resultSet for SQL queries.
-     * @param consumer   -  consumer for work.
-     * @throws SQLException - sql exception.
+     * Names of exported columns. The first column of result set (row id) is not exported.
      */
-    private static void setCellsForCsvFile(int rowCount, int colCount, String columnName, ResultSet resultSet,
-                                           Consumer<String> consumer) throws SQLException {
-        if (rowCount == 0 && colCount > 0) {
-            setBodyCellsForFile(columnName, consumer);
-        } else {
-            String cellValue = "";
-            if (Objects.nonNull(resultSet.getObject(columnName))) {
-                cellValue = resultSet.getObject(columnName).toString();
-            }
-            setBodyCellsForFile(cellValue, consumer);
+    private static List<String> getExportColumnNames(ResultSet resultSet) throws SQLException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        List<String> columnNames = new ArrayList<>();
+        for (int columnIdx = 2; columnIdx <= metaData.getColumnCount(); columnIdx++) {
+            columnNames.add(metaData.getColumnName(columnIdx));
         }
+        return columnNames;
     }
 
-    /**
-     * Set body cells for table to write in file for user.
-     *
-     * @param cellValue - values for cell.
-     * @param consumer  - consumer for work.
-     */
-    private static void setBodyCellsForFile(String cellValue, Consumer<String> consumer) {
-        consumer.accept(cellValue);
+    private static String getCellValue(ResultSet resultSet, int exportColumnIdx) throws SQLException {
+        Object value = resultSet.getObject(exportColumnIdx + 2);
+        return Objects.nonNull(value) ? value.toString() : "";
     }
 
     /**
@@ -0,0 +1,79 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+package org.qubership.atp.tdm.utils;
+
+import static java.lang.String.format;
+
+import java.nio.charset.StandardCharsets;
+
+import javax.annotation.Nonnull;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.DigestUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class TestDataTableIndexes {
+
+    private static final String COLUMN_INDEX_PREFIX = "tdm_idx_";
+    private static final int COLUMN_INDEX_HASH_LENGTH = 24;
+
+    private TestDataTableIndexes() {
+    }
+
+    /**
+     * Creates primary key on ROW_ID and partial index on available rows if they are missing.
+     * If existing data contains duplicated ROW_ID values, a plain index is created instead of the primary key.
+     *
+     * @param jdbcTemplate - jdbc template.
+     * @param tableName    - test data table name.
+     */
+    public static void createSystemIndexes(@Nonnull JdbcTemplate jdbcTemplate, @Nonnull String tableName) {
+        DataUtils.checkTableName(tableName);
+        Integer primaryKeys = jdbcTemplate.queryForObject(TestDataQueries.GET_PRIMARY_KEYS_COUNT,
+                Integer.class, tableName);
+        if (primaryKeys == null || primaryKeys == 0) {
+            Long duplicates = jdbcTemplate.queryForObject(
+                    format(TestDataQueries.GET_ROW_ID_DUPLICATES_COUNT, tableName), Long.class);
+            if (duplicates == null || duplicates == 0) {
+                jdbcTemplate.execute(format(TestDataQueries.ADD_ROW_ID_PRIMARY_KEY, tableName));
+            } else {
+                log.warn("Table [{}] contains {} duplicated ROW_ID values, primary key is replaced by index.",
+                        tableName, duplicates);
+                jdbcTemplate.execute(format(TestDataQueries.CREATE_ROW_ID_INDEX, tableName));
+            }
+        }
+        Integer partialIndexes = jdbcTemplate.queryForObject(TestDataQueries.GET_PARTIAL_INDEXES_COUNT,
+                Integer.class, tableName);
+        if (partialIndexes == null || partialIndexes == 0) {
+            jdbcTemplate.execute(format(TestDataQueries.CREATE_AVAILABLE_ROWS_INDEX, tableName));
+        }
+    }
+
+    /**
+     * Builds deterministic name of user declared index on column, so it can be recreated and dropped by column.
+     *
+     * @param tableName  - test data table name.
+     * @param columnName - column name.
+     * @return index name.
+     */
+    public static String buildColumnIndexName(@Nonnull String tableName, @Nonnull String columnName) {
+        String hash = DigestUtils.md5DigestAsHex((tableName.toLowerCase() + "." + columnName)
+                .getBytes(StandardCharsets.UTF_8));
+        return COLUMN_INDEX_PREFIX + hash.substring(0, COLUMN_INDEX_HASH_LENGTH);
+    }
+}
@@ -36,11 +36,15 @@ import org.qubership.atp.tdm.env.configurator.model.Server;
 import org.qubership.atp.tdm.exceptions.internal.TdmJsonParsingException;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.repo.impl.SystemColumns;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class TestDataUtils {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     /**
      * Returns column names from sql query.
      */
@@ -102,7 +106,7 @@ public class TestDataUtils {
      */
     public static String convertToJsonString(Object rowContent) {
         try {
-            return new ObjectMapper().writeValueAsString(rowContent);
+            return OBJECT_MAPPER.writeValueAsString(rowContent);
         } catch (JsonProcessingException e) {
             log.error(format(TdmJsonParsingException.DEFAULT_MESSAGE, rowContent), e);
             throw new TdmJsonParsingException(rowContent);
@@ -138,4 +142,21 @@ public class TestDataUtils {
                 .orElseThrow(() -> new TdmEnvDbConnectionException(type));
         return connection;
     }
+
+    /**
+     * Runs action once the current transaction is committed, or at once if there is no transaction.
+     * Used to drop cached state, otherwise a concurrent reader could cache the state which is not committed yet.
+     */
+    public static void runAfterCommit(@Nonnull Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
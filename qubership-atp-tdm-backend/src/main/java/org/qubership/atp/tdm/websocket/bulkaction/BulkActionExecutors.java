@@ -0,0 +1,98 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+package org.qubership.atp.tdm.websocket.bulkaction;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nonnull;
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executors for websocket bulk action requests, one per handler type.
+ * Every executor has a fixed number of threads and a bounded queue, requests over the queue capacity
+ * are rejected. Active, queued and completed requests are published as gauges tagged with handler type.
+ */
+@Slf4j
+@Component
+public class BulkActionExecutors {
+
+    private static final String ACTIVE_TASKS = "atp_tdm_bulk_action_active_tasks";
+    private static final String QUEUED_TASKS = "atp_tdm_bulk_action_queued_tasks";
+    private static final String COMPLETED_TASKS = "atp_tdm_bulk_action_completed_tasks";
+    private static final String HANDLER_TYPE = "handler_type";
+
+    private final MeterRegistry meterRegistry;
+    private final int poolSize;
+    private final int queueCapacity;
+    private final Map<String, ThreadPoolExecutor> executors = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param meterRegistry - registry to publish executor gauges.
+     * @param poolSize      - number of requests of one handler type processed at once.
+     * @param queueCapacity - number of requests of one handler type waiting to be processed.
+     */
+    public BulkActionExecutors(@Nonnull MeterRegistry meterRegistry,
+                               @Value("${tdm.bulk.request.pool.size:2}") int poolSize,
+                               @Value("${tdm.bulk.request.queue.capacity:20}") int queueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Get executor for handler type, the executor is created on first call.
+     *
+     * @param handlerType - handler type, e.g. refresh or cleanup.
+     * @return shared executor of the handler type.
+     */
+    public ThreadPoolExecutor getExecutor(@Nonnull String handlerType) {
+        return executors.computeIfAbsent(handlerType, this::createExecutor);
+    }
+
+    private ThreadPoolExecutor createExecutor(@Nonnull String handlerType) {
+        log.info("Creating bulk action executor for handler type: [{}]", handlerType);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("bulk-" + handlerType + "-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder(ACTIVE_TASKS, executor, ThreadPoolExecutor::getActiveCount)
+                .tag(HANDLER_TYPE, handlerType).register(meterRegistry);
+        Gauge.builder(QUEUED_TASKS, executor, e -> e.getQueue().size())
+                .tag(HANDLER_TYPE, handlerType).register(meterRegistry);
+        FunctionCounter.builder(COMPLETED_TASKS, executor, ThreadPoolExecutor::getCompletedTaskCount)
+                .tag(HANDLER_TYPE, handlerType).register(meterRegistry);
+        return executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ThreadPoolExecutor::shutdownNow);
+    }
+}
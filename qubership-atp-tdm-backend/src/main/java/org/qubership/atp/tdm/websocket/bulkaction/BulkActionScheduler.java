@@ -0,0 +1,202 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+package org.qubership.atp.tdm.websocket.bulkaction;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+import javax.annotation.Nonnull;
+import javax.annotation.PreDestroy;
+
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shared scheduler for bulk actions over test data tables.
+ * All bulk requests run on one pool, which caps the load on TDM database. Tables of the same environment
+ * run at most environment parallelism at a time across all requests, so they share a few pooled connections
+ * instead of overloading small environments. Pending tables are started from the most expensive one,
+ * estimated by past runtimes; tables without history are treated as the most expensive.
+ */
+@Slf4j
+@Component
+public class BulkActionScheduler {
+
+    private static final UUID NO_ENVIRONMENT_ID = new UUID(0L, 0L);
+    private static final double COST_SMOOTHING = 0.3;
+
+    private final ExecutorService executorService;
+    private final int environmentParallelism;
+    private final Map<UUID, Semaphore> environmentPermits = new ConcurrentHashMap<>();
+    private final Map<String, Long> estimatedCosts = new ConcurrentHashMap<>();
+    private final Set<Dispatcher<?>> dispatchers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param parallelism            - maximum number of tables processed at once by all bulk actions.
+     * @param environmentParallelism - maximum number of tables of one environment processed at once.
+     */
+    public BulkActionScheduler(@Value("${tdm.bulk.scheduler.parallelism:10}") int parallelism,
+                               @Value("${tdm.bulk.scheduler.environment.parallelism:3}")
+                                       int environmentParallelism) {
+        this.executorService = Executors.newFixedThreadPool(parallelism);
+        this.environmentParallelism = environmentParallelism;
+    }
+
+    /**
+     * Schedule action for every table.
+     *
+     * @param catalogs          - tables to process.
+     * @param executeInParallel - whether tables of this request may be processed in parallel.
+     * @param action            - action to run for a table.
+     * @return futures of action results in the order of catalogs.
+     */
+    public <T> List<Future<T>> schedule(@Nonnull List<TestDataTableCatalog> catalogs, boolean executeInParallel,
+                                        @Nonnull Function<TestDataTableCatalog, T> action) {
+        Dispatcher<T> dispatcher = new Dispatcher<>(catalogs, executeInParallel ? Integer.MAX_VALUE : 1, action);
+        if (!catalogs.isEmpty()) {
+            dispatchers.add(dispatcher);
+            dispatchAll();
+        }
+        return dispatcher.getFutures();
+    }
+
+    /**
+     * Estimated cost of processing a table in milliseconds.
+     */
+    long estimateCost(@Nonnull String tableName) {
+        return estimatedCosts.getOrDefault(tableName, Long.MAX_VALUE);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    private void recordCost(@Nonnull String tableName, long duration) {
+        estimatedCosts.merge(tableName, duration,
+                (previous, current) -> Math.round(previous * (1 - COST_SMOOTHING) + current * COST_SMOOTHING));
+    }
+
+    private Semaphore getEnvironmentPermits(UUID environmentId) {
+        return environmentPermits.computeIfAbsent(Objects.isNull(environmentId) ? NO_ENVIRONMENT_ID : environmentId,
+                id -> new Semaphore(environmentParallelism));
+    }
+
+    private void dispatchAll() {
+        dispatchers.forEach(Dispatcher::dispatch);
+    }
+
+    private class Dispatcher<T> {
+
+        private final List<ScheduledTable<T>> pending = new ArrayList<>();
+        private final List<Future<T>> futures = new ArrayList<>();
+        private final int maxRunning;
+        private final Function<TestDataTableCatalog, T> action;
+        private int running;
+
+        Dispatcher(List<TestDataTableCatalog> catalogs, int maxRunning, Function<TestDataTableCatalog, T> action) {
+            this.maxRunning = maxRunning;
+            this.action = action;
+            for (TestDataTableCatalog catalog : catalogs) {
+                ScheduledTable<T> table = new ScheduledTable<>(catalog, estimateCost(catalog.getTableName()));
+                pending.add(table);
+                futures.add(table.result);
+            }
+            pending.sort(Comparator.comparingLong((ScheduledTable<T> table) -> table.cost).reversed());
+        }
+
+        List<Future<T>> getFutures() {
+            return futures;
+        }
+
+        synchronized void dispatch() {
+            Iterator<ScheduledTable<T>> iterator = pending.iterator();
+            while (running < maxRunning && iterator.hasNext()) {
+                ScheduledTable<T> table = iterator.next();
+                Semaphore permits = getEnvironmentPermits(table.catalog.getEnvironmentId());
+                if (permits.tryAcquire()) {
+                    iterator.remove();
+                    try {
+                        executorService.submit(() -> run(table, permits));
+                        running++;
+                    } catch (RejectedExecutionException e) {
+                        permits.release();
+                        table.result.completeExceptionally(e);
+                    }
+                }
+            }
+            if (pending.isEmpty()) {
+                dispatchers.remove(this);
+            }
+        }
+
+        private void run(ScheduledTable<T> table, Semaphore permits) {
+            long startTime = System.currentTimeMillis();
+            T result = null;
+            Throwable failure = null;
+            try {
+                result = action.apply(table.catalog);
+            } catch (Throwable e) {
+                log.error("Bulk action failed for table: [{}]", table.catalog.getTableName(), e);
+                failure = e;
+            }
+            recordCost(table.catalog.getTableName(), System.currentTimeMillis() - startTime);
+            permits.release();
+            finished();
+            dispatchAll();
+            if (Objects.isNull(failure)) {
+                table.result.complete(result);
+            } else {
+                table.result.completeExceptionally(failure);
+            }
+        }
+
+        private synchronized void finished() {
+            running--;
+        }
+    }
+
+    private static class ScheduledTable<T> {
+
+        private final TestDataTableCatalog catalog;
+        private final long cost;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        ScheduledTable(TestDataTableCatalog catalog, long cost) {
+            this.catalog = catalog;
+            this.cost = cost;
+        }
+    }
+}
@@ -20,8 +20,9 @@ import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nonnull;
@@ -40,7 +41,6 @@ import org.qubership.atp.tdm.model.mail.bulkaction.AbstractBulkActionMailSender;
 import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.utils.CurrentTime;
 import org.slf4j.MDC;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
@@ -59,13 +59,13 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
-    private static final int NUMBER_OF_THREADS = 10;
-
     protected final EnvironmentsService environmentsService;
 
     private final ExecutorService executorService;
     private final AbstractBulkActionMailSender mailSender;
 
+    private static final String QUEUED = "QUEUED";
+    private static final String REJECTED = "REJECTED";
     private static final String STARTED = "STARTED";
     private static final String NOTHING_FOUND = "NOTHING_FOUND";
     private static final String FINISHED = "FINISHED";
@@ -74,6 +74,7 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
     protected final CurrentTime currentTime;
     protected final LockManager lockManager;
     protected final TdmMdcHelper mdcHelper;
+    protected final BulkActionScheduler bulkActionScheduler;
 
     @Value("${atp.lock.bulk.action.duration.sec}")
     private int bulkActionDuration;
@@ -81,13 +82,14 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
      * Constructor with parameters.
      */
 
-    public BulkActionsHandler(@Qualifier("websocket") ExecutorService executorService,
+    public BulkActionsHandler(@Nonnull ExecutorService executorService,
                               @Nonnull CatalogRepository catalogRepository,
                               @Nonnull EnvironmentsService environmentsService,
                               @Nonnull AbstractBulkActionMailSender mailSender,
                               @Nonnull CurrentTime currentTime,
                               @Nonnull LockManager lockManager,
-                              @Nonnull TdmMdcHelper mdcHelper) {
+                              @Nonnull TdmMdcHelper mdcHelper,
+                              @Nonnull BulkActionScheduler bulkActionScheduler) {
         this.executorService = executorService;
         this.catalogRepository = catalogRepository;
         this.environmentsService = environmentsService;
@@ -95,11 +97,35 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
         this.mailSender = mailSender;
         this.lockManager = lockManager;
         this.mdcHelper = mdcHelper;
+        this.bulkActionScheduler = bulkActionScheduler;
     }
 
+    /**
+     * Submit request to the handler executor. The client gets QUEUED status if all threads of the executor
+     * are busy, and REJECTED status with the session closed if its queue is full.
+     */
     @Override
     public void handleTextMessage(WebSocketSession session, TextMessage message) {
-        executorService.submit(() -> tryProcessRequest(session, message));
+        AtomicBoolean started = new AtomicBoolean();
+        try {
+            executorService.submit(() -> {
+                synchronized (started) {
+                    started.set(true);
+                }
+                tryProcessRequest(session, message);
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Websocket request rejected, too many bulk actions in progress. Session: [{}].", session);
+            sendStatusMsg(session, currentTime.getCurrentTimeMillis(), REJECTED);
+            tryCloseSession(session, CloseStatus.SERVICE_OVERLOAD);
+            return;
+        }
+        synchronized (started) {
+            if (!started.get()) {
+                log.info("Websocket request queued. Session: [{}].", session);
+                sendStatusMsg(session, currentTime.getCurrentTimeMillis(), QUEUED);
+            }
+        }
     }
 
     /**
@@ -139,13 +165,10 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
             long processId = currentTime.getCurrentTimeMillis();
             sendStatusMsg(session, processId, STARTED);
 
-            ExecutorService executor = createExecutorService(config.isExecuteInParallel());
-
             List<LazyEnvironment> lazyEnvironments = environmentsService
                     .getLazyEnvironmentsShort(config.getProjectId());
 
-            List<Future<BulkActionResult>> futures = runBulkAction(session, executor, lazyEnvironments,
-                    config, processId);
+            List<Future<BulkActionResult>> futures = runBulkAction(session, lazyEnvironments, config, processId);
 
             if (futures.isEmpty()) {
                 sendStatusMsg(session, processId, NOTHING_FOUND);
@@ -157,14 +180,6 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
     }
 
 
-    private ExecutorService createExecutorService(boolean isExecuteInParallel) {
-        if (isExecuteInParallel) {
-            return Executors.newFixedThreadPool(NUMBER_OF_THREADS);
-        } else {
-            return Executors.newSingleThreadExecutor();
-        }
-    }
-
     private BulkActionConfig parseRequest(@Nonnull TextMessage message) {
         String payload = message.getPayload();
         try {
@@ -251,13 +266,15 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
     private void sendResultViaMail(@Nonnull AbstractBulkActionMailSender mailSender, long id,
                                    @Nonnull BulkActionConfig config, @Nonnull List<Future<BulkActionResult>> futures) {
         log.trace("Collecting bulk action results...");
-        Executors.newSingleThreadExecutor().submit(() -> {
+        try {
             BulkActionContext bulkActionContext = buildBulkActionContext(environmentsService, id, config, futures);
             log.trace("Sending bulk action result to email...");
             mailSender.send(bulkActionContext, config.getProjectId());
             log.info(bulkActionContext.getResults().toString());
             log.trace("Email sent.");
-        });
+        } catch (Exception e) {
+            log.error("Error while sending bulk action results via email, id: {}", id, e);
+        }
     }
 
     private BulkActionContext buildBulkActionContext(@Nonnull EnvironmentsService environmentsService,
@@ -291,7 +308,6 @@ public abstract class BulkActionsHandler extends TextWebSocketHandler {
     }
 
     public abstract List<Future<BulkActionResult>> runBulkAction(@Nonnull WebSocketSession session,
-                                                                 @Nonnull ExecutorService executor,
                                                                  @Nonnull List<LazyEnvironment> lazyEnvironments,
                                                                  @Nonnull BulkActionConfig config, long processId);
 }
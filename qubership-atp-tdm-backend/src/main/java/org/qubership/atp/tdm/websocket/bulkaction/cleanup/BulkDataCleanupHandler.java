@@ -16,7 +16,6 @@
 
 package org.qubership.atp.tdm.websocket.bulkaction.cleanup;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -40,7 +39,6 @@ import org.qubership.atp.tdm.repo.CleanupConfigRepository;
 import org.qubership.atp.tdm.service.CleanupService;
 import org.qubership.atp.tdm.utils.CurrentTime;
 import org.slf4j.MDC;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.socket.WebSocketSession;
 
 import org.qubership.atp.common.lock.LockManager;
@@ -48,6 +46,7 @@ import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
 
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 import org.qubership.atp.tdm.websocket.bulkaction.BulkActionsHandler;
 import lombok.extern.slf4j.Slf4j;
 
@@ -60,7 +59,7 @@ public class BulkDataCleanupHandler extends BulkActionsHandler {
     /**
      * Constructor with parameters.
      */
-    public BulkDataCleanupHandler(@Qualifier("websocket") ExecutorService executorService,
+    public BulkDataCleanupHandler(@Nonnull ExecutorService executorService,
                                   @Nonnull CatalogRepository catalogRepository,
                                   @Nonnull EnvironmentsService environmentsService,
                                   @Nonnull CleanupService cleanupService,
@@ -68,15 +67,16 @@ public class BulkDataCleanupHandler extends BulkActionsHandler {
                                   @Nonnull BulkCleanupMailSender mailSender,
                                   @Nonnull CurrentTime currentTime,
                                   @Nonnull LockManager lockManager,
-                                  TdmMdcHelper helper) {
-        super(executorService, catalogRepository, environmentsService, mailSender, currentTime, lockManager, helper);
+                                  TdmMdcHelper helper,
+                                  @Nonnull BulkActionScheduler bulkActionScheduler) {
+        super(executorService, catalogRepository, environmentsService, mailSender, currentTime, lockManager, helper,
+                bulkActionScheduler);
         this.cleanupConfigRepository = cleanupConfigRepository;
         this.cleanupService = cleanupService;
     }
 
     @Override
     public List<Future<BulkActionResult>> runBulkAction(@Nonnull WebSocketSession session,
-                                                        @Nonnull ExecutorService executor,
                                                         @Nonnull List<LazyEnvironment> lazyEnvironments,
                                                         @Nonnull BulkActionConfig config, long processId) {
         log.info("Bulk cleanup has been initiated, id: {}, config: {}", processId, config);
@@ -92,30 +92,24 @@ public class BulkDataCleanupHandler extends BulkActionsHandler {
                 c -> cleanupConfigRepository.findById(c.getCleanupConfigId()), (a, b) -> b));
         log.trace("Found: {} tables with cleanup config.", catalogList.size());
 
-        List<Future<BulkActionResult>> futures = new ArrayList<>();
         Map<String, String> mdcMap = MDC.getCopyOfContextMap();
-        catalogList.forEach(tableCatalog -> {
-            Future<BulkActionResult> future = executor
-                    .submit(() -> {
-                        MdcUtils.setContextMap(mdcMap);
-                        String envName = getEnvName(lazyEnvironments, tableCatalog.getEnvironmentId());
-                        try {
-                            mdcHelper.putConfigFields(tableCatalog);
-                            CleanupResults cleanupResults = cleanupService
-                                    .runCleanup(tableCatalog.getTableName(),
-                                            testDataCleanUpConfigs.get(tableCatalog.getCleanupConfigId())
-                                                    .orElseThrow(() -> new TdmSearchCleanupConfigException()));
-                            return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
-                                    envName, cleanupResults);
-                        } catch (Exception e) {
-                            return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
-                                    envName, e);
-                        } finally {
-                            mdcHelper.removeConfigFields();
-                        }
-                    });
-            futures.add(future);
+        return bulkActionScheduler.schedule(catalogList, config.isExecuteInParallel(), tableCatalog -> {
+            MdcUtils.setContextMap(mdcMap);
+            String envName = getEnvName(lazyEnvironments, tableCatalog.getEnvironmentId());
+            try {
+                mdcHelper.putConfigFields(tableCatalog);
+                CleanupResults cleanupResults = cleanupService
+                        .runCleanup(tableCatalog.getTableName(),
+                                testDataCleanUpConfigs.get(tableCatalog.getCleanupConfigId())
+                                        .orElseThrow(() -> new TdmSearchCleanupConfigException()));
+                return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
+                        envName, cleanupResults);
+            } catch (Exception e) {
+                return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
+                        envName, e);
+            } finally {
+                mdcHelper.removeConfigFields();
+            }
         });
-        return futures;
     }
 }
@@ -16,7 +16,6 @@
 
 package org.qubership.atp.tdm.websocket.bulkaction.dataload;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -41,6 +40,7 @@ import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
 
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 import org.qubership.atp.tdm.websocket.bulkaction.BulkActionsHandler;
 
 public abstract class AbstractBulkDataLoadHandler extends BulkActionsHandler {
@@ -60,8 +60,10 @@ public abstract class AbstractBulkDataLoadHandler extends BulkActionsHandler {
                                 @Nonnull DataRefreshService dataRefreshService,
                                 @Nonnull CurrentTime currentTime,
                                 @Nonnull LockManager lockManager,
-                                TdmMdcHelper helper) {
-        super(executorService, catalogRepository, environmentsService, mailSender, currentTime, lockManager, helper);
+                                TdmMdcHelper helper,
+                                @Nonnull BulkActionScheduler bulkActionScheduler) {
+        super(executorService, catalogRepository, environmentsService, mailSender, currentTime, lockManager, helper,
+                bulkActionScheduler);
         this.dataRefreshService = dataRefreshService;
         this.importInfoRepository = importInfoRepository;
     }
@@ -69,42 +71,35 @@ public abstract class AbstractBulkDataLoadHandler extends BulkActionsHandler {
     /**
      * Run bulk action.
      *
-     * @param executor - executor service.
-     * @param lazyEnvironments - lazy environment list.
-     * @param refreshCatalogs  - catalog for refresh.
+     * @param lazyEnvironments  - lazy environment list.
+     * @param refreshCatalogs   - catalog for refresh.
+     * @param executeInParallel - whether tables may be refreshed in parallel.
      * @return BulkActionResult.
      */
-    public List<Future<BulkActionResult>> runBulkAction(@Nonnull ExecutorService executor,
-                                                        @Nonnull List<LazyEnvironment> lazyEnvironments,
+    public List<Future<BulkActionResult>> runBulkAction(@Nonnull List<LazyEnvironment> lazyEnvironments,
                                                         @Nonnull List<TestDataTableCatalog> refreshCatalogs,
-                                                        boolean saveOccupiedData) {
-        List<Future<BulkActionResult>> futures = new ArrayList<>();
+                                                        boolean saveOccupiedData, boolean executeInParallel) {
         Map<String, String> mdcMap = MDC.getCopyOfContextMap();
-        refreshCatalogs.forEach(tableCatalog -> {
-            Future<BulkActionResult> future = executor
-                    .submit(() -> {
-                        MdcUtils.setContextMap(mdcMap);
-                        String envName = lazyEnvironments.stream()
-                                .filter(env -> tableCatalog.getEnvironmentId().equals(env.getId()))
-                                .findFirst()
-                                .orElseThrow(() -> new
-                                        TdmGetEnvironmentNameException(tableCatalog.getEnvironmentId().toString()))
-                                .getName();
-                        try {
-                            mdcHelper.putConfigFields(tableCatalog);
-                            RefreshResults refreshResults = dataRefreshService.runRefresh(tableCatalog.getTableName(),
-                                     saveOccupiedData);
-                            return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
-                                    envName, refreshResults);
-                        } catch (Exception e) {
-                            return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
-                                    envName, e);
-                        } finally {
-                            mdcHelper.removeConfigFields();
-                        }
-                    });
-            futures.add(future);
+        return bulkActionScheduler.schedule(refreshCatalogs, executeInParallel, tableCatalog -> {
+            MdcUtils.setContextMap(mdcMap);
+            String envName = lazyEnvironments.stream()
+                    .filter(env -> tableCatalog.getEnvironmentId().equals(env.getId()))
+                    .findFirst()
+                    .orElseThrow(() -> new
+                            TdmGetEnvironmentNameException(tableCatalog.getEnvironmentId().toString()))
+                    .getName();
+            try {
+                mdcHelper.putConfigFields(tableCatalog);
+                RefreshResults refreshResults = dataRefreshService.runRefresh(tableCatalog.getTableName(),
+                        saveOccupiedData);
+                return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
+                        envName, refreshResults);
+            } catch (Exception e) {
+                return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
+                        envName, e);
+            } finally {
+                mdcHelper.removeConfigFields();
+            }
         });
-        return futures;
     }
 }
@@ -33,12 +33,12 @@ import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.ImportInfoRepository;
 import org.qubership.atp.tdm.service.DataRefreshService;
 import org.qubership.atp.tdm.utils.CurrentTime;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.socket.WebSocketSession;
 
 import org.qubership.atp.common.lock.LockManager;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -48,7 +48,7 @@ public class BulkDataImportHandler extends AbstractBulkDataLoadHandler {
     /**
      * Constructor with parameters.
      */
-    public BulkDataImportHandler(@Qualifier("websocket") ExecutorService executorService,
+    public BulkDataImportHandler(@Nonnull ExecutorService executorService,
                                  @Nonnull CatalogRepository catalogRepository,
                                  @Nonnull EnvironmentsService environmentsService,
                                  @Nonnull BulkCleanupMailSender mailSender,
@@ -56,14 +56,14 @@ public class BulkDataImportHandler extends AbstractBulkDataLoadHandler {
                                  @Nonnull ImportInfoRepository importInfoRepository,
                                  @Nonnull CurrentTime currentTime,
                                  @Nonnull LockManager lockManager,
-                                 @Nonnull TdmMdcHelper mdcHelper) {
+                                 @Nonnull TdmMdcHelper mdcHelper,
+                                 @Nonnull BulkActionScheduler bulkActionScheduler) {
         super(executorService, catalogRepository, importInfoRepository, environmentsService, mailSender,
-                dataRefreshService, currentTime, lockManager, mdcHelper);
+                dataRefreshService, currentTime, lockManager, mdcHelper, bulkActionScheduler);
     }
 
     @Override
     public List<Future<BulkActionResult>> runBulkAction(@Nonnull WebSocketSession session,
-                                                        @Nonnull ExecutorService executor,
                                                         @Nonnull List<LazyEnvironment> lazyEnvironments,
                                                         @Nonnull BulkActionConfig config, long processId) {
         log.info("Bulk data import has been initiated, id: {}, config: {}", processId, config);
@@ -76,6 +76,7 @@ public class BulkDataImportHandler extends AbstractBulkDataLoadHandler {
                 .collect(Collectors.toList());
         log.trace("Found: {} tables with title [{}].", catalogListWithImportInfo.size(), config.getTableTitle());
 
-        return runBulkAction(executor, lazyEnvironments, catalogListWithImportInfo, config.isSaveOccupiedData());
+        return runBulkAction(lazyEnvironments, catalogListWithImportInfo, config.isSaveOccupiedData(),
+                config.isExecuteInParallel());
     }
 }
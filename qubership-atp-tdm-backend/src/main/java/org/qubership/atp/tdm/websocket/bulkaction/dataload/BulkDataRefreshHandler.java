@@ -33,12 +33,12 @@ import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.repo.ImportInfoRepository;
 import org.qubership.atp.tdm.service.DataRefreshService;
 import org.qubership.atp.tdm.utils.CurrentTime;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.socket.WebSocketSession;
 
 import org.qubership.atp.common.lock.LockManager;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -48,7 +48,7 @@ public class BulkDataRefreshHandler extends AbstractBulkDataLoadHandler {
     /**
      * Constructor with parameters.
      */
-    public BulkDataRefreshHandler(@Qualifier("websocket") ExecutorService executorService,
+    public BulkDataRefreshHandler(@Nonnull ExecutorService executorService,
                                   @Nonnull CatalogRepository catalogRepository,
                                   @Nonnull ImportInfoRepository importInfoRepository,
                                   @Nonnull DataRefreshService dataRefreshService,
@@ -56,14 +56,14 @@ public class BulkDataRefreshHandler extends AbstractBulkDataLoadHandler {
                                   @Nonnull BulkRefreshMailSender mailSender,
                                   @Nonnull CurrentTime currentTime,
                                   @Nonnull LockManager lockManager,
-                                  @Nonnull TdmMdcHelper mdcHelper) {
+                                  @Nonnull TdmMdcHelper mdcHelper,
+                                  @Nonnull BulkActionScheduler bulkActionScheduler) {
         super(executorService, catalogRepository, importInfoRepository, environmentsService, mailSender,
-                dataRefreshService, currentTime, lockManager, mdcHelper);
+                dataRefreshService, currentTime, lockManager, mdcHelper, bulkActionScheduler);
     }
 
     @Override
     public List<Future<BulkActionResult>> runBulkAction(@Nonnull WebSocketSession session,
-                                                        @Nonnull ExecutorService executor,
                                                         @Nonnull List<LazyEnvironment> lazyEnvironments,
                                                         @Nonnull BulkActionConfig config, long processId) {
         log.info("Bulk data refresh has been initiated, id: {}, config: {}", processId, config);
@@ -75,6 +75,7 @@ public class BulkDataRefreshHandler extends AbstractBulkDataLoadHandler {
                 .collect(Collectors.toList());
         log.trace("Found: {} tables with sql import info.", refreshCatalogs.size());
 
-        return runBulkAction(executor, lazyEnvironments, refreshCatalogs, config.isSaveOccupiedData());
+        return runBulkAction(lazyEnvironments, refreshCatalogs, config.isSaveOccupiedData(),
+                config.isExecuteInParallel());
     }
 }
@@ -16,7 +16,6 @@
 
 package org.qubership.atp.tdm.websocket.bulkaction.drop;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -34,7 +33,6 @@ import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.service.TestDataService;
 import org.qubership.atp.tdm.utils.CurrentTime;
 import org.slf4j.MDC;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.socket.WebSocketSession;
 
 import org.qubership.atp.common.lock.LockManager;
@@ -42,6 +40,7 @@ import org.qubership.atp.integration.configuration.mdc.MdcUtils;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
 
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 import org.qubership.atp.tdm.websocket.bulkaction.BulkActionsHandler;
 import lombok.extern.slf4j.Slf4j;
 
@@ -50,21 +49,22 @@ public class BulkDataDropHandler extends BulkActionsHandler {
 
     private final TestDataService testDataService;
 
-    public BulkDataDropHandler(@Qualifier("websocket") ExecutorService executorService,
+    public BulkDataDropHandler(@Nonnull ExecutorService executorService,
                                @Nonnull CatalogRepository catalogRepository,
                                @Nonnull EnvironmentsService environmentsService,
                                @Nonnull TestDataService testDataService,
                                @Nonnull BulkDropMailSender mailSender,
                                @Nonnull CurrentTime currentTime,
                                @Nonnull LockManager lockManager,
-                               @Nonnull TdmMdcHelper mdcHelper) {
-        super(executorService, catalogRepository, environmentsService, mailSender, currentTime, lockManager, mdcHelper);
+                               @Nonnull TdmMdcHelper mdcHelper,
+                               @Nonnull BulkActionScheduler bulkActionScheduler) {
+        super(executorService, catalogRepository, environmentsService, mailSender, currentTime, lockManager, mdcHelper,
+                bulkActionScheduler);
         this.testDataService = testDataService;
     }
 
     @Override
     public List<Future<BulkActionResult>> runBulkAction(@Nonnull WebSocketSession session,
-                                                        @Nonnull ExecutorService executor,
                                                         @Nonnull List<LazyEnvironment> lazyEnvironments,
                                                         @Nonnull BulkActionConfig config, long processId) {
         log.info("Bulk drop has been initiated, id: {}, config: {}", processId, config);
@@ -72,28 +72,22 @@ public class BulkDataDropHandler extends BulkActionsHandler {
                 catalogRepository.findAllByProjectIdAndTableTitle(config.getProjectId(),
                         config.getTableTitle());
         log.trace("Found: {} tables.", catalogList.size());
-        List<Future<BulkActionResult>> futures = new ArrayList<>();
         Map<String, String> mdcMap = MDC.getCopyOfContextMap();
-        catalogList.forEach(tableCatalog -> {
-            Future<BulkActionResult> future = executor
-                    .submit(() -> {
-                        MdcUtils.setContextMap(mdcMap);
-                        String envName = getEnvName(lazyEnvironments, tableCatalog.getEnvironmentId());
-                        try {
-                            mdcHelper.putConfigFields(tableCatalog);
-                            DropResults dropResults = testDataService.deleteTestData(tableCatalog.getTableName());
-                            return new BulkActionResult(tableCatalog.getTableTitle(),
-                                    tableCatalog.getTableName(), envName, dropResults);
-                        } catch (Exception e) {
-                            return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
-                                    envName, e);
-                        } finally {
-                            mdcHelper.removeConfigFields();
-                        }
-                    });
-            futures.add(future);
+        return bulkActionScheduler.schedule(catalogList, config.isExecuteInParallel(), tableCatalog -> {
+            MdcUtils.setContextMap(mdcMap);
+            String envName = getEnvName(lazyEnvironments, tableCatalog.getEnvironmentId());
+            try {
+                mdcHelper.putConfigFields(tableCatalog);
+                DropResults dropResults = testDataService.deleteTestData(tableCatalog.getTableName());
+                return new BulkActionResult(tableCatalog.getTableTitle(),
+                        tableCatalog.getTableName(), envName, dropResults);
+            } catch (Exception e) {
+                return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
+                        envName, e);
+            } finally {
+                mdcHelper.removeConfigFields();
+            }
         });
-        return futures;
     }
 }
 
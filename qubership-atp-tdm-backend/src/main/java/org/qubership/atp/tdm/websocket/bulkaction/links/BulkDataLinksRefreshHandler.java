@@ -16,7 +16,6 @@
 
 package org.qubership.atp.tdm.websocket.bulkaction.links;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -34,14 +33,15 @@ import org.qubership.atp.tdm.repo.CatalogRepository;
 import org.qubership.atp.tdm.service.ColumnService;
 import org.qubership.atp.tdm.utils.CurrentTime;
 import org.slf4j.MDC;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.web.socket.WebSocketSession;
 
 import org.qubership.atp.common.lock.LockManager;
 import org.qubership.atp.integration.configuration.mdc.MdcUtils;
+import org.qubership.atp.tdm.env.configurator.configuration.EnvironmentsCacheInvalidator;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.env.configurator.service.EnvironmentsService;
 
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 import org.qubership.atp.tdm.websocket.bulkaction.BulkActionsHandler;
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,51 +49,55 @@ import lombok.extern.slf4j.Slf4j;
 public class BulkDataLinksRefreshHandler extends BulkActionsHandler {
 
     private final ColumnService columnService;
+    private final EnvironmentsCacheInvalidator environmentsCacheInvalidator;
 
-    public BulkDataLinksRefreshHandler(@Qualifier("websocket") ExecutorService executorService,
+    /**
+     * Bulk links refresh handler.
+     */
+    public BulkDataLinksRefreshHandler(@Nonnull ExecutorService executorService,
                                        @Nonnull CatalogRepository catalogRepository,
                                        @Nonnull EnvironmentsService environmentsService,
                                        @Nonnull ColumnService columnService,
+                                       @Nonnull EnvironmentsCacheInvalidator environmentsCacheInvalidator,
                                        @Nonnull BulkLinksRefreshMailSender mailSender,
                                        @Nonnull CurrentTime currentTime,
                                        @Nonnull LockManager lockManager,
-                                       @Nonnull TdmMdcHelper mdcHelper
-                                       ) {
-        super(executorService, catalogRepository, environmentsService, mailSender, currentTime, lockManager, mdcHelper);
+                                       @Nonnull TdmMdcHelper mdcHelper,
+                                       @Nonnull BulkActionScheduler bulkActionScheduler) {
+        super(executorService, catalogRepository, environmentsService, mailSender, currentTime, lockManager, mdcHelper,
+                bulkActionScheduler);
         this.columnService = columnService;
+        this.environmentsCacheInvalidator = environmentsCacheInvalidator;
     }
 
     @Override
     public List<Future<BulkActionResult>> runBulkAction(@Nonnull WebSocketSession session,
-                                                        @Nonnull ExecutorService executor,
                                                         @Nonnull List<LazyEnvironment> lazyEnvironments,
                                                         @Nonnull BulkActionConfig config, long processId) {
         log.info("Bulk links refresh has been initiated, id: {}, config: {}", processId, config);
         List<TestDataTableCatalog> catalogList = columnService.getAllTablesWithLinks(config.getProjectId(),
                 config.getSystemId());
-        environmentsService.resetCaches();
+        if (config.getSystemId() != null) {
+            environmentsCacheInvalidator.evictSystem(config.getProjectId(), config.getSystemId(), false);
+        } else {
+            environmentsCacheInvalidator.evictProject(config.getProjectId(), null, false);
+        }
         log.trace("Found: {} tables.", catalogList.size());
-        List<Future<BulkActionResult>> futures = new ArrayList<>();
         Map<String, String> mdcMap = MDC.getCopyOfContextMap();
-        catalogList.forEach(tableCatalog -> {
-            Future<BulkActionResult> future = executor
-                    .submit(() -> {
-                        MdcUtils.setContextMap(mdcMap);
-                        String envName = getEnvName(lazyEnvironments, tableCatalog.getEnvironmentId());
-                        try {
-                            LinkSetupResult linkSetupResults =
-                                    columnService.setUpLinks(config.getProjectId(),
-                                            config.getSystemId(), tableCatalog.getTableName());
-                            return new BulkActionResult(tableCatalog.getTableTitle(),
-                                    tableCatalog.getTableName(), envName, linkSetupResults);
-                        } catch (Exception e) {
-                            return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
-                                    envName, e);
-                        }
-                    });
-            futures.add(future);
+        return bulkActionScheduler.schedule(catalogList, config.isExecuteInParallel(), tableCatalog -> {
+            MdcUtils.setContextMap(mdcMap);
+            String envName = getEnvName(lazyEnvironments, tableCatalog.getEnvironmentId());
+            try {
+                LinkSetupResult linkSetupResults =
+                        columnService.setUpLinks(config.getProjectId(),
+                                config.getSystemId(), tableCatalog.getTableName());
+                return new BulkActionResult(tableCatalog.getTableTitle(),
+                        tableCatalog.getTableName(), envName, linkSetupResults);
+            } catch (Exception e) {
+                return new BulkActionResult(tableCatalog.getTableTitle(), tableCatalog.getTableName(),
+                        envName, e);
+            }
         });
-        return futures;
     }
 }
 
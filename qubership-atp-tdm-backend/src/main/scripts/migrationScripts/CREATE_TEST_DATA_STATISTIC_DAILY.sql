@@ -0,0 +1,98 @@
+CREATE TABLE IF NOT EXISTS test_data_statistic_daily (
+    stat_date DATE NOT NULL,
+    table_name VARCHAR NOT NULL,
+    occupied_by VARCHAR NOT NULL DEFAULT '',
+    project_id UUID,
+    system_id UUID,
+    table_title VARCHAR,
+    created_count BIGINT NOT NULL DEFAULT 0,
+    occupied_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (stat_date, table_name, occupied_by)
+);
+
+CREATE INDEX IF NOT EXISTS test_data_statistic_daily_project_idx
+    ON test_data_statistic_daily (project_id, stat_date);
+
+CREATE INDEX IF NOT EXISTS test_data_statistic_daily_table_idx
+    ON test_data_statistic_daily (LOWER(table_name), stat_date);
+
+CREATE OR REPLACE FUNCTION test_data_statistic_daily_add(p_stat_date DATE, p_table_name VARCHAR,
+                                                         p_occupied_by VARCHAR, p_project_id UUID,
+                                                         p_system_id UUID, p_table_title VARCHAR,
+                                                         p_created BIGINT, p_occupied BIGINT)
+RETURNS void AS
+$$
+begin
+    insert into test_data_statistic_daily AS daily (stat_date, table_name, occupied_by, project_id, system_id,
+                                                    table_title, created_count, occupied_count)
+    values (p_stat_date, p_table_name, p_occupied_by, p_project_id, p_system_id, p_table_title,
+            p_created, p_occupied)
+    on conflict (stat_date, table_name, occupied_by) do update
+    set created_count = daily.created_count + EXCLUDED.created_count,
+        occupied_count = daily.occupied_count + EXCLUDED.occupied_count,
+        project_id = EXCLUDED.project_id,
+        system_id = EXCLUDED.system_id,
+        table_title = EXCLUDED.table_title;
+end
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION test_data_statistic_daily_trigger()
+RETURNS trigger AS
+$$
+declare
+    created_changed boolean := true;
+    occupied_changed boolean := true;
+begin
+    if TG_OP = 'UPDATE' then
+        created_changed := OLD.table_name IS DISTINCT FROM NEW.table_name
+            OR OLD.created_when IS DISTINCT FROM NEW.created_when;
+        occupied_changed := OLD.table_name IS DISTINCT FROM NEW.table_name
+            OR OLD.occupied_date IS DISTINCT FROM NEW.occupied_date
+            OR OLD.occupied_by IS DISTINCT FROM NEW.occupied_by;
+    end if;
+    if TG_OP IN ('UPDATE', 'DELETE') then
+        if created_changed and OLD.created_when IS NOT NULL then
+            perform test_data_statistic_daily_add(OLD.created_when, OLD.table_name, '', OLD.project_id,
+                    OLD.system_id, OLD.table_title, -1, 0);
+        end if;
+        if occupied_changed and OLD.occupied_date IS NOT NULL then
+            perform test_data_statistic_daily_add(OLD.occupied_date, OLD.table_name,
+                    COALESCE(OLD.occupied_by, ''), OLD.project_id, OLD.system_id, OLD.table_title, 0, -1);
+        end if;
+    end if;
+    if TG_OP IN ('INSERT', 'UPDATE') then
+        if created_changed and NEW.created_when IS NOT NULL then
+            perform test_data_statistic_daily_add(NEW.created_when, NEW.table_name, '', NEW.project_id,
+                    NEW.system_id, NEW.table_title, 1, 0);
+        end if;
+        if occupied_changed and NEW.occupied_date IS NOT NULL then
+            perform test_data_statistic_daily_add(NEW.occupied_date, NEW.table_name,
+                    COALESCE(NEW.occupied_by, ''), NEW.project_id, NEW.system_id, NEW.table_title, 0, 1);
+        end if;
+    end if;
+    return null;
+end
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS test_data_statistic_daily_trigger ON test_data_occupy_statistic;
+
+CREATE TRIGGER test_data_statistic_daily_trigger
+    AFTER INSERT OR UPDATE OR DELETE ON test_data_occupy_statistic
+    FOR EACH ROW EXECUTE PROCEDURE test_data_statistic_daily_trigger();
+
+DO
+$$
+begin
+    delete from test_data_statistic_daily;
+    perform test_data_statistic_daily_add(created_when, table_name, '', project_id, system_id, table_title,
+            COUNT(*), 0)
+    from test_data_occupy_statistic
+    where created_when IS NOT NULL
+    group by created_when, table_name, project_id, system_id, table_title;
+    perform test_data_statistic_daily_add(occupied_date, table_name, COALESCE(occupied_by, ''), project_id,
+            system_id, table_title, 0, COUNT(*))
+    from test_data_occupy_statistic
+    where occupied_date IS NOT NULL
+    group by occupied_date, table_name, COALESCE(occupied_by, ''), project_id, system_id, table_title;
+end
+$$;
@@ -0,0 +1,61 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.model;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.TestDataType;
+
+public class QueryInfoTest {
+
+    private static final String TABLE_NAME = "tdm_query_info_test";
+
+    @Test
+    public void build_filtersWithDifferentValues_sameQueryTextDifferentParameters() {
+        QueryInfo first = buildQueryInfo("Contains", "first");
+        QueryInfo second = buildQueryInfo("Contains", "it's second");
+
+        Assertions.assertEquals(first.getQuery(), second.getQuery());
+        Assertions.assertEquals(first.getCountQuery(), second.getCountQuery());
+        Assertions.assertFalse(second.getQuery().contains("second"));
+        Assertions.assertEquals("%first%", first.getParameters().getValue("filter_0_0"));
+        Assertions.assertEquals("%it's second%", second.getParameters().getValue("filter_0_0"));
+        Assertions.assertEquals(1, second.getParameters().getValue("limit"));
+    }
+
+    @Test
+    public void build_filtersWithDifferentConditions_differentQueryText() {
+        QueryInfo contains = buildQueryInfo("Contains", "value");
+        QueryInfo equals = buildQueryInfo("Equals", "value");
+
+        Assertions.assertNotEquals(contains.getQuery(), equals.getQuery());
+        Assertions.assertEquals("value", equals.getParameters().getValue("filter_0_0"));
+    }
+
+    private QueryInfo buildQueryInfo(String condition, String value) {
+        List<TestDataTableFilter> filters = Collections.singletonList(
+                new TestDataTableFilter("sim", condition, Collections.singletonList(value), false));
+        return QueryInfo.newBuilder(TABLE_NAME, TestDataType.AVAILABLE)
+                .setLimit(1)
+                .setFilters(filters)
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class AbstractWriteBehindTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ListWriteBehind writeBehind = new ListWriteBehind(meterRegistry);
+
+    @Test
+    public void flush_writeFailed_changesKeptForNextFlush() {
+        writeBehind.pending.add(System.currentTimeMillis() - 1000);
+        writeBehind.failing.set(true);
+
+        Assertions.assertThrows(IllegalStateException.class, writeBehind::flush);
+        Assertions.assertEquals(1, meterRegistry.get("atp_tdm_test_write_pending").gauge().value());
+        Assertions.assertTrue(meterRegistry.get("atp_tdm_test_write_flush_lag_ms").gauge().value() >= 1000);
+
+        writeBehind.failing.set(false);
+        writeBehind.flush();
+
+        Assertions.assertEquals(1, writeBehind.written.size());
+        Assertions.assertEquals(0, meterRegistry.get("atp_tdm_test_write_pending").gauge().value());
+        Assertions.assertEquals(0, meterRegistry.get("atp_tdm_test_write_flush_lag_ms").gauge().value());
+        writeBehind.shutdown();
+    }
+
+    @Test
+    public void shutdown_writeFailed_pendingChangesCountedAsDropped() {
+        writeBehind.pending.add(System.currentTimeMillis());
+        writeBehind.pending.add(System.currentTimeMillis());
+        writeBehind.failing.set(true);
+
+        writeBehind.shutdown();
+
+        Assertions.assertEquals(2, meterRegistry.get("atp_tdm_test_write_dropped").counter().count());
+    }
+
+    private static class ListWriteBehind extends AbstractWriteBehind {
+
+        private final List<Long> pending = new ArrayList<>();
+        private final List<Long> written = new ArrayList<>();
+        private final AtomicBoolean failing = new AtomicBoolean();
+
+        private ListWriteBehind(MeterRegistry meterRegistry) {
+            super("test_write", meterRegistry, 60000);
+            start();
+        }
+
+        @Override
+        protected void writePending() {
+            if (failing.get()) {
+                throw new IllegalStateException("Write failed");
+            }
+            written.addAll(pending);
+            pending.clear();
+        }
+
+        @Override
+        protected int getPending() {
+            return pending.size();
+        }
+
+        @Override
+        protected Long getOldestPendingTime() {
+            return pending.isEmpty() ? null : pending.get(0);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CatalogIndexTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CatalogIndex catalogIndex = new CatalogIndex(meterRegistry, 10, 100);
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID systemId = UUID.randomUUID();
+    private final UUID environmentId = UUID.randomUUID();
+
+    @Test
+    public void getTableName_resolvedTwice_catalogLoadedOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<TestDataTableCatalog> loader = countingLoader(loads, "test_table_first");
+
+        Assertions.assertEquals("test_table_first", catalogIndex.getTableName(projectId, systemId, "Title", loader));
+        Assertions.assertEquals("test_table_first", catalogIndex.getTableName(projectId, systemId, "Title", loader));
+
+        Assertions.assertEquals(1, loads.get());
+        Assertions.assertEquals(1, meterRegistry.get("atp_tdm_catalog_index_hits").counter().count());
+        Assertions.assertEquals(1, meterRegistry.get("atp_tdm_catalog_index_misses").counter().count());
+    }
+
+    @Test
+    public void getTableName_tableNotExists_absenceNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+
+        Assertions.assertNull(catalogIndex.getTableName(projectId, null, "Title", () -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        Assertions.assertEquals("test_table_first", catalogIndex.getTableName(projectId, null, "Title",
+                countingLoader(loads, "test_table_first")));
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void invalidate_byTableTitleSystemAndEnvironment_entriesLoadedAgain() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<TestDataTableCatalog> loader = countingLoader(loads, "test_table_first");
+        catalogIndex.getTableName(projectId, systemId, "Title", loader);
+
+        catalogIndex.invalidateTable("test_table_first");
+        catalogIndex.getTableName(projectId, systemId, "Title", loader);
+        catalogIndex.invalidateTitle(projectId, "Title");
+        catalogIndex.getTableName(projectId, systemId, "Title", loader);
+        catalogIndex.invalidateSystem(systemId);
+        catalogIndex.getTableName(projectId, systemId, "Title", loader);
+        catalogIndex.invalidateEnvironment(environmentId);
+        catalogIndex.getTableName(projectId, systemId, "Title", loader);
+        catalogIndex.invalidateProject(UUID.randomUUID());
+        catalogIndex.invalidateTable("test_table_second");
+        catalogIndex.getTableName(projectId, systemId, "Title", loader);
+
+        Assertions.assertEquals(5, loads.get());
+    }
+
+    @Test
+    public void invalidateTable_inTransaction_entryDroppedAfterCommit() {
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<TestDataTableCatalog> loader = countingLoader(loads, "test_table_first");
+        catalogIndex.getTableName(projectId, systemId, "Title", loader);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            catalogIndex.invalidateTable("test_table_first");
+            catalogIndex.getTableName(projectId, systemId, "Title", loader);
+            Assertions.assertEquals(1, loads.get());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        catalogIndex.getTableName(projectId, systemId, "Title", loader);
+
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    private Supplier<TestDataTableCatalog> countingLoader(AtomicInteger loads, String tableName) {
+        return () -> {
+            loads.incrementAndGet();
+            return new TestDataTableCatalog(tableName, projectId, environmentId, systemId, "Title");
+        };
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class LastUsageTrackerTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LastUsageTracker tracker = new LastUsageTracker(jdbcTemplate, meterRegistry, 2, 10, 60000);
+
+    @AfterEach
+    public void tearDown() {
+        tracker.shutdown();
+    }
+
+    @Test
+    public void flush_tablesTouchedSeveralTimes_tablesWrittenByOneUpdateOncePerDay() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(1);
+        tracker.touch("test_table_first");
+        tracker.touch("test_table_first");
+
+        Assertions.assertEquals(1, meterRegistry.get("atp_tdm_last_usage_pending").gauge().value());
+        verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class));
+
+        tracker.flush();
+        tracker.touch("test_table_first");
+        tracker.flush();
+
+        verify(jdbcTemplate, times(1)).update(any(PreparedStatementCreator.class));
+        Assertions.assertEquals(0, meterRegistry.get("atp_tdm_last_usage_pending").gauge().value());
+        Assertions.assertEquals(0, meterRegistry.get("atp_tdm_last_usage_flush_lag_ms").gauge().value());
+    }
+
+    @Test
+    public void touch_pendingLimitReached_pendingTablesFlushedByCaller() {
+        when(jdbcTemplate.update(any(PreparedStatementCreator.class))).thenReturn(2);
+        Arrays.asList("test_table_first", "test_table_second", "test_table_third").forEach(tracker::touch);
+
+        verify(jdbcTemplate, times(1)).update(any(PreparedStatementCreator.class));
+        Assertions.assertEquals(1, meterRegistry.get("atp_tdm_last_usage_pending").gauge().value());
+    }
+}
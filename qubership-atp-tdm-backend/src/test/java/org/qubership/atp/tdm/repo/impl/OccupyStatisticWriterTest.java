@@ -0,0 +1,126 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.repo.impl;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
+import org.qubership.atp.tdm.utils.TestDataQueries;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class OccupyStatisticWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OccupyStatisticWriter writer = new OccupyStatisticWriter(jdbcTemplate, meterRegistry, 2, 100,
+            60000);
+
+    @AfterEach
+    public void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flush_sameRowOccupiedTwice_lastStatisticWrittenByOneBatch() {
+        UUID rowId = UUID.randomUUID();
+        writer.write(Arrays.asList(statistic(rowId, "FirstUser"), statistic(rowId, "SecondUser")));
+
+        Assertions.assertEquals(2, meterRegistry.get("atp_tdm_occupy_statistic_pending").gauge().value());
+        verify(jdbcTemplate, never()).batchUpdate(eq(TestDataQueries.UPSERT_OCCUPY_STATISTIC), anyList());
+
+        writer.flush();
+
+        ArgumentCaptor<List<Object[]>> parameters = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq(TestDataQueries.UPSERT_OCCUPY_STATISTIC), parameters.capture());
+        Assertions.assertEquals(1, parameters.getValue().size());
+        Assertions.assertEquals("SecondUser", parameters.getValue().get(0)[5]);
+        Assertions.assertEquals(0, meterRegistry.get("atp_tdm_occupy_statistic_pending").gauge().value());
+        Assertions.assertEquals(0, meterRegistry.get("atp_tdm_occupy_statistic_flush_lag_ms").gauge().value());
+    }
+
+    @Test
+    public void write_bufferIsFull_bufferFlushedByCaller() {
+        writer.write(Arrays.asList(statistic(UUID.randomUUID(), "TestUser"),
+                statistic(UUID.randomUUID(), "TestUser"), statistic(UUID.randomUUID(), "TestUser")));
+
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(TestDataQueries.UPSERT_OCCUPY_STATISTIC), anyList());
+        Assertions.assertEquals(1, meterRegistry.get("atp_tdm_occupy_statistic_pending").gauge().value());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flush_writeFailed_batchRetriedByNextFlush() {
+        when(jdbcTemplate.batchUpdate(eq(TestDataQueries.UPSERT_OCCUPY_STATISTIC), anyList()))
+                .thenThrow(new QueryTimeoutException("Timeout"))
+                .thenReturn(new int[0]);
+        writer.write(Arrays.asList(statistic(UUID.randomUUID(), "TestUser"),
+                statistic(UUID.randomUUID(), "TestUser")));
+
+        Assertions.assertThrows(QueryTimeoutException.class, writer::flush);
+        Assertions.assertEquals(2, meterRegistry.get("atp_tdm_occupy_statistic_pending").gauge().value());
+        writer.flush();
+
+        ArgumentCaptor<List<Object[]>> parameters = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(eq(TestDataQueries.UPSERT_OCCUPY_STATISTIC),
+                parameters.capture());
+        Assertions.assertEquals(2, parameters.getValue().size());
+        Assertions.assertEquals(0, meterRegistry.get("atp_tdm_occupy_statistic_pending").gauge().value());
+        Assertions.assertEquals(0, meterRegistry.get("atp_tdm_occupy_statistic_dropped").counter().count());
+    }
+
+    @Test
+    public void write_bufferIsFullAndWriteFails_statisticDroppedAndCounted() {
+        when(jdbcTemplate.batchUpdate(eq(TestDataQueries.UPSERT_OCCUPY_STATISTIC), anyList()))
+                .thenThrow(new QueryTimeoutException("Timeout"));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        OccupyStatisticWriter smallBatchWriter = new OccupyStatisticWriter(jdbcTemplate, registry, 2, 2, 60000);
+        try {
+            smallBatchWriter.write(Arrays.asList(statistic(UUID.randomUUID(), "TestUser"),
+                    statistic(UUID.randomUUID(), "TestUser"), statistic(UUID.randomUUID(), "TestUser"),
+                    statistic(UUID.randomUUID(), "TestUser"), statistic(UUID.randomUUID(), "TestUser")));
+
+            Assertions.assertEquals(1, registry.get("atp_tdm_occupy_statistic_dropped").counter().count());
+            Assertions.assertEquals(4, registry.get("atp_tdm_occupy_statistic_pending").gauge().value());
+        } finally {
+            smallBatchWriter.shutdown();
+        }
+    }
+
+    private static TestDataOccupyStatistic statistic(UUID rowId, String occupiedBy) {
+        return new TestDataOccupyStatistic(rowId, UUID.randomUUID(), null, "test_table", "Test Table",
+                occupiedBy, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
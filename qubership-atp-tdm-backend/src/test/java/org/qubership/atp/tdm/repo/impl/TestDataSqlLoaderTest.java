@@ -16,6 +16,12 @@
 
 package org.qubership.atp.tdm.repo.impl;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
 import org.qubership.atp.tdm.AbstractTestDataTest;
 import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvDbConnectionException;
 import org.qubership.atp.tdm.env.configurator.model.Server;
@@ -25,8 +31,13 @@ import org.qubership.atp.tdm.repo.impl.loader.TestDataSqlLoader;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 
 public class TestDataSqlLoaderTest extends AbstractTestDataTest {
@@ -49,6 +60,55 @@ public class TestDataSqlLoaderTest extends AbstractTestDataTest {
         });
     }
 
+    @Test
+    public void sqlLoader_processByChunks_allRowsPassedInOrderedChunks() throws Exception {
+        Server server = system.getServer("DB");
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        try (Connection connection = sqlRepository.createConnection(server)) {
+            TestDataSqlLoader sqlLoader = new TestDataSqlLoader(connection,
+                    "SELECT num, 'value_' || num AS name FROM generate_series(1, 25) AS num", 10, 4, 10, 1);
+            long processedRows = sqlLoader.process(rows -> {
+                chunkSizes.add(rows.size());
+                rows.forEach(row -> values.add(row.get("num")));
+                Assertions.assertEquals(Arrays.asList("num", "name"), new ArrayList<>(rows.get(0).keySet()));
+            });
+            Assertions.assertEquals(25, processedRows);
+            Assertions.assertTrue(connection.getAutoCommit());
+        }
+        Assertions.assertEquals(Arrays.asList(10, 10, 5), chunkSizes);
+        Assertions.assertEquals(25, values.size());
+        Assertions.assertEquals(1, values.get(0));
+        Assertions.assertEquals(25, values.get(24));
+    }
+
+    @Test
+    public void sqlLoader_consumerFails_readerStoppedBeforeReturn() throws Exception {
+        Server server = system.getServer("DB");
+        try (Connection connection = sqlRepository.createConnection(server)) {
+            TestDataSqlLoader sqlLoader = new TestDataSqlLoader(connection,
+                    "SELECT num FROM generate_series(1, 100000) AS num", 10, 4, 10, 1);
+            Assertions.assertThrows(IllegalStateException.class, () -> sqlLoader.process(rows -> {
+                throw new IllegalStateException("Consumer failed");
+            }));
+            Assertions.assertTrue(connection.getAutoCommit());
+            Assertions.assertTrue(connection.isValid(1));
+        }
+    }
+
+    @Test
+    public void sqlLoader_rollbackFails_timeoutExceptionKeptWithSuppressedCleanupError() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt()))
+                .thenThrow(new SQLException("Query canceled", "57014"));
+        doThrow(new SQLException("Connection lost")).when(connection).rollback();
+        TestDataSqlLoader sqlLoader = new TestDataSqlLoader(connection, "SELECT 1", 1);
+        TimeoutException exception = Assertions.assertThrows(TimeoutException.class, sqlLoader::process);
+        Assertions.assertEquals(1, exception.getSuppressed().length);
+        Assertions.assertEquals("Connection lost", exception.getSuppressed()[0].getMessage());
+    }
+
     @Test
     public void sqlRepository_getServer_throwConnectionException() {
         Exception exception = Assertions.assertThrows(TdmEnvDbConnectionException.class, () -> {
@@ -71,4 +131,12 @@ public class TestDataSqlLoaderTest extends AbstractTestDataTest {
             sqlRepository.createConnection(server);
         });
     }
+
+    @Test
+    public void sqlRepository_createJdbcTemplate_reusesPooledDataSource() {
+        Server server = system.getServer("DB");
+        JdbcTemplate first = sqlRepository.createJdbcTemplate(server);
+        JdbcTemplate second = sqlRepository.createJdbcTemplate(server, 10);
+        Assertions.assertEquals(first.getDataSource(), second.getDataSource());
+    }
 }
@@ -21,23 +21,41 @@ import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.exceptions.internal.TdmSearchColumnException;
 import org.qubership.atp.tdm.model.ColumnValues;
+import org.qubership.atp.tdm.model.FilterType;
+import org.qubership.atp.tdm.model.ImportTestDataStatistic;
+import org.qubership.atp.tdm.model.table.CountMode;
 import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.TestDataTableIndex;
+import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
+import org.qubership.atp.tdm.utils.TestDataQueries;
 import org.qubership.atp.tdm.utils.TestDataTableConvertor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import org.qubership.atp.tdm.AbstractTestDataTest;
 
 public class TestDataTableRepositoryTest extends AbstractTestDataTest {
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LastUsageTracker lastUsageTracker;
+
     @Test
     public void testDataTableRepository_getFullTestDataTest_extractedTableEqualToExpected() {
         String tableName = TestDataTableConvertor.generateTestDataTableName();
@@ -113,14 +131,234 @@ public class TestDataTableRepositoryTest extends AbstractTestDataTest {
     }
 
 
+    @Test
+    public void tableRepository_getTestData_columnFilterTypeRecalculatedAfterInsert() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            Assertions.assertEquals(FilterType.LIST, getColumnFilterType(tableName, "sim"));
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (int rowNum = 0; rowNum < 5; rowNum++) {
+                Map<String, Object> row = new HashMap<>();
+                row.put("sim", "filter_type_sim_" + rowNum);
+                rows.add(row);
+            }
+            testDataTableRepository.insertRows(tableName, true, rows, false);
+            Assertions.assertEquals(FilterType.TEXT, getColumnFilterType(tableName, "sim"));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_getTestDataRows_columnsWithoutFilterTypes() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            TestDataTable table = testDataTableRepository.getTestDataRows(false, tableName, null, 1, null);
+            Assertions.assertEquals(1, table.getData().size());
+            TestDataTableColumn simColumn = table.getColumns().stream()
+                    .filter(column -> "sim".equals(column.getIdentity().getColumnName()))
+                    .findFirst()
+                    .get();
+            Assertions.assertNull(simColumn.getFilterType());
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_swapShadowTable_newRowsWithOccupiedRowsAndIndexes() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            TestDataTable table = testDataTableRepository.getFullTestData(tableName);
+            testDataTableRepository.occupyTestData(tableName, "shadow user",
+                    extractRowIds(table.getData().subList(0, 2)));
+            testDataTableRepository.createColumnIndex(tableName, "sim");
+
+            String shadowTableName = testDataTableRepository.createShadowTable(tableName);
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                Map<String, Object> row = new HashMap<>();
+                row.put("sim", "shadow_" + i);
+                rows.add(row);
+            }
+            testDataTableRepository.insertRows(shadowTableName, true, rows, false);
+            testDataTableRepository.swapShadowTable(tableName, shadowTableName, true);
+
+            Assertions.assertEquals(5, testDataTableRepository.getCountRows(tableName));
+            Assertions.assertEquals(2, testDataTableRepository
+                    .getTestDataRows(true, tableName, null, null, null).getData().size());
+            Assertions.assertEquals(Collections.singletonList("sim"),
+                    testDataTableRepository.getColumnIndexes(tableName).stream()
+                            .map(TestDataTableIndex::getColumnName)
+                            .collect(Collectors.toList()));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_updateTableBySql_allAvailableRowsProcessedByChunks() {
+        String sourceTableName = TestDataTableConvertor.generateTestDataTableName();
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(sourceTableName);
+        createTestDataTable(tableName);
+        try {
+            TestDataTable table = testDataTableRepository.getFullTestData(tableName);
+            testDataTableRepository.occupyTestData(tableName, "update user",
+                    extractRowIds(table.getData().subList(0, 1)));
+            String query = "select sim from " + sourceTableName + " where sim = '${'sim'}'";
+
+            ImportTestDataStatistic statistic = testDataTableRepository.updateTableBySql(tableName, query, 30,
+                    system.getServer("DB"));
+
+            Assertions.assertNull(statistic.getError());
+            Assertions.assertEquals(5, statistic.getProcessedRows());
+        } finally {
+            deleteTestDataTableIfExists(sourceTableName);
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_insertRows_valuesCopiedAsBatchInsertWouldStoreThem() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (int rowNum = 0; rowNum < 1000; rowNum++) {
+                Map<String, Object> row = new HashMap<>();
+                row.put("sim", "copy_sim_" + rowNum + ",\"quoted\"\nline");
+                row.put("Assignment", rowNum % 2 == 0 ? null : "null");
+                row.put("Partner ID", rowNum);
+                rows.add(row);
+            }
+            testDataTableRepository.insertRows(tableName, true, rows, false);
+
+            Assertions.assertEquals(1006, testDataTableRepository.getCountRows(tableName));
+            Assertions.assertEquals(1000, jdbcTemplate.queryForObject("select count(*) from " + tableName
+                    + " where \"Assignment\" = '' and \"sim\" like 'copy_sim_%,\"quoted\"' || chr(10) || 'line'"
+                    + " and \"ROW_ID\" is not null and \"CREATED_WHEN\" is not null", Integer.class));
+            Assertions.assertEquals("999", jdbcTemplate.queryForObject("select \"Partner ID\" from " + tableName
+                    + " where \"sim\" like 'copy_sim_999,%'", String.class));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_getTestDataWithCountMode_recordsCalculatedAccordingToMode() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            Assertions.assertEquals(2, testDataTableRepository.getTestData(false, tableName, 0, 2,
+                    null, null, false, CountMode.NONE).getRecords());
+            Assertions.assertEquals(6, testDataTableRepository.getTestData(false, tableName, 0, 2,
+                    null, null, false, CountMode.EXACT).getRecords());
+            Assertions.assertEquals(6, testDataTableRepository.getTestData(false, tableName, 0, 2,
+                    null, null, false, CountMode.ESTIMATE).getRecords());
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    private FilterType getColumnFilterType(String tableName, String columnName) {
+        return testDataTableRepository.getTestData(false, tableName, null, null, null, null, false)
+                .getColumns().stream()
+                .filter(column -> columnName.equals(column.getIdentity().getColumnName()))
+                .findFirst()
+                .get()
+                .getFilterType();
+    }
+
     @Test
     public void tableRepository_updateLastUsage_success() {
         String tableTitle = "tdm_update_last_usage";
         String tableName = TestDataTableConvertor.generateTestDataTableName();
         createTestDataTableCatalog(projectId, systemId, environmentId, tableTitle, tableName);
+        jdbcTemplate.update("UPDATE test_data_table_catalog SET last_usage = NULL WHERE table_name = ?", tableName);
         testDataTableRepository.updateLastUsage(tableName);
+        lastUsageTracker.flush();
         String expectedLastUsage = catalogRepository.findByTableName(tableName).getLastUsage().toString();
         catalogRepository.deleteByTableName(tableName);
         Assertions.assertTrue(expectedLastUsage.contains(new SimpleDateFormat("yyyy-MM-dd").format(new Date())));
     }
+
+    @Test
+    public void tableRepository_occupyFirstAvailableRow_rowOccupiedAndReturned() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        List<TestDataTableFilter> filters = Collections.singletonList(new TestDataTableFilter("Assignment",
+                "Equals", Collections.singletonList("Test Automation 4"), false));
+        try {
+            Optional<Map<String, Object>> row = testDataTableRepository.occupyFirstAvailableRow(tableName,
+                    "TestUser", filters, Collections.singletonList("sim"));
+            Assertions.assertTrue(row.isPresent());
+            Assertions.assertEquals("Test Automation 4", row.get().get("Assignment"));
+            Assertions.assertEquals(Boolean.TRUE, row.get().get("SELECTED"));
+            Assertions.assertEquals(1L, testDataTableRepository.getTestDataSize(tableName, TestDataType.OCCUPIED));
+            Assertions.assertFalse(testDataTableRepository.occupyFirstAvailableRow(tableName,
+                    "TestUser", filters, Collections.singletonList("sim")).isPresent());
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_occupyFirstAvailableRowWithMissingResponseColumn_rowIsNotOccupied() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            Optional<Map<String, Object>> row = testDataTableRepository.occupyFirstAvailableRow(tableName,
+                    "TestUser", null, Collections.singletonList("Wrong Column Name"));
+            Assertions.assertTrue(row.isPresent());
+            Assertions.assertFalse(row.get().containsKey("Wrong Column Name"));
+            Assertions.assertEquals(0L, testDataTableRepository.getTestDataSize(tableName, TestDataType.OCCUPIED));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_createTable_systemIndexesCreated() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            Assertions.assertEquals(1, jdbcTemplate.queryForObject(TestDataQueries.GET_PRIMARY_KEYS_COUNT,
+                    Integer.class, tableName));
+            Assertions.assertEquals(1, jdbcTemplate.queryForObject(TestDataQueries.GET_PARTIAL_INDEXES_COUNT,
+                    Integer.class, tableName));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_createAndDropColumnIndex_indexListedThenRemoved() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            TestDataTableIndex index = testDataTableRepository.createColumnIndex(tableName, "Partner ID");
+            Assertions.assertEquals(Collections.singletonList(index),
+                    testDataTableRepository.getColumnIndexes(tableName));
+            testDataTableRepository.dropColumnIndex(tableName, "Partner ID");
+            Assertions.assertTrue(testDataTableRepository.getColumnIndexes(tableName).isEmpty());
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
+
+    @Test
+    public void tableRepository_createIndexOnMissingColumn_exceptionThrown() {
+        String tableName = TestDataTableConvertor.generateTestDataTableName();
+        createTestDataTable(tableName);
+        try {
+            Assertions.assertThrows(TdmSearchColumnException.class,
+                    () -> testDataTableRepository.createColumnIndex(tableName, "Wrong Column Name"));
+        } finally {
+            deleteTestDataTableIfExists(tableName);
+        }
+    }
 }
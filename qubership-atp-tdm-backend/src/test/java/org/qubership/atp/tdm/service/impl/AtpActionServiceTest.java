@@ -21,11 +21,13 @@ import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.cleanup.TestDataCleanupConfig;
 import org.qubership.atp.tdm.model.rest.ApiDataFilter;
+import org.qubership.atp.tdm.model.rest.OccupyBatchResult;
 import org.qubership.atp.tdm.model.rest.ResponseMessage;
 import org.qubership.atp.tdm.model.rest.ResponseType;
 import org.qubership.atp.tdm.model.rest.requests.*;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.model.table.TestDataType;
 import org.qubership.atp.tdm.service.AtpActionService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -348,6 +350,82 @@ public class AtpActionServiceTest extends AbstractTestDataTest {
                 responseMessage.getContent());
     }
 
+    @Test
+    public void atpOccupyTestDataBatch_enoughRowsAvailable_requestedRowsOccupied() {
+        String tableName = "tdm_api_test_occupy_batch_fulfilled";
+        TestDataTableCatalog catalog = createTestDataTableCatalog(projectId, systemId, environmentId,
+                "TDM API Test Occupy Batch - Fulfilled", tableName);
+        createTestDataTable(catalog.getTableName());
+
+        OccupyBatchRequest occupyBatchRequest = buildOccupyBatchRequest(Arrays.asList("sim", "Assignment"),
+                "Partner", "Equals", "CINTEX", 4);
+
+        ResponseMessage responseMessage = atpActionService.occupyTestDataBatch(lazyProject.getName(),
+                lazyEnvironment.getName(), system.getName(), catalog.getTableTitle(), occupyBatchRequest);
+        Long availableRows = testDataTableRepository.getTestDataSize(tableName, TestDataType.AVAILABLE);
+
+        deleteTestDataTableIfExists(tableName);
+        catalogRepository.deleteByTableName(tableName);
+
+        Assertions.assertEquals(ResponseType.SUCCESS, responseMessage.getType());
+        OccupyBatchResult result = (OccupyBatchResult) responseMessage.getContentObject();
+        Assertions.assertEquals(4, result.getRequested());
+        Assertions.assertEquals(4, result.getOccupied());
+        Assertions.assertTrue(result.isFulfilled());
+        Assertions.assertEquals(4, result.getRows().size());
+        Assertions.assertEquals(4, result.getRows().stream().map(row -> row.get("sim")).distinct().count());
+        Assertions.assertEquals(2L, availableRows);
+    }
+
+    @Test
+    public void atpOccupyTestDataBatch_notEnoughRowsAvailable_partiallyFulfilled() {
+        String tableName = "tdm_api_test_occupy_batch_partially_fulfilled";
+        TestDataTableCatalog catalog = createTestDataTableCatalog(projectId, systemId, environmentId,
+                "TDM API Test Occupy Batch - Partially Fulfilled", tableName);
+        createTestDataTable(catalog.getTableName());
+
+        OccupyBatchRequest occupyBatchRequest = buildOccupyBatchRequest(Collections.singletonList("Assignment"),
+                "Partner", "Equals", "CINTEX", 10);
+
+        ResponseMessage responseMessage = atpActionService.occupyTestDataBatch(lazyProject.getName(),
+                lazyEnvironment.getName(), system.getName(), catalog.getTableTitle(), occupyBatchRequest);
+
+        deleteTestDataTableIfExists(tableName);
+        catalogRepository.deleteByTableName(tableName);
+
+        Assertions.assertEquals(ResponseType.SUCCESS, responseMessage.getType());
+        Assertions.assertEquals("Occupied 6 of 10 requested rows.", responseMessage.getContent());
+        OccupyBatchResult result = (OccupyBatchResult) responseMessage.getContentObject();
+        Assertions.assertEquals(10, result.getRequested());
+        Assertions.assertEquals(6, result.getOccupied());
+        Assertions.assertFalse(result.isFulfilled());
+    }
+
+    @Test
+    public void atpOccupyTestDataBatch_responseColumnNamesMissingOrTooManyRows_errorMessageAndNothingOccupied() {
+        String tableName = "tdm_api_test_occupy_batch_wrong_input";
+        TestDataTableCatalog catalog = createTestDataTableCatalog(projectId, systemId, environmentId,
+                "TDM API Test Occupy Batch - Wrong Input", tableName);
+        createTestDataTable(catalog.getTableName());
+
+        ResponseMessage noColumnsMessage = atpActionService.occupyTestDataBatch(lazyProject.getName(),
+                lazyEnvironment.getName(), system.getName(), catalog.getTableTitle(),
+                buildOccupyBatchRequest(null, "Partner", "Equals", "CINTEX", 2));
+        ResponseMessage tooManyRowsMessage = atpActionService.occupyTestDataBatch(lazyProject.getName(),
+                lazyEnvironment.getName(), system.getName(), catalog.getTableTitle(),
+                buildOccupyBatchRequest(Collections.singletonList("sim"), "Partner", "Equals", "CINTEX", 1001));
+        Long availableRows = testDataTableRepository.getTestDataSize(tableName, TestDataType.AVAILABLE);
+
+        deleteTestDataTableIfExists(tableName);
+        catalogRepository.deleteByTableName(tableName);
+
+        Assertions.assertEquals(ResponseType.ERROR, noColumnsMessage.getType());
+        Assertions.assertEquals("Response column names should be specified!", noColumnsMessage.getContent());
+        Assertions.assertEquals(ResponseType.ERROR, tooManyRowsMessage.getType());
+        Assertions.assertEquals("Rows count should not exceed 1000, but was 1001!", tooManyRowsMessage.getContent());
+        Assertions.assertEquals(6L, availableRows);
+    }
+
     @Test
     public void atpOccupyTestDataFullRow_wrongSearchValueInput_nothingFoundErrorMessage() {
         String tableName = "tdm_api_test_occupy_full_row_wrong_search_value";
@@ -974,6 +1052,19 @@ public class AtpActionServiceTest extends AbstractTestDataTest {
         return occupyFullRowRequest;
     }
 
+    private OccupyBatchRequest buildOccupyBatchRequest(List<String> responseColumnNames, String columnName,
+                                                       String searchType, String searchValue, int rowsCount) {
+        OccupyBatchRequest occupyBatchRequest = new OccupyBatchRequest();
+        occupyBatchRequest.setResponseColumnNames(responseColumnNames);
+        occupyBatchRequest.setRowsCount(rowsCount);
+
+        ApiDataFilter filter = new ApiDataFilter(columnName, searchType, searchValue, false);
+
+        occupyBatchRequest.setFilters(Collections.singletonList(filter));
+
+        return occupyBatchRequest;
+    }
+
     private ReleaseRowRequest buildReleaseRowRequest(String nameColumnResponse, String columnName,
                                                        String searchType, String searchValue) {
         ReleaseRowRequest releaseRowRequest = new ReleaseRowRequest();
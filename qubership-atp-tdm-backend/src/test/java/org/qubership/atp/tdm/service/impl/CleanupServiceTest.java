@@ -22,12 +22,16 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.qubership.atp.tdm.AbstractTestDataTest;
+import org.qubership.atp.tdm.env.configurator.model.Server;
 import org.qubership.atp.tdm.exceptions.internal.TdmValidateCronException;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.cleanup.CleanupResults;
@@ -39,6 +43,7 @@ import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumnIdentity;
 import org.qubership.atp.tdm.repo.CleanupConfigRepository;
+import org.qubership.atp.tdm.repo.SqlRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
@@ -50,6 +55,9 @@ public class CleanupServiceTest extends AbstractTestDataTest {
     @Autowired
     protected CleanupConfigRepository cleanupRepository;
 
+    @Autowired
+    private SqlRepository sqlRepository;
+
     @BeforeEach
     public void setUp() {
         when(environmentsService.getConnectionsSystemById(any())).thenReturn(connections);
@@ -439,6 +447,31 @@ public class CleanupServiceTest extends AbstractTestDataTest {
         }
     }
 
+    @Test
+    public void sqlTestDataCleaner_runCleanupByChunks_returnMissingRows() throws Exception {
+        String tableName = "tdm_sql_cleanup_by_chunks";
+        createTestDataTable(tableName);
+        TestDataTable testDataTable = testDataTableRepository.getFullTestData(tableName);
+        Server server = system.getServer("DB");
+        String sqlQuery = "select 1 from " + tableName + " where \"Status\" = ${'Status'}"
+                + " and \"Status\" in ('51', '52')";
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        List<Map<String, Object>> rowsToBeDeleted;
+        try {
+            SqlTestDataCleaner cleaner = new SqlTestDataCleaner(() -> sqlRepository.createConnection(server),
+                    sqlQuery + ";", 30, 4, executor);
+            rowsToBeDeleted = cleaner.runCleanup(testDataTable);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        deleteTestDataTableIfExists(tableName);
+        Assertions.assertEquals(4, rowsToBeDeleted.size());
+        Assertions.assertTrue(rowsToBeDeleted.stream()
+                .noneMatch(row -> "51".equals(row.get("Status")) || "52".equals(row.get("Status"))));
+    }
+
     @Test
     public void checkSqlCleanupQueryParsing_validQuery() {
         String sqlQuery = "select * from nc_objects where object_id = ${'CUSTOMER_ID'} and"
@@ -20,6 +20,7 @@ import org.qubership.atp.tdm.AbstractTestDataTest;
 import org.qubership.atp.tdm.env.configurator.model.System;
 import org.qubership.atp.tdm.env.configurator.model.*;
 import org.qubership.atp.tdm.model.ProjectInformation;
+import org.qubership.atp.tdm.model.TestDataOccupyStatistic;
 import org.qubership.atp.tdm.model.mail.charts.ChartSeries;
 import org.qubership.atp.tdm.model.statistics.*;
 import org.qubership.atp.tdm.model.statistics.available.AvailableDataByColumnStats;
@@ -30,6 +31,7 @@ import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportElemen
 import org.qubership.atp.tdm.model.statistics.report.UsersStatisticsReportObject;
 import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataTable;
+import org.qubership.atp.tdm.repo.OccupyStatisticRepository;
 import org.qubership.atp.tdm.repo.TestAvailableDataMonitoringRepository;
 import org.qubership.atp.tdm.repo.TestDataUsersMonitoringRepository;
 import org.qubership.atp.tdm.utils.DataUtils;
@@ -144,6 +146,9 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
     @Autowired
     private TestAvailableDataMonitoringRepository availableDataMonitoringRepository;
 
+    @Autowired
+    private OccupyStatisticRepository occupyStatisticRepository;
+
     public void setUp() {
         deleteTestDataTableIfExists(TABLE_NAME_FIRST);
         deleteTestDataTableIfExists(TABLE_NAME_SECOND);
@@ -159,6 +164,7 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
         TestDataTable tableFirst = testDataService.getTestData(TABLE_NAME_FIRST);
         List<UUID> rowIdsToOccupyFirst = extractRowIds(tableFirst.getData().subList(0, 1));
         testDataService.occupyTestData(TABLE_NAME_FIRST, "TestUser", rowIdsToOccupyFirst);
+        statisticsService.flushOccupyStatistics();
         // create test objects
         availableItemFirst = new GeneralStatisticsItem(TABLE_TITLE, 5L, 1L, 1L, 6L);
         availableItemFirst.setEnvironment(environment.getName());
@@ -279,6 +285,7 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
         TestDataTable tableSecond = testDataService.getTestData(TABLE_NAME_SECOND);
         List<UUID> rowIdsToOccupySecond = extractRowIds(tableSecond.getData().subList(0, 2));
         testDataService.occupyTestData(TABLE_NAME_SECOND, "TestUser", rowIdsToOccupySecond);
+        statisticsService.flushOccupyStatistics();
         // create test objects
         availableItemSecond = new GeneralStatisticsItem(TABLE_TITLE, 4L, 2L, 2L, 6L);
         availableItemSecond.setEnvironment(lazyEnvironmentSecond.getName());
@@ -474,6 +481,51 @@ public class StatisticsServiceTest extends AbstractTestDataTest {
         Assertions.assertEquals(expectedStatistics, actualStatistics);
     }
 
+    @Test
+    public void statisticsService_checkConsumingWeeksAcrossMonths_returnsConsumptionStatistics() {
+        final UUID consumptionProjectId = UUID.randomUUID();
+        final String tableName = "test_table_statistic_consumption_weeks";
+        Arrays.asList(LocalDateTime.of(2024, 1, 30, 10, 0), LocalDateTime.of(2024, 2, 2, 10, 0),
+                LocalDateTime.of(2024, 2, 20, 10, 0)).forEach(occupiedDate -> occupyStatisticRepository.save(
+                new TestDataOccupyStatistic(UUID.randomUUID(), consumptionProjectId, systemId, tableName,
+                        TABLE_TITLE, "TestUser", occupiedDate, occupiedDate)));
+
+        ConsumedStatistics actualStatistics = statisticsService.getTestDataConsumption(consumptionProjectId,
+                systemId, LocalDate.of(2024, 1, 29), LocalDate.of(2024, 2, 27));
+
+        Assertions.assertEquals(Arrays.asList(2L, 0L, 0L, 1L, 0L), actualStatistics.getItems().get(0).getConsumed());
+    }
+
+    @Test
+    public void statisticsService_occupyAndReleaseStatistic_dailyStatisticsUpdated() {
+        final UUID rollupProjectId = UUID.randomUUID();
+        final UUID rowId = UUID.randomUUID();
+        final String tableName = "test_table_statistic_daily_rollup";
+        final LocalDate dateFrom = LocalDate.of(2024, 3, 1);
+        final LocalDate dateTo = LocalDate.of(2024, 3, 3);
+        LocalDateTime createdWhen = LocalDateTime.of(2024, 3, 1, 0, 0);
+        statisticsService.saveOccupyStatistic(new TestDataOccupyStatistic(rowId, rollupProjectId, systemId,
+                tableName, TABLE_TITLE, null, null, createdWhen));
+
+        DateStatistics created = statisticsService.getTestDataCreatedWhen(rollupProjectId, systemId,
+                dateFrom, dateTo);
+        Assertions.assertEquals(Arrays.asList(1L, 0L, 0L), created.getItems().get(0).getCreated());
+        ConsumedStatistics consumed = statisticsService.getTestDataConsumption(rollupProjectId, systemId,
+                dateFrom, dateTo);
+        Assertions.assertEquals(Arrays.asList(0L, 0L, 0L), consumed.getItems().get(0).getConsumed());
+
+        statisticsService.saveOccupyStatistic(new TestDataOccupyStatistic(rowId, rollupProjectId, systemId,
+                tableName, TABLE_TITLE, "TestUser", LocalDateTime.of(2024, 3, 2, 0, 0), createdWhen));
+        consumed = statisticsService.getTestDataConsumption(rollupProjectId, systemId, dateFrom, dateTo);
+        Assertions.assertEquals(Arrays.asList(0L, 1L, 0L), consumed.getItems().get(0).getConsumed());
+        created = statisticsService.getTestDataCreatedWhen(rollupProjectId, systemId, dateFrom, dateTo);
+        Assertions.assertEquals(Arrays.asList(1L, 0L, 0L), created.getItems().get(0).getCreated());
+
+        statisticsService.deleteAllOccupyStatisticByRowId(Collections.singletonList(rowId));
+        consumed = statisticsService.getTestDataConsumption(rollupProjectId, systemId, dateFrom, dateTo);
+        Assertions.assertTrue(consumed.getItems().isEmpty());
+    }
+
     @Test
     public void statisticsService_checkConsumingOutdatedOnEnvironmentDays_returnsConsumptionStatistics() {
         setUp();
@@ -30,20 +30,26 @@ import org.qubership.atp.tdm.exceptions.internal.TdmEnvironmentSystemException;
 import org.qubership.atp.tdm.model.DropResults;
 import org.qubership.atp.tdm.exceptions.db.TdmDbRowNotFoundException;
 import org.qubership.atp.tdm.model.EnvsList;
+import org.qubership.atp.tdm.model.ExportFileType;
 import org.qubership.atp.tdm.model.ImportTestDataStatistic;
 import org.qubership.atp.tdm.model.ProjectInformation;
 import org.qubership.atp.tdm.model.TestDataTableCatalog;
 import org.qubership.atp.tdm.model.table.TableColumnValues;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.TestDataTableFilter;
+import org.qubership.atp.tdm.repo.impl.loader.TestDataExcelLoader;
 
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.time.LocalDate;
 import java.util.*;
@@ -340,6 +346,23 @@ public class TestDataServiceTest extends AbstractTestDataTest {
         }
     }
 
+    @Test
+    public void excelLoader_processByChunks_rowsPassedWhileSheetIsParsed() throws Exception {
+        List<Integer> chunkSizes = new ArrayList<>();
+        OPCPackage opcPackage = OPCPackage.open(getResourcesFile(TEST_DATASET_SMALL), PackageAccess.READ);
+        try {
+            long processedRows = new TestDataExcelLoader(opcPackage, 2)
+                    .process((columns, rows) -> {
+                        Assertions.assertFalse(columns.isEmpty());
+                        chunkSizes.add(rows.size());
+                    });
+            Assertions.assertEquals(3, processedRows);
+        } finally {
+            opcPackage.revert();
+        }
+        Assertions.assertEquals(Arrays.asList(2, 1), chunkSizes);
+    }
+
     @Test
     public void testDataService_deleteProjectFromCatalogue_catalogsDeleted() {
         TestDataTableCatalog catalog = createTestDataTableCatalog(UUID.randomUUID(), UUID.randomUUID(),
@@ -585,6 +608,22 @@ public class TestDataServiceTest extends AbstractTestDataTest {
         Assertions.assertEquals(erRowsPerformed, arRows);
     }
 
+    @Test
+    public void testDataService_writeTestDataTableAsCsv_streamEqualsCsvFile() throws IOException {
+        String tableName = "tdm_test_write_table_as_csv";
+        createTestDataTableCatalog(projectId, systemId, environmentId, "table_title", tableName);
+        createTestDataTable(tableName);
+        List<String> erRows = Files.readAllLines(testDataService.getTestDataTableAsCsvFile(tableName).toPath());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        testDataService.writeTestDataTable(tableName, ExportFileType.CSV, outputStream);
+        List<String> arRows = Arrays.asList(outputStream.toString(StandardCharsets.UTF_8.name()).split("\r\n"));
+        deleteTestDataTableIfExists(tableName);
+
+        Assertions.assertEquals(7, arRows.size());
+        Assertions.assertEquals(erRows, arRows);
+    }
+
+
      @Test
      public void testDataService_importSqlTestData_rowsImportedAndStatisticReturned() {
         createTestDataTable("tdm_test_import_sql_source_table");
@@ -0,0 +1,63 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.utils;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.model.statistics.StatisticsInterval;
+
+public class StatisticsBucketsTest {
+
+    @Test
+    public void of_periodsOfDifferentLength_intervalChosenPerRequest() {
+        StatisticsBuckets days = StatisticsBuckets.of(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 3));
+        StatisticsBuckets years = StatisticsBuckets.of(LocalDate.of(2022, 3, 1), LocalDate.of(2024, 3, 3));
+
+        Assertions.assertEquals(StatisticsInterval.DAYS, days.getInterval());
+        Assertions.assertEquals(3, days.getCount());
+        Assertions.assertEquals(StatisticsInterval.YEARS, years.getInterval());
+        Assertions.assertEquals(3, years.getCount());
+    }
+
+    @Test
+    public void add_weeksAcrossMonths_countsAddedToWeekOfDate() {
+        StatisticsBuckets weeks = StatisticsBuckets.of(LocalDate.of(2024, 1, 29), LocalDate.of(2024, 2, 27));
+        long[] counts = new long[weeks.getCount()];
+
+        weeks.add(counts, LocalDate.of(2024, 1, 29), 1);
+        weeks.add(counts, LocalDate.of(2024, 2, 2), 1);
+        weeks.add(counts, LocalDate.of(2024, 2, 20), 1);
+        weeks.add(counts, LocalDate.of(2024, 1, 28), 1);
+        weeks.add(counts, LocalDate.of(2024, 3, 5), 1);
+
+        Assertions.assertEquals(StatisticsInterval.WEEKS, weeks.getInterval());
+        Assertions.assertEquals(Arrays.asList(2L, 0L, 0L, 1L, 0L), weeks.toList(counts));
+    }
+
+    @Test
+    public void toList_noCounts_zerosReturned() {
+        StatisticsBuckets months = StatisticsBuckets.of(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 4, 1));
+
+        Assertions.assertEquals(StatisticsInterval.MONTHS, months.getInterval());
+        Assertions.assertEquals(Arrays.asList(0L, 0L, 0L), months.toList(null));
+        Assertions.assertEquals("CAST(date_trunc('month', stat_date) AS date)",
+                months.getBucketExpression("stat_date"));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+package org.qubership.atp.tdm.websocket.bulkaction;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BulkActionExecutorsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BulkActionExecutors executors = new BulkActionExecutors(meterRegistry, 1, 1);
+
+    @AfterEach
+    public void tearDown() {
+        executors.shutdown();
+    }
+
+    @Test
+    public void getExecutor_sameHandlerType_sameExecutorReturned() {
+        Assertions.assertSame(executors.getExecutor("refresh"), executors.getExecutor("refresh"));
+        Assertions.assertNotSame(executors.getExecutor("refresh"), executors.getExecutor("cleanup"));
+    }
+
+    @Test
+    public void getExecutor_queueIsFull_requestRejectedAndGaugesPublished() throws Exception {
+        ThreadPoolExecutor executor = executors.getExecutor("drop");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> {
+            started.countDown();
+            release.await();
+            return null;
+        });
+        started.await();
+        executor.submit(() -> { });
+
+        Assertions.assertThrows(RejectedExecutionException.class, () -> executor.submit(() -> { }));
+        Assertions.assertEquals(1, meterRegistry.get("atp_tdm_bulk_action_active_tasks")
+                .tag("handler_type", "drop").gauge().value());
+        Assertions.assertEquals(1, meterRegistry.get("atp_tdm_bulk_action_queued_tasks")
+                .tag("handler_type", "drop").gauge().value());
+        release.countDown();
+    }
+}
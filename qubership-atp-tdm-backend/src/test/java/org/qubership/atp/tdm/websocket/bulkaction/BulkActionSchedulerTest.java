@@ -0,0 +1,100 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+package org.qubership.atp.tdm.websocket.bulkaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.model.TestDataTableCatalog;
+
+public class BulkActionSchedulerTest {
+
+    private final BulkActionScheduler scheduler = new BulkActionScheduler(4, 1);
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    public void schedule_tablesOfSeveralEnvironments_environmentParallelismRespected() throws Exception {
+        UUID firstEnvironment = UUID.randomUUID();
+        UUID secondEnvironment = UUID.randomUUID();
+        List<TestDataTableCatalog> catalogs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            catalogs.add(new TestDataTableCatalog("first_" + i, null, firstEnvironment, null, "first"));
+            catalogs.add(new TestDataTableCatalog("second_" + i, null, secondEnvironment, null, "second"));
+        }
+        Map<UUID, AtomicInteger> running = new ConcurrentHashMap<>();
+        AtomicInteger maxRunningPerEnvironment = new AtomicInteger();
+
+        List<Future<String>> futures = scheduler.schedule(catalogs, true, catalog -> {
+            AtomicInteger environmentRunning = running.computeIfAbsent(catalog.getEnvironmentId(),
+                    id -> new AtomicInteger());
+            maxRunningPerEnvironment.accumulateAndGet(environmentRunning.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            environmentRunning.decrementAndGet();
+            return catalog.getTableName();
+        });
+
+        for (int i = 0; i < catalogs.size(); i++) {
+            Assertions.assertEquals(catalogs.get(i).getTableName(), futures.get(i).get());
+        }
+        Assertions.assertEquals(1, maxRunningPerEnvironment.get());
+    }
+
+    @Test
+    public void schedule_tablesWithPastRuntimes_mostExpensiveTableStartedFirst() throws Exception {
+        UUID environmentId = UUID.randomUUID();
+        TestDataTableCatalog cheap = new TestDataTableCatalog("cheap", null, environmentId, null, "cheap");
+        TestDataTableCatalog expensive = new TestDataTableCatalog("expensive", null, environmentId, null,
+                "expensive");
+        scheduler.schedule(Arrays.asList(cheap, expensive), false, catalog -> {
+            try {
+                Thread.sleep("expensive".equals(catalog.getTableName()) ? 50 : 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return catalog.getTableName();
+        }).get(1).get();
+        Assertions.assertTrue(scheduler.estimateCost("expensive") > scheduler.estimateCost("cheap"));
+
+        List<String> startOrder = new ArrayList<>();
+        List<Future<String>> futures = scheduler.schedule(Arrays.asList(cheap, expensive), false, catalog -> {
+            synchronized (startOrder) {
+                startOrder.add(catalog.getTableName());
+            }
+            return catalog.getTableName();
+        });
+        futures.get(0).get();
+        futures.get(1).get();
+
+        Assertions.assertEquals(Arrays.asList("expensive", "cheap"), startOrder);
+    }
+}
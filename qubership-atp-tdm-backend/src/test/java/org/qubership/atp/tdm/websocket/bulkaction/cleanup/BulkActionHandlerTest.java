@@ -25,6 +25,8 @@ import org.qubership.atp.tdm.model.bulkaction.BulkActionResult;
 import org.qubership.atp.tdm.model.cleanup.CleanupResults;
 import org.qubership.atp.tdm.model.mail.bulkaction.BulkCleanupMailSender;
 import org.qubership.atp.tdm.repo.CleanupConfigRepository;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionExecutors;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,7 +40,6 @@ import org.springframework.web.socket.WebSocketSession;
 import java.net.URI;
 import java.util.Collections;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -53,7 +54,10 @@ public class BulkActionHandlerTest extends AbstractTestDataTest {
     TdmMdcHelper helper = new TdmMdcHelper();
 
     @Autowired
-    ExecutorService executorService;
+    BulkActionExecutors bulkActionExecutors;
+
+    @Autowired
+    BulkActionScheduler bulkActionScheduler;
     @Autowired
     CleanupConfigRepository cleanupConfigRepository;
     @Autowired
@@ -64,8 +68,10 @@ public class BulkActionHandlerTest extends AbstractTestDataTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataCleanupHandler = new BulkDataCleanupHandler(executorService, catalogRepository, environmentsService,
-                cleanupService, cleanupConfigRepository, bulkCleanupMailSender, currentTime, lockManager, helper);
+        bulkDataCleanupHandler = new BulkDataCleanupHandler(
+                bulkActionExecutors.getExecutor("cleanup"), catalogRepository, environmentsService,
+                cleanupService, cleanupConfigRepository, bulkCleanupMailSender, currentTime, lockManager, helper,
+                bulkActionScheduler);
 
         when(session.isOpen()).thenReturn(true);
         when(session.getUri()).thenReturn(new URI("localhost:8080/"));
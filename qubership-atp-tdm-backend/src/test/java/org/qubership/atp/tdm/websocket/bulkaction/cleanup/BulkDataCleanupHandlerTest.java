@@ -24,6 +24,8 @@ import org.qubership.atp.tdm.model.mail.bulkaction.BulkCleanupMailSender;
 import org.qubership.atp.tdm.model.cleanup.CleanupResults;
 import org.qubership.atp.tdm.repo.CleanupConfigRepository;
 import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionExecutors;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
@@ -33,8 +35,6 @@ import org.springframework.web.socket.WebSocketSession;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -47,7 +47,10 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
     );
 
     @Autowired
-    ExecutorService executorService;
+    BulkActionExecutors bulkActionExecutors;
+
+    @Autowired
+    BulkActionScheduler bulkActionScheduler;
 
     @Autowired
     CleanupConfigRepository cleanupConfigRepository;
@@ -61,8 +64,10 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataCleanupHandler = new BulkDataCleanupHandler(executorService, catalogRepository, environmentsService,
-                cleanupService, cleanupConfigRepository, bulkCleanupMailSender, currentTime, lockManager, tdmMdcHelper);
+        bulkDataCleanupHandler = new BulkDataCleanupHandler(
+                bulkActionExecutors.getExecutor("cleanup"), catalogRepository, environmentsService,
+                cleanupService, cleanupConfigRepository, bulkCleanupMailSender, currentTime, lockManager, tdmMdcHelper,
+                bulkActionScheduler);
 
         when(environmentsService.getConnectionsSystemById(any())).thenReturn(connections);
     }
@@ -72,7 +77,6 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
     public void runBulkActionTest_saveDataConfigAndCleanupTable_returnBulkActionIsCorrect() throws Exception {
         final UUID projectId = UUID.randomUUID();
         final long processId = currentTime.getCurrentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_cleanup_date_config_cleanup_results";
         String tableTitle = "TDM Cleanup Date Config Cleanup Results";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -93,7 +97,7 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
                 environmentName, new CleanupResults(tableName, 6, 0));
 
         List<Future<BulkActionResult>> futures = bulkDataCleanupHandler
-                .runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                .runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
 
         BulkActionResult actualBulkActionResult = futures.get(0).get();
 
@@ -107,7 +111,6 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
     public void runBulkActionTest_saveDataConfigAndCleanupTable_testDataTableHasNotCleanup() throws Exception {
         final UUID projectId = UUID.randomUUID();
         long processId = currentTime.getCurrentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_cleanup_date_config_not_empty_table";
         String tableTitle = "TDM Cleanup Date Config Not Empty Table";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -127,7 +130,7 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
 
         Assertions.assertFalse(testDataService.getTestData(tableName).getData().isEmpty());
         List<Future<BulkActionResult>> futures =
-                bulkDataCleanupHandler.runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                bulkDataCleanupHandler.runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
         BulkActionResult bulkActionResult = futures.get(0).get();
         boolean result = testDataService.getTestData(tableName).getData().isEmpty();
 
@@ -141,7 +144,6 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
     public void runBulkActionTest_saveSqlConfigAndCleanupTable_bulkActionResultIsCorrect() throws Exception {
         final UUID projectId = UUID.randomUUID();
         long processId = currentTime.getCurrentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_cleanup_sql_config_cleanup_results";
         String tableTitle = "TDM Cleanup SQL Config Cleanup Results";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -163,7 +165,7 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
                 environmentName, new CleanupResults(tableName, 6, 6));
 
         List<Future<BulkActionResult>> futures = bulkDataCleanupHandler
-                .runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                .runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
 
         BulkActionResult actualBulkActionResult = futures.get(0).get();
 
@@ -177,7 +179,6 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
     public void runBulkActionTest_saveSqlConfigAndCleanupTable_cleanupTestDataTable() throws Exception {
         final UUID projectId = UUID.randomUUID();
         long processId = currentTime.getCurrentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_cleanup_sql_config_empty_table";
         String tableTitle = "TDM Cleanup SQL Config Empty Table";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -196,7 +197,7 @@ public class BulkDataCleanupHandlerTest extends AbstractTestDataTest {
         createSqlCleanupConfig(tableCatalog, true);
         Assertions.assertFalse(testDataService.getTestData(tableName).getData().isEmpty());
         List<Future<BulkActionResult>> futures =
-                bulkDataCleanupHandler.runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                bulkDataCleanupHandler.runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
         BulkActionResult bulkActionResult = futures.get(0).get();
         boolean result = testDataService.getTestData(tableName).getData().isEmpty();
 
@@ -23,6 +23,8 @@ import org.qubership.atp.tdm.model.mail.bulkaction.BulkCleanupMailSender;
 import org.qubership.atp.tdm.model.refresh.RefreshResults;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.service.DataRefreshService;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionExecutors;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
@@ -34,8 +36,6 @@ import org.springframework.web.socket.WebSocketSession;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -44,7 +44,10 @@ import static org.mockito.Mockito.when;
 public class BulkDataImportHandlerTest extends AbstractTestDataTest {
 
     @Autowired
-    ExecutorService executorService;
+    BulkActionExecutors bulkActionExecutors;
+
+    @Autowired
+    BulkActionScheduler bulkActionScheduler;
 
     @Autowired
     BulkCleanupMailSender bulkCleanupMailSender;
@@ -59,8 +62,10 @@ public class BulkDataImportHandlerTest extends AbstractTestDataTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataImportHandler = new BulkDataImportHandler(executorService, catalogRepository, environmentsService,
-                bulkCleanupMailSender, dataRefreshService, importInfoRepository, currentTime, lockManager, tdmMdcHelper);
+        bulkDataImportHandler = new BulkDataImportHandler(
+                bulkActionExecutors.getExecutor("import"), catalogRepository, environmentsService,
+                bulkCleanupMailSender, dataRefreshService, importInfoRepository, currentTime, lockManager, tdmMdcHelper,
+                bulkActionScheduler);
 
         when(environmentsService.getConnectionsSystemById(any())).thenReturn(Collections.singletonList(dbConnection));
     }
@@ -70,7 +75,6 @@ public class BulkDataImportHandlerTest extends AbstractTestDataTest {
     public void runBulkAction_saveQueryAndUpdateTable_bulkActionIsCorrect() throws Exception {
         final UUID projectId = UUID.randomUUID();
         long processId = java.lang.System.currentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_run_balk_import_refresh_results";
         String tableTitle = "TDM Run Balk Import Refresh Result";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -91,7 +95,7 @@ public class BulkDataImportHandlerTest extends AbstractTestDataTest {
                 new BulkActionResult(tableTitle, tableName, environmentName, new RefreshResults(6));
 
         List<Future<BulkActionResult>> futures = bulkDataImportHandler
-                .runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                .runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
 
         BulkActionResult actualBulkActionResult = futures.get(0).get();
 
@@ -105,7 +109,6 @@ public class BulkDataImportHandlerTest extends AbstractTestDataTest {
     public void runBulkAction_saveQueryAndUpdateTable_testDataTableUpdated() throws Exception {
         final UUID projectId = UUID.randomUUID();
         long processId = java.lang.System.currentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_run_balk_import_refresh_table";
         String tableTitle = "TDM Run Balk Import Refresh Table";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -124,7 +127,7 @@ public class BulkDataImportHandlerTest extends AbstractTestDataTest {
         TestDataTable expected = testDataService.getTestData(tableName);
 
         List<Future<BulkActionResult>> futures =
-                bulkDataImportHandler.runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                bulkDataImportHandler.runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
 
         BulkActionResult actualBulkActionResult = futures.get(0).get();
 
@@ -23,6 +23,8 @@ import org.qubership.atp.tdm.model.mail.bulkaction.BulkRefreshMailSender;
 import org.qubership.atp.tdm.model.refresh.RefreshResults;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.service.DataRefreshService;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionExecutors;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
@@ -34,8 +36,6 @@ import org.springframework.web.socket.WebSocketSession;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -44,7 +44,10 @@ import static org.mockito.Mockito.when;
 public class BulkDataRefreshHandlerTest extends AbstractTestDataTest {
 
     @Autowired
-    ExecutorService executorService;
+    BulkActionExecutors bulkActionExecutors;
+
+    @Autowired
+    BulkActionScheduler bulkActionScheduler;
 
     @Autowired
     BulkRefreshMailSender bulkRefreshMailSender;
@@ -59,8 +62,10 @@ public class BulkDataRefreshHandlerTest extends AbstractTestDataTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataRefreshHandler = new BulkDataRefreshHandler(executorService, catalogRepository, importInfoRepository,
-                dataRefreshService, environmentsService, bulkRefreshMailSender, currentTime, lockManager, tdmMdcHelper);
+        bulkDataRefreshHandler = new BulkDataRefreshHandler(
+                bulkActionExecutors.getExecutor("refresh"), catalogRepository, importInfoRepository,
+                dataRefreshService, environmentsService, bulkRefreshMailSender, currentTime, lockManager, tdmMdcHelper,
+                bulkActionScheduler);
 
         when(environmentsService.getConnectionsSystemById(any())).thenReturn(Collections.singletonList(dbConnection));
     }
@@ -70,7 +75,6 @@ public class BulkDataRefreshHandlerTest extends AbstractTestDataTest {
     public void runBulkAction_saveQueryAndUpdateTable_bulkActionIsCorrect() throws Exception {
         final UUID projectId = UUID.randomUUID();
         long processId = java.lang.System.currentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_run_balk_refresh_results";
         String tableTitle = "TDM Run Balk Refresh Result";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -91,7 +95,7 @@ public class BulkDataRefreshHandlerTest extends AbstractTestDataTest {
                 new BulkActionResult(tableTitle, tableName, environmentName, new RefreshResults(6));
 
         List<Future<BulkActionResult>> futures = bulkDataRefreshHandler
-                .runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                .runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
 
         BulkActionResult actualBulkActionResult = futures.get(0).get();
 
@@ -105,7 +109,6 @@ public class BulkDataRefreshHandlerTest extends AbstractTestDataTest {
     public void runBulkAction_saveQueryAndUpdateTable_testDataTableUpdated() throws Exception {
         final UUID projectId = UUID.randomUUID();
         long processId = java.lang.System.currentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_run_balk_refresh_table";
         String tableTitle = "TDM Run Balk Refresh Table";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -123,7 +126,7 @@ public class BulkDataRefreshHandlerTest extends AbstractTestDataTest {
 
         TestDataTable expected = testDataService.getTestData(tableName);
         List<Future<BulkActionResult>> futures =
-                bulkDataRefreshHandler.runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                bulkDataRefreshHandler.runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
 
         BulkActionResult actualBulkActionResult = futures.get(0).get();
 
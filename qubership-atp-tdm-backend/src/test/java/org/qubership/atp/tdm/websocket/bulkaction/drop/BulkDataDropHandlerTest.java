@@ -22,6 +22,8 @@ import org.qubership.atp.tdm.model.DropResults;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionConfig;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionResult;
 import org.qubership.atp.tdm.model.mail.bulkaction.BulkDropMailSender;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionExecutors;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,14 +31,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.socket.WebSocketSession;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 public class BulkDataDropHandlerTest  extends AbstractTestDataTest {
 
     @Autowired
-    ExecutorService executorService;
+    BulkActionExecutors bulkActionExecutors;
+
+    @Autowired
+    BulkActionScheduler bulkActionScheduler;
 
     @Autowired
     BulkDropMailSender bulkDropMailSender;
@@ -48,8 +51,9 @@ public class BulkDataDropHandlerTest  extends AbstractTestDataTest {
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataDropHandler = new BulkDataDropHandler(executorService, catalogRepository, environmentsService,
-                testDataService, bulkDropMailSender, currentTime, lockManager, tdmMdcHelper);
+        bulkDataDropHandler = new BulkDataDropHandler(
+                bulkActionExecutors.getExecutor("drop"), catalogRepository, environmentsService,
+                testDataService, bulkDropMailSender, currentTime, lockManager, tdmMdcHelper, bulkActionScheduler);
     }
 
 
@@ -58,7 +62,6 @@ public class BulkDataDropHandlerTest  extends AbstractTestDataTest {
         final UUID projectId = UUID.randomUUID();
         final UUID systemId = UUID.randomUUID();
         long processId = java.lang.System.currentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_run_balk_drop_table";
         String tableTitle = "TDM Run Balk Drop Table";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -78,7 +81,7 @@ public class BulkDataDropHandlerTest  extends AbstractTestDataTest {
                 environmentName, executeResults);
 
         List<Future<BulkActionResult>> futures = bulkDataDropHandler
-                .runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                .runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
         BulkActionResult actualBulkActionResultFuture = futures.get(0).get();
 
         Assertions.assertEquals(expectedBulkActionResult, actualBulkActionResultFuture);
@@ -91,7 +94,6 @@ public class BulkDataDropHandlerTest  extends AbstractTestDataTest {
     public void runBulkAction_dropTable_cleanupTestDataTableCatalog() throws Exception {
         final UUID projectId = UUID.randomUUID();
         long processId = java.lang.System.currentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_run_balk_drop_clean_catalog";
         String tableTitle = "TDM Run Balk Drop Clean Catalog";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -111,7 +113,7 @@ public class BulkDataDropHandlerTest  extends AbstractTestDataTest {
                 environmentName, executeResults);
 
         List<Future<BulkActionResult>> futures =
-                bulkDataDropHandler.runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                bulkDataDropHandler.runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
         BulkActionResult bulkActionResult = futures.get(0).get();
 
         Assertions.assertNull(catalogRepository.findByTableName(tableName));
@@ -124,7 +126,6 @@ public class BulkDataDropHandlerTest  extends AbstractTestDataTest {
     public void runBulkAction_dropTable_returnException() throws Exception {
         final UUID projectId = UUID.randomUUID();
         long processId = java.lang.System.currentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_run_balk_exception";
         String tableTitle = "TDM Run Balk Exception";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -140,7 +141,7 @@ public class BulkDataDropHandlerTest  extends AbstractTestDataTest {
         createTestDataTableCatalog(projectId, systemId, environmentId, tableTitle, tableName);
 
         List<Future<BulkActionResult>> futures =
-                bulkDataDropHandler.runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                bulkDataDropHandler.runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
         BulkActionResult bulkActionResult = futures.get(0).get();
         Assertions.assertEquals(tableName, bulkActionResult.getTableName());
         deleteTestDataTableIfExists(tableName);
@@ -17,6 +17,7 @@
 package org.qubership.atp.tdm.websocket.bulkaction.links;
 
 import org.qubership.atp.tdm.AbstractTestDataTest;
+import org.qubership.atp.tdm.env.configurator.configuration.EnvironmentsCacheInvalidator;
 import org.qubership.atp.tdm.model.LinkSetupResult;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionConfig;
 import org.qubership.atp.tdm.model.bulkaction.BulkActionResult;
@@ -24,6 +25,8 @@ import org.qubership.atp.tdm.model.mail.bulkaction.BulkLinksRefreshMailSender;
 import org.qubership.atp.tdm.model.table.TestDataTable;
 import org.qubership.atp.tdm.model.table.column.TestDataTableColumn;
 import org.qubership.atp.tdm.service.ColumnService;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionExecutors;
+import org.qubership.atp.tdm.websocket.bulkaction.BulkActionScheduler;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,8 +39,6 @@ import org.springframework.web.socket.WebSocketSession;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -46,7 +47,10 @@ import static org.mockito.Mockito.when;
 public class BulkDataLinksRefreshHandlerTest  extends AbstractTestDataTest {
 
     @Autowired
-    ExecutorService executorService;
+    BulkActionExecutors bulkActionExecutors;
+
+    @Autowired
+    BulkActionScheduler bulkActionScheduler;
 
     @Autowired
     ColumnService columnService;
@@ -54,14 +58,19 @@ public class BulkDataLinksRefreshHandlerTest  extends AbstractTestDataTest {
     @Autowired
     BulkLinksRefreshMailSender bulkLinksRefreshMailSender;
 
+    @Autowired
+    EnvironmentsCacheInvalidator environmentsCacheInvalidator;
+
     WebSocketSession session;
 
     BulkDataLinksRefreshHandler bulkDataLinksRefreshHandler;
 
     @BeforeEach
     public void setUp() throws Exception {
-        bulkDataLinksRefreshHandler = new BulkDataLinksRefreshHandler(executorService, catalogRepository,
-                environmentsService, columnService, bulkLinksRefreshMailSender, currentTime, lockManager, tdmMdcHelper);
+        bulkDataLinksRefreshHandler = new BulkDataLinksRefreshHandler(
+                bulkActionExecutors.getExecutor("links"), catalogRepository,
+                environmentsService, columnService, environmentsCacheInvalidator, bulkLinksRefreshMailSender,
+                currentTime, lockManager, tdmMdcHelper, bulkActionScheduler);
 
         when(environmentsService.getConnectionsSystemById(any())).thenReturn(Collections.singletonList(httpConnection));
     }
@@ -76,7 +85,6 @@ public class BulkDataLinksRefreshHandlerTest  extends AbstractTestDataTest {
     public void runBulkAction_saveRowNameInColumnRepository_bulkActionIsCorrect() throws Exception {
         final UUID projectId = UUID.randomUUID();
         long processId = java.lang.System.currentTimeMillis();
-        ExecutorService executor = Executors.newSingleThreadExecutor();
         String tableName = "tdm_run_balk_link_setup";
         String tableTitle = "TDM Run Balk Link Setup";
         BulkActionConfig bulkActionConfig = new BulkActionConfig(){{
@@ -108,7 +116,7 @@ public class BulkDataLinksRefreshHandlerTest  extends AbstractTestDataTest {
                 new LinkSetupResult(row));
 
         List<Future<BulkActionResult>> futures = bulkDataLinksRefreshHandler
-                .runBulkAction(session, executor, lazyEnvironments, bulkActionConfig, processId);
+                .runBulkAction(session, lazyEnvironments, bulkActionConfig, processId);
 
         BulkActionResult actualBulkActionResult = futures.get(0).get();
 
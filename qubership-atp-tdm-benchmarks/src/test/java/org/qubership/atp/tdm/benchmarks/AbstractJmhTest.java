@@ -23,10 +23,18 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 public interface AbstractJmhTest {
 
     default Options prepareOptionBuilder(String name) {
+        return prepareOptionBuilder(name, 1);
+    }
+
+    default Options prepareOptionBuilder(String name, int threads) {
+        return prepareOptionBuilder(name, "\\." + this.getClass().getSimpleName() + "\\.", threads);
+    }
+
+    default Options prepareOptionBuilder(String name, String include, int threads) {
         return new OptionsBuilder()
-                .include("\\." + this.getClass().getSimpleName() + "\\.")
+                .include(include)
                 .forks(0)
-                .threads(1)
+                .threads(threads)
                 .shouldDoGC(true)
                 .shouldFailOnError(true)
                 .jvmArgs("-server")
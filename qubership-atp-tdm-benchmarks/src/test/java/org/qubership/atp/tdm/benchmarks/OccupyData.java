@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
@@ -44,6 +45,9 @@ import org.qubership.atp.tdm.service.TestDataService;
 public class OccupyData extends AbstractTestDataTest implements AbstractJmhTest {
 
     private static final String OCCUPY_TEST_DATA = "tdm_benchmark_occupy_test_data";
+    private static final String OCCUPY_TEST_DATA_ATOMICALLY = "tdm_benchmark_occupy_test_data_atomically";
+    private static final int[] CONCURRENT_OCCUPIERS = {1, 8, 32, 128};
+    private static final int ATOMIC_OCCUPY_TABLE_COPIES = 20;
 
     private static TestDataService benchmarkTestDataService;
     private static TestDataTableRepository benchmarkTestDataTableRepository;
@@ -51,10 +55,21 @@ public class OccupyData extends AbstractTestDataTest implements AbstractJmhTest
     @Test
     public void runBenchmarksToOccupyData() throws Exception {
         setFields();
-        Options opts = prepareOptionBuilder("jmh-occupy-data-report.json");
+        Options opts = prepareOptionBuilder("jmh-occupy-data-report.json",
+                "\\." + getClass().getSimpleName() + "\\.occupyTestData$", 1);
         new Runner(opts).run();
     }
 
+    @Test
+    public void runBenchmarksToOccupyDataConcurrently() throws Exception {
+        setFields();
+        for (int threads : CONCURRENT_OCCUPIERS) {
+            Options opts = prepareOptionBuilder("jmh-occupy-data-atomically-" + threads + "-threads-report.json",
+                    "\\." + getClass().getSimpleName() + "\\.occupyTestDataAtomically$", threads);
+            new Runner(opts).run();
+        }
+    }
+
     private void setFields() {
         benchmarkTestDataService = testDataService;
         benchmarkTestDataTableRepository = testDataTableRepository;
@@ -67,6 +82,15 @@ public class OccupyData extends AbstractTestDataTest implements AbstractJmhTest
         return data.testingTarget.occupyTestData(OCCUPY_TEST_DATA);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 2, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 8, time = 200, timeUnit = TimeUnit.MILLISECONDS)
+    public String occupyTestDataAtomically(AtomicData data) {
+        return data.testingTarget.occupyTestDataAtomically(OCCUPY_TEST_DATA_ATOMICALLY);
+    }
+
     @State(Scope.Benchmark)
     public static class Data {
 
@@ -78,4 +102,21 @@ public class OccupyData extends AbstractTestDataTest implements AbstractJmhTest
             testingTarget.createTestDataTable(OCCUPY_TEST_DATA);
         }
     }
+
+    @State(Scope.Benchmark)
+    public static class AtomicData {
+
+        private GeneralFacade testingTarget;
+
+        @Setup
+        public void setUp() {
+            testingTarget = new GeneralFacade(benchmarkTestDataService, benchmarkTestDataTableRepository);
+            testingTarget.createTestDataTable(OCCUPY_TEST_DATA_ATOMICALLY);
+        }
+
+        @Setup(Level.Iteration)
+        public void refill() {
+            testingTarget.refillTestDataTable(OCCUPY_TEST_DATA_ATOMICALLY, ATOMIC_OCCUPY_TABLE_COPIES);
+        }
+    }
 }
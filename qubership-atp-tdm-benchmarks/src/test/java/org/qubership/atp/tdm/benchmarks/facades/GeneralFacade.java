@@ -66,6 +66,20 @@ public class GeneralFacade {
         return "Finished";
     }
 
+    public void refillTestDataTable(String tableName, int copies) {
+        tableName = Strings.isNullOrEmpty(tableName) ? TEST_DATA_TABLE_DEFAULT : tableName;
+        testDataTableRepository.truncateTable(tableName);
+        for (int i = 0; i < copies; i++) {
+            testDataTableRepository.saveTestData(tableName, true, buildTestDataTableWithSpecificData());
+        }
+    }
+
+    public String occupyTestDataAtomically(String tableName) {
+        tableName = Strings.isNullOrEmpty(tableName) ? TEST_DATA_TABLE_DEFAULT : tableName;
+        return testDataTableRepository.occupyFirstAvailableRow(tableName, "TestUser", null,
+                Collections.singletonList("SIM")).isPresent() ? "Finished" : "Exhausted";
+    }
+
     public String releaseTestData(String tableName) {
         tableName = Strings.isNullOrEmpty(tableName) ? TEST_DATA_TABLE_DEFAULT : tableName;
         TestDataTable table = testDataService.getTestData(tableName);
@@ -0,0 +1,217 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.configuration;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.qubership.atp.tdm.env.configurator.model.Environment;
+import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
+import org.qubership.atp.tdm.env.configurator.model.LazySystem;
+import org.qubership.atp.tdm.env.configurator.model.Project;
+import org.qubership.atp.tdm.env.configurator.model.System;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.CacheBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Links systems to environments and environments to projects, so cache entries affected by a change
+ * of a system or an environment can be found. Links are collected from objects loaded into environment
+ * caches and from project, environment and system events. A link expires together with the cache entries
+ * which registered it, unless it is registered again by a reload, and the number of links is bounded.
+ */
+@Slf4j
+@Component
+public class EnvironmentDependencies {
+
+    private final Map<UUID, UUID> projectByEnvironment;
+    private final Map<UUID, Set<UUID>> environmentsBySystem;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param cacheDuration      - expiration of environment cache entries in minutes.
+     * @param cacheStaleDuration - time in minutes an expired entry is still served while it is refreshed.
+     * @param size               - maximum number of environments and of systems to keep links of.
+     */
+    public EnvironmentDependencies(@Value("${environments.cache.duration:15}") int cacheDuration,
+                                   @Value("${environments.cache.stale.duration:60}") int cacheStaleDuration,
+                                   @Value("${environments.dependencies.size:100000}") int size) {
+        long expireAfter = TimeUnit.MINUTES.toMillis(cacheDuration + cacheStaleDuration);
+        log.info("Environment dependencies expire after: {} ms, size: {} links.", expireAfter, size);
+        this.projectByEnvironment = CacheBuilder.newBuilder()
+                .expireAfterWrite(expireAfter, TimeUnit.MILLISECONDS)
+                .maximumSize(size)
+                .<UUID, UUID>build()
+                .asMap();
+        this.environmentsBySystem = CacheBuilder.newBuilder()
+                .expireAfterWrite(expireAfter, TimeUnit.MILLISECONDS)
+                .maximumSize(size)
+                .<UUID, Set<UUID>>build()
+                .asMap();
+    }
+
+    /**
+     * Collects links from an object loaded from the environments service.
+     *
+     * @param value - project, environment or system, or a collection of them.
+     */
+    public void register(@Nullable Object value) {
+        if (value instanceof Collection) {
+            ((Collection<?>) value).forEach(this::register);
+        } else if (value instanceof Project) {
+            Project project = (Project) value;
+            if (project.getEnvironments() != null) {
+                project.getEnvironments().forEach(environment -> {
+                    linkEnvironment(project.getId(), environment.getId());
+                    register(environment);
+                });
+            }
+        } else if (value instanceof Environment) {
+            Environment environment = (Environment) value;
+            linkEnvironment(environment.getProjectId(), environment.getId());
+            if (environment.getSystems() != null) {
+                environment.getSystems().forEach(system -> linkSystem(environment.getId(), system.getId()));
+            }
+        } else if (value instanceof LazyEnvironment) {
+            LazyEnvironment environment = (LazyEnvironment) value;
+            linkEnvironment(environment.getProjectId(), environment.getId());
+        } else if (value instanceof System) {
+            System system = (System) value;
+            linkSystem(system.getEnvironmentId(), system.getId());
+        } else if (value instanceof LazySystem) {
+            LazySystem system = (LazySystem) value;
+            if (system.getEnvironmentIds() != null) {
+                system.getEnvironmentIds().forEach(environmentId -> linkSystem(environmentId, system.getId()));
+            }
+        }
+    }
+
+    /**
+     * Links environment to project.
+     *
+     * @param projectId     - project id.
+     * @param environmentId - environment id.
+     */
+    public void linkEnvironment(@Nullable UUID projectId, @Nullable UUID environmentId) {
+        if (projectId != null && environmentId != null) {
+            projectByEnvironment.put(environmentId, projectId);
+        }
+    }
+
+    /**
+     * Links system to environment.
+     *
+     * @param environmentId - environment id.
+     * @param systemId      - system id.
+     */
+    public void linkSystem(@Nullable UUID environmentId, @Nullable UUID systemId) {
+        if (environmentId != null && systemId != null) {
+            environmentsBySystem.compute(systemId, (id, environments) -> {
+                Set<UUID> linked = environments == null ? ConcurrentHashMap.newKeySet() : environments;
+                linked.add(environmentId);
+                return linked;
+            });
+        }
+    }
+
+    /**
+     * Returns known project of the environment.
+     */
+    @Nullable
+    public UUID getProject(@Nonnull UUID environmentId) {
+        return projectByEnvironment.get(environmentId);
+    }
+
+    /**
+     * Returns known environments of the project.
+     */
+    @Nonnull
+    public Set<UUID> getEnvironments(@Nonnull UUID projectId) {
+        return projectByEnvironment.entrySet().stream()
+                .filter(link -> projectId.equals(link.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns known environments of the system.
+     */
+    @Nonnull
+    public Set<UUID> getSystemEnvironments(@Nonnull UUID systemId) {
+        Set<UUID> environments = environmentsBySystem.get(systemId);
+        return environments == null ? Collections.emptySet() : new HashSet<>(environments);
+    }
+
+    /**
+     * Returns known systems of the environments.
+     */
+    @Nonnull
+    public Set<UUID> getSystems(@Nonnull Collection<UUID> environmentIds) {
+        return environmentsBySystem.entrySet().stream()
+                .filter(link -> link.getValue().stream().anyMatch(environmentIds::contains))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns known projects of the environments.
+     */
+    @Nonnull
+    public Set<UUID> getProjects(@Nonnull Collection<UUID> environmentIds) {
+        return environmentIds.stream()
+                .map(projectByEnvironment::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Forgets the project with its environments and systems.
+     */
+    public void removeProject(@Nonnull UUID projectId) {
+        getEnvironments(projectId).forEach(this::removeEnvironment);
+    }
+
+    /**
+     * Forgets the environment and its links to systems.
+     */
+    public void removeEnvironment(@Nonnull UUID environmentId) {
+        projectByEnvironment.remove(environmentId);
+        environmentsBySystem.values().forEach(environments -> environments.remove(environmentId));
+        environmentsBySystem.values().removeIf(Set::isEmpty);
+    }
+
+    /**
+     * Forgets the system.
+     */
+    public void removeSystem(@Nonnull UUID systemId) {
+        environmentsBySystem.remove(systemId);
+    }
+}
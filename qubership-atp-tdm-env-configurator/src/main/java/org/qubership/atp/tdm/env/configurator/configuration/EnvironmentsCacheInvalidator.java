@@ -0,0 +1,216 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.configuration;
+
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.AUTH_PROJECT_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_ALL_SHORT_LAZY_SYSTEMS_BY_PROJECT_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_ENV_NAME_BY_ENVIRONMENT_ID_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_FULL_PROJECT_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_FULL_SYSTEM_BY_ID_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_FULL_SYSTEM_BY_NAME_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_ENVIRONMENTS_SHORT_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_ENVIRONMENT_BY_NAME_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_PROJECTS_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_PROJECT_BY_NAME_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_PROJECT_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_SYSTEMS_BY_NAME_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_SYSTEMS_BY_PROJECT_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_SYSTEMS_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_SYSTEM_BY_NAME_CACHE;
+import static org.qubership.atp.tdm.env.configurator.utils.CacheNames.TDM_LAZY_SYSTEM_CACHE;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.qubership.atp.tdm.env.configurator.model.LazyProject;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts environment cache entries affected by a change of a project, an environment or a system.
+ * Every cache is owned by one level: project, environment or system, and the owner id is taken from
+ * the cache key. A change evicts entries of the changed object, of objects containing it and, for projects
+ * and environments, of objects contained in it, as far as they are known by {@link EnvironmentDependencies}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EnvironmentsCacheInvalidator {
+
+    private static final List<ScopedCache> CACHES = Arrays.asList(
+            new ScopedCache(AUTH_PROJECT_CACHE, Scope.PROJECT, -1),
+            new ScopedCache(TDM_FULL_PROJECT_CACHE, Scope.PROJECT, -1),
+            new ScopedCache(TDM_LAZY_PROJECT_CACHE, Scope.PROJECT, -1),
+            new ScopedCache(TDM_LAZY_ENVIRONMENTS_CACHE, Scope.PROJECT, -1),
+            new ScopedCache(TDM_LAZY_ENVIRONMENTS_SHORT_CACHE, Scope.PROJECT, -1),
+            new ScopedCache(TDM_LAZY_ENVIRONMENT_BY_NAME_CACHE, Scope.PROJECT, 0),
+            new ScopedCache(TDM_ALL_SHORT_LAZY_SYSTEMS_BY_PROJECT_CACHE, Scope.PROJECT, -1),
+            new ScopedCache(TDM_LAZY_SYSTEMS_BY_PROJECT_CACHE, Scope.PROJECT, -1),
+            new ScopedCache(TDM_LAZY_ENVIRONMENT_BY_ID_CACHE, Scope.ENVIRONMENT, -1),
+            new ScopedCache(TDM_ENV_NAME_BY_ENVIRONMENT_ID_CACHE, Scope.ENVIRONMENT, -1),
+            new ScopedCache(TDM_LAZY_SYSTEMS_CACHE, Scope.ENVIRONMENT, -1),
+            new ScopedCache(TDM_LAZY_SYSTEMS_BY_NAME_CACHE, Scope.ENVIRONMENT, 0),
+            new ScopedCache(TDM_FULL_SYSTEM_BY_NAME_CACHE, Scope.ENVIRONMENT, 1),
+            new ScopedCache(TDM_LAZY_SYSTEM_BY_NAME_CACHE, Scope.ENVIRONMENT, 1),
+            new ScopedCache(TDM_FULL_SYSTEM_BY_ID_CACHE, Scope.SYSTEM, -1),
+            new ScopedCache(TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE, Scope.SYSTEM, -1),
+            new ScopedCache(TDM_LAZY_SYSTEM_CACHE, Scope.SYSTEM, -1));
+
+    private final CacheManager cacheManager;
+    private final EnvironmentDependencies dependencies;
+
+    /**
+     * Evicts entries of the project, its environments and systems, and project lists.
+     *
+     * @param projectId   - project id.
+     * @param projectName - project name from the event, if any.
+     * @param deleted     - whether the project was deleted.
+     */
+    public void evictProject(@Nonnull UUID projectId, @Nullable String projectName, boolean deleted) {
+        Set<UUID> environments = dependencies.getEnvironments(projectId);
+        Set<UUID> systems = dependencies.getSystems(environments);
+        evict(Scope.PROJECT, Collections.singleton(projectId));
+        evict(Scope.ENVIRONMENT, environments);
+        evict(Scope.SYSTEM, systems);
+        evict(TDM_LAZY_PROJECTS_CACHE, (key, value) -> true);
+        evict(TDM_LAZY_PROJECT_BY_NAME_CACHE, (key, value) -> key.equals(projectName)
+                || value instanceof LazyProject && projectId.equals(((LazyProject) value).getId()));
+        if (deleted) {
+            dependencies.removeProject(projectId);
+        }
+        log.info("Environment caches of project [{}] have been evicted: {} environments, {} systems.",
+                projectId, environments.size(), systems.size());
+    }
+
+    /**
+     * Evicts entries of the environment and of its project.
+     *
+     * @param projectId     - project id from the event, if any.
+     * @param environmentId - environment id.
+     * @param deleted       - whether the environment was deleted.
+     */
+    public void evictEnvironment(@Nullable UUID projectId, @Nonnull UUID environmentId, boolean deleted) {
+        dependencies.linkEnvironment(projectId, environmentId);
+        evict(Scope.ENVIRONMENT, Collections.singleton(environmentId));
+        evictProjects(dependencies.getProjects(Collections.singleton(environmentId)));
+        if (deleted) {
+            dependencies.removeEnvironment(environmentId);
+        }
+        log.info("Environment caches of environment [{}] have been evicted.", environmentId);
+    }
+
+    /**
+     * Evicts entries of the system, of its environments and of its project.
+     * If environments of the system are not known yet, entries of all known environments of the project are evicted.
+     *
+     * @param projectId - project id from the event, if any.
+     * @param systemId  - system id.
+     * @param deleted   - whether the system was deleted.
+     */
+    public void evictSystem(@Nullable UUID projectId, @Nonnull UUID systemId, boolean deleted) {
+        Set<UUID> environments = dependencies.getSystemEnvironments(systemId);
+        if (environments.isEmpty() && projectId != null) {
+            environments = dependencies.getEnvironments(projectId);
+        }
+        Set<UUID> projects = new HashSet<>(dependencies.getProjects(environments));
+        if (projectId != null) {
+            projects.add(projectId);
+        }
+        evict(Scope.SYSTEM, Collections.singleton(systemId));
+        evict(Scope.ENVIRONMENT, environments);
+        evictProjects(projects);
+        if (deleted) {
+            dependencies.removeSystem(systemId);
+        }
+        log.info("Environment caches of system [{}] have been evicted: {} environments.", systemId,
+                environments.size());
+    }
+
+    private void evictProjects(@Nonnull Set<UUID> projects) {
+        if (projects.isEmpty()) {
+            log.warn("Project is not known, project level environment caches are cleared.");
+            evict(Scope.PROJECT, null);
+        } else {
+            evict(Scope.PROJECT, projects);
+        }
+    }
+
+    private void evict(@Nonnull Scope scope, @Nullable Collection<UUID> ids) {
+        if (ids != null && ids.isEmpty()) {
+            return;
+        }
+        CACHES.stream()
+                .filter(scopedCache -> scopedCache.scope == scope)
+                .forEach(scopedCache -> evict(scopedCache.name,
+                        (key, value) -> ids == null || ids.contains(scopedCache.ownerId(key))));
+    }
+
+    private void evict(@Nonnull String cacheName, @Nonnull BiPredicate<Object, Object> predicate) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache instanceof RefreshAheadCache) {
+            ((RefreshAheadCache) cache).evictIf(predicate);
+        } else if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private enum Scope {
+        PROJECT, ENVIRONMENT, SYSTEM
+    }
+
+    private static final class ScopedCache {
+        private final String name;
+        private final Scope scope;
+        private final int keyIndex;
+
+        /**
+         * Cache owned by one level.
+         *
+         * @param name     - cache name.
+         * @param scope    - owner level.
+         * @param keyIndex - index of the owner id in a composite key, -1 if the key is the owner id.
+         */
+        private ScopedCache(String name, Scope scope, int keyIndex) {
+            this.name = name;
+            this.scope = scope;
+            this.keyIndex = keyIndex;
+        }
+
+        private Object ownerId(Object key) {
+            if (keyIndex < 0) {
+                return key;
+            }
+            return key instanceof List && ((List<?>) key).size() > keyIndex ? ((List<?>) key).get(keyIndex) : null;
+        }
+    }
+}
@@ -19,8 +19,12 @@ package org.qubership.atp.tdm.env.configurator.configuration;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.PreDestroy;
+
 import org.qubership.atp.tdm.env.configurator.exceptions.internal.TdmEnvInitiateCacheException;
 import org.qubership.atp.tdm.env.configurator.utils.CacheNames;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,12 +32,13 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
-import com.google.common.cache.CacheBuilder;
+import com.google.common.base.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,27 +48,44 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class EnvironmentsConfig {
 
+    private static final int REFRESH_QUEUE_CAPACITY = 1000;
+
     @Value("${environments.cache.duration:15}")
     private Integer cacheDuration;
+    @Value("${environments.cache.refresh.after:12}")
+    private Integer cacheRefreshAfter;
+    @Value("${environments.cache.stale.duration:60}")
+    private Integer cacheStaleDuration;
+    @Value("${environments.cache.size:1000}")
+    private Integer cacheSize;
+    @Value("${environments.cache.refresh.threads:2}")
+    private Integer cacheRefreshThreads;
+
+    private ThreadPoolExecutor refreshExecutor;
 
     /**
      * Cache manager.
-     * @return - ConcurrentMapCache.
+     * @param meterRegistry - registry to publish cache metrics.
+     * @param dependencies  - links between projects, environments and systems collected from loaded values.
+     * @return - ConcurrentMapCacheManager with refresh ahead caches.
      */
     @Bean
     @ConditionalOnProperty(name = "spring.cache.type", havingValue = "GENERIC")
-    public CacheManager cacheManager() {
-        log.info("Environments cache manage is enabled. Cache duration: {}", cacheDuration);
+    public CacheManager cacheManager(MeterRegistry meterRegistry, EnvironmentDependencies dependencies) {
+        log.info("Environments cache manage is enabled. Cache duration: {}, refresh after: {}, stale duration: {}"
+                + " minutes, size: {} entries per cache.", cacheDuration, cacheRefreshAfter, cacheStaleDuration,
+                cacheSize);
+        refreshExecutor = new ThreadPoolExecutor(cacheRefreshThreads, cacheRefreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY), new CustomizableThreadFactory("env-cache-refresh-"));
 
         ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager() {
             @Override
             protected Cache createConcurrentMapCache(String name) {
-                return new ConcurrentMapCache(
-                        name,
-                        CacheBuilder.newBuilder()
-                                .expireAfterWrite(cacheDuration, TimeUnit.MINUTES)
-                                .build().asMap(),
-                        false);
+                return new RefreshAheadCache(name, cacheSize,
+                        TimeUnit.MINUTES.toMillis(cacheRefreshAfter),
+                        TimeUnit.MINUTES.toMillis(cacheDuration),
+                        TimeUnit.MINUTES.toMillis(cacheStaleDuration),
+                        refreshExecutor, dependencies::register, meterRegistry, Ticker.systemTicker());
             }
         };
 
@@ -82,4 +104,14 @@ public class EnvironmentsConfig {
 
         return cacheManager;
     }
+
+    /**
+     * Stops background refresh of environment caches.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
 }
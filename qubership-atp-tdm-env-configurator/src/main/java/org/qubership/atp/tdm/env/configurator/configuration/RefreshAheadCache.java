@@ -0,0 +1,262 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.configuration;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import org.slf4j.MDC;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of environments service responses.
+ * Concurrent loads of the same key are coalesced into one call.
+ * An entry older than refresh interval is returned as is and reloaded in background.
+ * An entry older than expiration is reloaded by the caller; if the environments service fails,
+ * the stale value is returned while it is younger than expiration plus stale duration.
+ * Entries are bounded by size. Requests, refreshes and stale responses are published per cache.
+ * Every loaded value is passed to the load listener, so dependencies between cached objects can be tracked.
+ * Stale entries and refresh ahead are only available through {@link #get(Object, Callable)},
+ * so cached methods should be declared with {@code sync = true}.
+ */
+@Slf4j
+public class RefreshAheadCache extends AbstractValueAdaptingCache {
+
+    private static final String REQUESTS = "atp_tdm_env_cache_requests";
+    private static final String REFRESHES = "atp_tdm_env_cache_refreshes";
+    private static final String STALE = "atp_tdm_env_cache_stale";
+    private static final String SIZE = "atp_tdm_env_cache_size";
+
+    private final String name;
+    private final Cache<Object, Entry> store;
+    private final Ticker ticker;
+    private final long refreshAfterNanos;
+    private final long expireAfterNanos;
+    private final Executor refreshExecutor;
+    private final Consumer<Object> loadListener;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refreshed;
+    private final Counter refreshFailed;
+    private final Counter staleServed;
+
+    /**
+     * Constructor with parameters.
+     *
+     * @param name            - cache name.
+     * @param maximumSize     - maximum number of entries.
+     * @param refreshAfter    - age of an entry to reload it in background, in milliseconds.
+     * @param expireAfter     - age of an entry to reload it by the caller, in milliseconds.
+     * @param staleFor        - time after expiration while an entry is served if reload fails, in milliseconds.
+     * @param refreshExecutor - executor of background reloads.
+     * @param loadListener    - listener of loaded values.
+     * @param meterRegistry   - registry to publish metrics.
+     * @param ticker          - time source.
+     */
+    public RefreshAheadCache(@Nonnull String name, long maximumSize, long refreshAfter, long expireAfter,
+                             long staleFor, @Nonnull Executor refreshExecutor, @Nonnull Consumer<Object> loadListener,
+                             @Nonnull MeterRegistry meterRegistry, @Nonnull Ticker ticker) {
+        super(false);
+        this.name = name;
+        this.ticker = ticker;
+        this.refreshAfterNanos = TimeUnit.MILLISECONDS.toNanos(Math.min(refreshAfter, expireAfter));
+        this.expireAfterNanos = TimeUnit.MILLISECONDS.toNanos(expireAfter);
+        this.refreshExecutor = refreshExecutor;
+        this.loadListener = loadListener;
+        this.store = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfter + staleFor, TimeUnit.MILLISECONDS)
+                .ticker(ticker)
+                .build();
+        this.hits = counter(meterRegistry, REQUESTS, "result", "hit");
+        this.misses = counter(meterRegistry, REQUESTS, "result", "miss");
+        this.refreshed = counter(meterRegistry, REFRESHES, "result", "success");
+        this.refreshFailed = counter(meterRegistry, REFRESHES, "result", "failure");
+        this.staleServed = Counter.builder(STALE).tag("cache", name).register(meterRegistry);
+        Gauge.builder(SIZE, store, Cache::size).tag("cache", name).register(meterRegistry);
+    }
+
+    @Override
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @Nonnull
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    @Nullable
+    protected Object lookup(@Nonnull Object key) {
+        Entry entry = store.getIfPresent(key);
+        if (entry == null || entry.age() >= expireAfterNanos) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(@Nonnull Object key, @Nonnull Callable<T> valueLoader) {
+        Entry entry = store.getIfPresent(key);
+        if (entry == null) {
+            misses.increment();
+            return (T) fromStoreValue(load(key, valueLoader));
+        }
+        long age = entry.age();
+        if (age < expireAfterNanos) {
+            hits.increment();
+            if (age >= refreshAfterNanos) {
+                refreshAsync(key, entry, valueLoader);
+            }
+            return (T) fromStoreValue(entry.value);
+        }
+        misses.increment();
+        return (T) fromStoreValue(reload(key, entry, valueLoader));
+    }
+
+    @Override
+    public void put(@Nonnull Object key, @Nullable Object value) {
+        store.put(key, newEntry(value));
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper putIfAbsent(@Nonnull Object key, @Nullable Object value) {
+        Entry existing = store.asMap().putIfAbsent(key, newEntry(value));
+        return existing == null ? null : toValueWrapper(existing.value);
+    }
+
+    @Override
+    public void evict(@Nonnull Object key) {
+        store.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        store.invalidateAll();
+    }
+
+    /**
+     * Drops entries matching the predicate.
+     *
+     * @param predicate - predicate of the key and the cached value.
+     */
+    public void evictIf(@Nonnull BiPredicate<Object, Object> predicate) {
+        store.asMap().entrySet().removeIf(e -> predicate.test(e.getKey(), fromStoreValue(e.getValue().value)));
+    }
+
+    private Object load(@Nonnull Object key, @Nonnull Callable<?> valueLoader) {
+        try {
+            return store.get(key, () -> newEntry(valueLoader.call())).value;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    private Object reload(@Nonnull Object key, @Nonnull Entry stale, @Nonnull Callable<?> valueLoader) {
+        synchronized (stale) {
+            Entry current = store.getIfPresent(key);
+            if (current != null && current != stale) {
+                return current.value;
+            }
+            try {
+                Entry fresh = newEntry(valueLoader.call());
+                store.put(key, fresh);
+                return fresh.value;
+            } catch (Exception e) {
+                staleServed.increment();
+                log.warn("Failed to reload key [{}] of cache [{}], stale value is returned.", key, name, e);
+                return stale.value;
+            }
+        }
+    }
+
+    private void refreshAsync(@Nonnull Object key, @Nonnull Entry entry, @Nonnull Callable<?> valueLoader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        try {
+            refreshExecutor.execute(() -> {
+                if (mdcContext != null) {
+                    MDC.setContextMap(mdcContext);
+                }
+                try {
+                    store.asMap().replace(key, entry, newEntry(valueLoader.call()));
+                    refreshed.increment();
+                } catch (Exception e) {
+                    refreshFailed.increment();
+                    log.warn("Failed to refresh key [{}] of cache [{}], current value is kept.", key, name, e);
+                } finally {
+                    entry.refreshing.set(false);
+                    MDC.clear();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+            log.debug("Refresh of key [{}] of cache [{}] is skipped, refresh queue is full.", key, name);
+        }
+    }
+
+    private Entry newEntry(@Nullable Object value) {
+        Entry entry = new Entry(toStoreValue(value));
+        loadListener.accept(value);
+        return entry;
+    }
+
+    private Counter counter(@Nonnull MeterRegistry meterRegistry, @Nonnull String meterName,
+                            @Nonnull String tag, @Nonnull String value) {
+        return Counter.builder(meterName).tag("cache", name).tag(tag, value).register(meterRegistry);
+    }
+
+    private final class Entry {
+        private final Object value;
+        private final long loadedAt = ticker.read();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(Object value) {
+            this.value = value;
+        }
+
+        private long age() {
+            return ticker.read() - loadedAt;
+        }
+    }
+}
@@ -92,7 +92,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get full project by ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_FULL_PROJECT_CACHE)
+    @Cacheable(value = CacheNames.TDM_FULL_PROJECT_CACHE, sync = true)
     public Project getFullProject(@Nonnull UUID projectId) {
         log.info("Loading project by id: [{}]", projectId);
         Project project;
@@ -112,7 +112,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy project by ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_PROJECT_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_PROJECT_CACHE, sync = true)
     public LazyProject getLazyProjectById(@Nonnull UUID projectId) {
         log.info("Loading lazy project by Id.");
         LazyProject lazyProjects;
@@ -132,7 +132,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy project by name.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_PROJECT_BY_NAME_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_PROJECT_BY_NAME_CACHE, sync = true)
     public LazyProject getLazyProjectByName(@Nonnull String projectName) {
         log.info("Loading lazy project by name: {}.", projectName);
         ResponseEntity<ProjectFullVer1ViewDto> projectsResponse =
@@ -152,7 +152,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy projects.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_PROJECTS_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_PROJECTS_CACHE, sync = true)
     public List<LazyProject> getLazyProjects() {
         log.info("Loading lazy projects.");
         List<LazyProject> lazyProjects;
@@ -174,7 +174,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy environment by ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENT_BY_ID_CACHE, sync = true)
     public LazyEnvironment getLazyEnvironment(@Nonnull UUID environmentId) {
         log.info("Loading lazy environment by environment id: [{}]",  environmentId);
         LazyEnvironment environment;
@@ -195,7 +195,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get env name by environment ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_ENV_NAME_BY_ENVIRONMENT_ID_CACHE)
+    @Cacheable(value = CacheNames.TDM_ENV_NAME_BY_ENVIRONMENT_ID_CACHE, sync = true)
     public String getEnvNameById(@Nonnull UUID environmentId) {
         log.info("Loading environment name by environment id: [{}]",  environmentId);
         ResponseEntity<String> environmentNameById = environmentFeignClient.getEnvironmentNameById(environmentId);
@@ -207,7 +207,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy environments by project ID - with systems.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE, sync = true)
     public List<LazyEnvironment> getLazyEnvironments(@Nonnull UUID projectId) {
         log.info("Loading lazy environments by project id: [{}]", projectId);
         List<LazyEnvironment> lazyEnvironments;
@@ -228,7 +228,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy environments by project ID - without systems.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENTS_SHORT_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENTS_SHORT_CACHE, sync = true)
     public List<LazyEnvironment> getLazyEnvironmentsShort(@Nonnull UUID projectId) {
         log.info("Loading lazy environments by project id: [{}]", projectId);
         List<LazyEnvironment> lazyEnvironments;
@@ -249,7 +249,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy environment by project and environment name.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENT_BY_NAME_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_ENVIRONMENT_BY_NAME_CACHE, key = "{#p0, #p1}", sync = true)
     public LazyEnvironment getLazyEnvironmentByName(@Nonnull UUID projectId, @Nonnull String environmentName) {
         ArrayList<String> envNames = new ArrayList<>();
         envNames.add(environmentName);
@@ -277,7 +277,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get full system by project ID, environment ID, name.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_FULL_SYSTEM_BY_NAME_CACHE)
+    @Cacheable(value = CacheNames.TDM_FULL_SYSTEM_BY_NAME_CACHE, key = "{#p0, #p1, #p2}", sync = true)
     public System getFullSystemByName(@Nonnull UUID projectId, @Nonnull UUID environmentId,
                                       @Nonnull String systemName) {
         log.info("Loading full systems for project id: [{}] by environment id: [{}] and systemName: [{}]", projectId,
@@ -299,7 +299,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get full system by ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_FULL_SYSTEM_BY_ID_CACHE)
+    @Cacheable(value = CacheNames.TDM_FULL_SYSTEM_BY_ID_CACHE, sync = true)
     public System getFullSystemById(UUID systemId) {
         log.info("Loading full system by system ID: {}", systemId);
         System system;
@@ -319,7 +319,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get connections by system ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE)
+    @Cacheable(value = CacheNames.TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE, sync = true)
     public List<Connection> getConnectionsSystemById(UUID systemId) {
         log.info("Loading connections by system ID: {}", systemId);
         List<Connection> connections;
@@ -339,7 +339,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy system by ID.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEM_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEM_CACHE, sync = true)
     public LazySystem getLazySystemById(@Nonnull UUID systemId) {
         log.info("Loading lazy system by system ID: {}", systemId);
         LazySystem lazySystem;
@@ -358,7 +358,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * Get lazy system by project ID, environment ID, name.
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEM_BY_NAME_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEM_BY_NAME_CACHE, key = "{#p0, #p1, #p2}", sync = true)
     public LazySystem getLazySystemByName(@Nonnull UUID projectId, @Nonnull UUID environmentId,
                                       @Nonnull String systemName) {
         log.info("Loading lazy systems for project id: [{}] by environment id: [{}] and systemName: [{}]", projectId,
@@ -384,7 +384,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * @return list of LazySystem's
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEMS_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEMS_CACHE, sync = true)
     public List<LazySystem> getLazySystems(@Nonnull UUID environmentId) {
         log.info("Loading lazy systems by env ID: [{}]", environmentId);
         ResponseEntity<List<SystemNameViewDto>> systemsRes =
@@ -405,7 +405,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * @return list of LazySystem's
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEMS_BY_NAME_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEMS_BY_NAME_CACHE, key = "{#p0, #p1}", sync = true)
     public List<LazySystem> getLazySystems(@Nonnull UUID environmentId, @Nonnull String defaultSystem) {
         log.info("Loading lazy systems by environment id: [{}], defaultSystem: [{}]", environmentId, defaultSystem);
         List<LazySystem> lazySystems;
@@ -424,7 +424,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
     }
 
     @Override
-    @Cacheable(value = CacheNames.TDM_ALL_SHORT_LAZY_SYSTEMS_BY_PROJECT_CACHE)
+    @Cacheable(value = CacheNames.TDM_ALL_SHORT_LAZY_SYSTEMS_BY_PROJECT_CACHE, sync = true)
     public List<LazySystem> getLazySystemsByProjectWithEnvIds(@Nonnull UUID projectId) {
         log.info("Loading lazy systems by project ID: [{}]", projectId);
         List<LazySystem> lazySystems;
@@ -446,7 +446,7 @@ public class EnvironmentsServiceImpl implements EnvironmentsService {
      * @return list of LazySystem's
      */
     @Override
-    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEMS_BY_PROJECT_CACHE)
+    @Cacheable(value = CacheNames.TDM_LAZY_SYSTEMS_BY_PROJECT_CACHE, sync = true)
     public List<LazySystem> getLazySystemsByProjectIdWithConnections(@Nonnull UUID projectId) {
         log.info("Loading lazy systems by project ID: [{}]", projectId);
         List<LazySystem> systems;
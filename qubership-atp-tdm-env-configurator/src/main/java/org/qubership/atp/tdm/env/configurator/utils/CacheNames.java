@@ -39,6 +39,6 @@ public class CacheNames {
     public static final String TDM_ALL_SHORT_LAZY_SYSTEMS_BY_PROJECT_CACHE = "tdmAllShortLazySystemsByProjectCache";
 
     public static final String TDM_CONNECTIONS_BY_SYSTEM_ID_CACHE = "tdmConnectionsBySystemIdCache";
-    public static final String TDM_ENV_NAME_BY_ENVIRONMENT_ID_CACHE = "tdmConnectionsBySystemIdCache";
+    public static final String TDM_ENV_NAME_BY_ENVIRONMENT_ID_CACHE = "tdmEnvNameByEnvironmentIdCache";
 }
 
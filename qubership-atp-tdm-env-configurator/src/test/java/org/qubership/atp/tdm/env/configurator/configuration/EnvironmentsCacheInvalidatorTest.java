@@ -0,0 +1,128 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.configuration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.atp.tdm.env.configurator.model.LazyEnvironment;
+import org.qubership.atp.tdm.env.configurator.model.LazySystem;
+import org.qubership.atp.tdm.env.configurator.utils.CacheNames;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import com.google.common.base.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class EnvironmentsCacheInvalidatorTest {
+
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID otherProjectId = UUID.randomUUID();
+    private final UUID environmentId = UUID.randomUUID();
+    private final UUID otherEnvironmentId = UUID.randomUUID();
+    private final UUID systemId = UUID.randomUUID();
+    private final UUID otherSystemId = UUID.randomUUID();
+    private final EnvironmentDependencies dependencies = new EnvironmentDependencies(15, 60, 1000);
+    private final SimpleCacheManager cacheManager = new SimpleCacheManager();
+    private final EnvironmentsCacheInvalidator invalidator = new EnvironmentsCacheInvalidator(cacheManager,
+            dependencies);
+
+    @BeforeEach
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cacheManager.setCaches(Arrays.stream(new String[] {
+                CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE,
+                CacheNames.TDM_LAZY_SYSTEMS_CACHE,
+                CacheNames.TDM_LAZY_SYSTEM_CACHE,
+                CacheNames.TDM_FULL_SYSTEM_BY_NAME_CACHE,
+                CacheNames.TDM_LAZY_PROJECTS_CACHE})
+                .map(name -> new RefreshAheadCache(name, 100, 60000, 60000, 60000, Runnable::run,
+                        dependencies::register, meterRegistry, Ticker.systemTicker()))
+                .collect(Collectors.toList()));
+        cacheManager.afterPropertiesSet();
+
+        cache(CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE).get(projectId, () -> Arrays.asList(
+                environment(environmentId, projectId), environment(otherEnvironmentId, projectId)));
+        cache(CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE).get(otherProjectId, Collections::emptyList);
+        cache(CacheNames.TDM_LAZY_SYSTEMS_CACHE).get(environmentId, () -> Collections.singletonList(
+                system(systemId, environmentId)));
+        cache(CacheNames.TDM_LAZY_SYSTEMS_CACHE).get(otherEnvironmentId, () -> Collections.singletonList(
+                system(otherSystemId, otherEnvironmentId)));
+        cache(CacheNames.TDM_LAZY_SYSTEM_CACHE).get(systemId, () -> system(systemId, environmentId));
+        cache(CacheNames.TDM_LAZY_SYSTEM_CACHE).get(otherSystemId, () -> system(otherSystemId, otherEnvironmentId));
+        cache(CacheNames.TDM_FULL_SYSTEM_BY_NAME_CACHE).get(Arrays.asList(projectId, environmentId, "System"),
+                () -> system(systemId, environmentId));
+        cache(CacheNames.TDM_LAZY_PROJECTS_CACHE).get("all", Collections::emptyList);
+    }
+
+    @Test
+    public void evictSystem_systemChanged_onlySystemItsEnvironmentAndProjectEvicted() {
+        invalidator.evictSystem(null, systemId, false);
+
+        Assertions.assertNull(cache(CacheNames.TDM_LAZY_SYSTEM_CACHE).get(systemId));
+        Assertions.assertNotNull(cache(CacheNames.TDM_LAZY_SYSTEM_CACHE).get(otherSystemId));
+        Assertions.assertNull(cache(CacheNames.TDM_LAZY_SYSTEMS_CACHE).get(environmentId));
+        Assertions.assertNotNull(cache(CacheNames.TDM_LAZY_SYSTEMS_CACHE).get(otherEnvironmentId));
+        Assertions.assertNull(cache(CacheNames.TDM_FULL_SYSTEM_BY_NAME_CACHE)
+                .get(Arrays.asList(projectId, environmentId, "System")));
+        Assertions.assertNull(cache(CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE).get(projectId));
+        Assertions.assertNotNull(cache(CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE).get(otherProjectId));
+        Assertions.assertNotNull(cache(CacheNames.TDM_LAZY_PROJECTS_CACHE).get("all"));
+    }
+
+    @Test
+    public void evictProject_projectDeleted_projectEntriesEvictedAndDependenciesForgotten() {
+        invalidator.evictProject(projectId, null, true);
+
+        Assertions.assertNull(cache(CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE).get(projectId));
+        Assertions.assertNotNull(cache(CacheNames.TDM_LAZY_ENVIRONMENTS_CACHE).get(otherProjectId));
+        Assertions.assertNull(cache(CacheNames.TDM_LAZY_SYSTEMS_CACHE).get(environmentId));
+        Assertions.assertNull(cache(CacheNames.TDM_LAZY_SYSTEM_CACHE).get(otherSystemId));
+        Assertions.assertNull(cache(CacheNames.TDM_LAZY_PROJECTS_CACHE).get("all"));
+        Assertions.assertTrue(dependencies.getEnvironments(projectId).isEmpty());
+    }
+
+    @Test
+    public void linkEnvironment_moreLinksThanSize_dependenciesBounded() {
+        EnvironmentDependencies boundedDependencies = new EnvironmentDependencies(15, 60, 1);
+
+        boundedDependencies.linkEnvironment(projectId, environmentId);
+        boundedDependencies.linkEnvironment(projectId, otherEnvironmentId);
+        boundedDependencies.linkSystem(environmentId, systemId);
+        boundedDependencies.linkSystem(environmentId, otherSystemId);
+
+        Assertions.assertEquals(1, boundedDependencies.getEnvironments(projectId).size());
+        Assertions.assertEquals(1, boundedDependencies.getSystems(Collections.singleton(environmentId)).size());
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private static LazyEnvironment environment(UUID id, UUID projectId) {
+        return LazyEnvironment.builder().id(id).projectId(projectId).build();
+    }
+
+    private static LazySystem system(UUID id, UUID environmentId) {
+        return LazySystem.builder().id(id).environmentIds(Collections.singletonList(environmentId)).build();
+    }
+}
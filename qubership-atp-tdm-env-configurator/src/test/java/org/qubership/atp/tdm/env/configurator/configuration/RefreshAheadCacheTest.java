@@ -0,0 +1,119 @@
+/*
+ * # Copyright 2024-2025 NetCracker Technology Corporation
+ * #
+ * # Licensed under the Apache License, Version 2.0 (the "License");
+ * # you may not use this file except in compliance with the License.
+ * # You may obtain a copy of the License at
+ * #
+ * #      http://www.apache.org/licenses/LICENSE-2.0
+ * #
+ * # Unless required by applicable law or agreed to in writing, software
+ * # distributed under the License is distributed on an "AS IS" BASIS,
+ * # WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * # See the License for the specific language governing permissions and
+ * # limitations under the License.
+ */
+
+package org.qubership.atp.tdm.env.configurator.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import com.google.common.base.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class RefreshAheadCacheTest {
+
+    private final AtomicLong time = new AtomicLong();
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return time.get();
+        }
+    };
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final RefreshAheadCache cache = new RefreshAheadCache("testCache", 10, 80, 100, 1000,
+            refreshes::add, value -> { }, meterRegistry, ticker);
+
+    @Test
+    public void get_concurrentMisses_valueLoadedOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> cache.get("key", () -> {
+                    loads.incrementAndGet();
+                    loading.await(1, TimeUnit.SECONDS);
+                    return "value";
+                })));
+            }
+            loading.countDown();
+            for (Future<String> result : results) {
+                Assertions.assertEquals("value", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void get_entryOlderThanRefreshInterval_currentValueReturnedAndReloadedInBackground() {
+        cache.get("key", () -> "first");
+        time.set(millis(90));
+
+        Assertions.assertEquals("first", cache.get("key", () -> "second"));
+        Assertions.assertEquals("first", cache.get("key", () -> "third"));
+        Assertions.assertEquals(1, refreshes.size());
+
+        refreshes.get(0).run();
+
+        Assertions.assertEquals("second", cache.get("key", () -> "fourth"));
+        Assertions.assertEquals(1, meterRegistry.get("atp_tdm_env_cache_refreshes")
+                .tag("cache", "testCache").tag("result", "success").counter().count());
+    }
+
+    @Test
+    public void get_expiredEntryAndLoadFails_staleValueReturned() {
+        cache.get("key", () -> "first");
+        time.set(millis(150));
+
+        Assertions.assertEquals("first", cache.get("key", () -> {
+            throw new IllegalStateException("Environments service is unavailable");
+        }));
+        Assertions.assertEquals(1, meterRegistry.get("atp_tdm_env_cache_stale")
+                .tag("cache", "testCache").counter().count());
+
+        time.set(millis(1200));
+        Assertions.assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("key", () -> {
+            throw new IllegalStateException("Environments service is unavailable");
+        }));
+    }
+
+    @Test
+    public void put_moreEntriesThanMaximumSize_cacheBounded() {
+        for (int i = 0; i < 50; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        Assertions.assertTrue(meterRegistry.get("atp_tdm_env_cache_size").tag("cache", "testCache")
+                .gauge().value() <= 10);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}